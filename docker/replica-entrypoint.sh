@@ -0,0 +1,11 @@
+#!/bin/bash
+# Clones the primary on first start, then runs as a hot standby
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until pg_isready -h postgres -U postgres; do sleep 1; done
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 700 "$PGDATA"
+    gosu postgres pg_basebackup -h postgres -U postgres -D "$PGDATA" -R -X stream -P
+fi
+exec docker-entrypoint.sh postgres
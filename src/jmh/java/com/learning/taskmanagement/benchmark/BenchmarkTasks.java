@@ -0,0 +1,136 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.repository.TaskListVersion;
+import com.learning.taskmanagement.repository.TaskRepository;
+
+/**
+ * Deterministic fixtures shared by the JMH benchmarks.
+ *
+ * Learning Points:
+ * 1. A fixed seed and fixed timestamps give identical payload sizes on every run
+ * 2. The stub repository is a plain dynamic proxy, so mock frameworks do not
+ *    add their own overhead to the measured path
+ */
+public final class BenchmarkTasks {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private BenchmarkTasks() {
+    }
+
+    public static List<Task> entities(int count) {
+        Random random = new Random(count);
+        Task.useIdGenerator(() -> new UUID(random.nextLong(), random.nextLong()));
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Task " + i + " " + randomWords(random, 3));
+            task.setDescription(randomWords(random, 12));
+            task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            task.setDueDate(random.nextBoolean() ? EPOCH.plusMinutes(random.nextInt(100_000)) : null);
+            setTimestamps(task, EPOCH.plusSeconds(i).plusNanos(123_456_000L));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    public static List<TaskDTO> dtos(int count) {
+        return entities(count).stream().map(BenchmarkTasks::toDTO).toList();
+    }
+
+    /**
+     * A read-only TaskRepository backed by the given tasks; unsupported methods throw.
+     */
+    public static TaskRepository repository(List<Task> tasks) {
+        Map<UUID, Task> byId = new LinkedHashMap<>();
+        tasks.forEach(task -> byId.put(task.getId(), task));
+        List<TaskDTO> ordered = tasks.stream()
+                .sorted(Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId))
+                .map(BenchmarkTasks::toDTO)
+                .toList();
+        return (TaskRepository) Proxy.newProxyInstance(
+                TaskRepository.class.getClassLoader(),
+                new Class<?>[] {TaskRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byId.get((UUID) args[0]));
+                    // Projections build a fresh DTO per call, as the constructor expression does
+                    case "findDtoById" -> Optional.ofNullable(byId.get((UUID) args[0])).map(BenchmarkTasks::toDTO);
+                    case "findPage" ->
+                            ordered.subList(0, Math.min(((Limit) args[0]).max(), ordered.size()));
+                    // The list endpoints read the version for their ETag before the page
+                    case "findListVersion" -> listVersion(tasks, null);
+                    case "findListVersionByStatus" -> listVersion(tasks, (TaskStatus) args[0]);
+                    case "save" -> args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubTaskRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static TaskListVersion listVersion(List<Task> tasks, TaskStatus status) {
+        List<Task> matching = tasks.stream()
+                .filter(task -> status == null || task.getStatus() == status)
+                .toList();
+        LocalDateTime lastUpdated = matching.stream()
+                .map(Task::getUpdatedAt)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new ListVersion(matching.size(), lastUpdated);
+    }
+
+    private static TaskDTO toDTO(Task task) {
+        return new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    private static String randomWords(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            int length = 3 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                words.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return words.toString();
+    }
+
+    // createdAt/updatedAt have no setters; fixed values keep JSON sizes stable between runs
+    private static void setTimestamps(Task task, LocalDateTime time) {
+        try {
+            for (String name : new String[] {"createdAt", "updatedAt"}) {
+                Field field = Task.class.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(task, time);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ListVersion(long count, LocalDateTime lastUpdated) implements TaskListVersion {
+        @Override
+        public long getCount() { return count; }
+        @Override
+        public LocalDateTime getLastUpdated() { return lastUpdated; }
+    }
+}
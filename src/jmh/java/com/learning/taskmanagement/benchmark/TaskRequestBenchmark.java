@@ -0,0 +1,91 @@
+package com.learning.taskmanagement.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.taskmanagement.controller.TaskController;
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.service.TaskServiceImpl;
+import com.learning.taskmanagement.stats.TaskStatistics;
+import com.learning.taskmanagement.stream.TaskChangeFeed;
+import com.learning.taskmanagement.web.ApiJsonMapper;
+
+/**
+ * Measures a full in-JVM request cycle: DispatcherServlet, argument resolution,
+ * controller, service, mapping and JSON message conversion.
+ *
+ * Learning Points:
+ * 1. MockMvc runs the real Spring MVC stack without sockets, so the numbers show
+ *    framework and application overhead rather than network latency
+ * 2. The repository is a stub, so there is no database or transaction cost
+ * 3. Security filters are not installed; they are measured separately if needed
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TaskRequestBenchmark {
+
+    private static final String NEW_TASK = "{\"title\":\"Benchmark task\",\"description\":\"Created by JMH\"}";
+
+    private MockMvc mockMvc;
+    private UUID taskId;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = BenchmarkTasks.entities(1_000);
+        TaskRepository repository = BenchmarkTasks.repository(tasks);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ApiJsonMapper apiJsonMapper = new ApiJsonMapper(objectMapper);
+        TaskServiceImpl service = new TaskServiceImpl(repository, null, event -> { }, 500, 10_000, Duration.ofDays(30));
+        TaskChangeFeed changeFeed = new TaskChangeFeed(apiJsonMapper, 256, 5000, Duration.ofSeconds(15), Duration.ofHours(1), 16);
+        TaskController controller = new TaskController(service, new TaskStatistics(repository), changeFeed, apiJsonMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        taskId = tasks.get(tasks.size() / 2).getId();
+    }
+
+    @Benchmark
+    public byte[] getTask() throws Exception {
+        return mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] getPage() throws Exception {
+        return mockMvc.perform(get("/api/tasks").param("limit", "100"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] createTask() throws Exception {
+        return mockMvc.perform(post("/api/tasks").contentType(MediaType.APPLICATION_JSON).content(NEW_TASK))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.learning.taskmanagement.dto.TaskDTO;
+
+/**
+ * Measures Jackson serialization of one TaskDTO and of task lists from 1k to 100k.
+ *
+ * Learning Points:
+ * 1. The ObjectMapper is built like Spring Boot's, so date handling matches the API
+ * 2. Writers are resolved once in setup, as the controller does, so the numbers
+ *    exclude serializer lookup
+ * 3. Writing to a null stream isolates serialization from buffer growth
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TaskSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectWriter taskWriter;
+    private ObjectWriter listWriter;
+    private TaskDTO task;
+    private List<TaskDTO> tasks;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // The shared null sink must survive every call
+        taskWriter = objectMapper.writerFor(TaskDTO.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        listWriter = objectMapper.writerFor(new TypeReference<List<TaskDTO>>() { })
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        tasks = BenchmarkTasks.dtos(size);
+        task = tasks.get(0);
+    }
+
+    @Benchmark
+    public void singleTask() throws IOException {
+        taskWriter.writeValue(sink, task);
+    }
+
+    @Benchmark
+    public void taskList() throws IOException {
+        listWriter.writeValue(sink, tasks);
+    }
+
+    @Benchmark
+    public byte[] taskListToBytes() throws IOException {
+        return listWriter.writeValueAsBytes(tasks);
+    }
+}
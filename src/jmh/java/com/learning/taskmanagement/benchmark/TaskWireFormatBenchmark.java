@@ -0,0 +1,120 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+
+/**
+ * Compares JSON, CBOR and Smile for one page of tasks: bytes on the wire,
+ * server-side encoding and client-side parsing.
+ *
+ * Learning Points:
+ * 1. The mappers come from Jackson2ObjectMapperBuilder, as Spring MVC's
+ *    converters do, so every format carries the same modules and date handling
+ * 2. Raw and gzipped payload sizes are reported as auxiliary counters next to
+ *    the timings, since size is what the binary formats are for
+ * 3. gzip is measured too because it runs on every large response once
+ *    server.compression is on
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TaskWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"50", "500"})
+    private int size;
+
+    private ObjectWriter pageWriter;
+    private ObjectReader pageReader;
+    private TaskPageDTO page;
+    private byte[] encoded;
+    private byte[] gzipped;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        pageWriter = mapper.writerFor(TaskPageDTO.class);
+        pageReader = mapper.readerFor(TaskPageDTO.class);
+        page = new TaskPageDTO(BenchmarkTasks.dtos(size), "next-page-cursor");
+        encoded = pageWriter.writeValueAsBytes(page);
+        gzipped = gzip(encoded);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzip() throws IOException {
+        return gzip(pageWriter.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public TaskPageDTO decode() throws IOException {
+        return pageReader.readValue(encoded);
+    }
+
+    @Benchmark
+    public int payloadSize(PayloadBytes bytes) {
+        bytes.raw = encoded.length;
+        bytes.gzipped = gzipped.length;
+        return encoded.length;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadBytes {
+        public long raw;
+        public long gzipped;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            raw = 0;
+            gzipped = 0;
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
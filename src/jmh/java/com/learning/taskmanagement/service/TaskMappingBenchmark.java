@@ -0,0 +1,58 @@
+package com.learning.taskmanagement.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.learning.taskmanagement.benchmark.BenchmarkTasks;
+import com.learning.taskmanagement.domain.Task;
+
+/**
+ * Measures TaskServiceImpl.mapToDTO, the entity to DTO copy on every read path.
+ *
+ * Lives in the service package because mapToDTO is package-private.
+ *
+ * Learning Points:
+ * 1. Results are consumed by a Blackhole so the JIT cannot eliminate the mapping
+ * 2. The GC profiler shows the bytes allocated per mapped task
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TaskMappingBenchmark {
+
+    @Param({"1", "1000"})
+    private int size;
+
+    private TaskServiceImpl service;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkTasks.entities(size);
+        service = new TaskServiceImpl(BenchmarkTasks.repository(tasks), null, event -> { }, 500, 10_000, Duration.ofDays(30));
+    }
+
+    @Benchmark
+    public void mapToDTO(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(service.mapToDTO(task));
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.learning.taskmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 
 /**
  * Main entry point for the Task Management application.
@@ -17,10 +16,6 @@ import org.springframework.context.annotation.ComponentScan;
  *    for bootstrapping the application.
  */
 @SpringBootApplication
-@ComponentScan(basePackages = {
-    "com.learning.taskmanagement",
-    "com.learning.taskmanagement.config"
-})
 public class TaskManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskManagementApplication.class, args);
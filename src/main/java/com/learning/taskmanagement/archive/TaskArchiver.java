@@ -0,0 +1,116 @@
+package com.learning.taskmanagement.archive;
+
+import com.learning.taskmanagement.event.TasksArchivedEvent;
+import com.learning.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves long-finished tasks from tasks into tasks_archive in small background batches.
+ *
+ * Learning Points:
+ * 1. Each run moves at most batch-size rows in its own short transaction; one
+ *    DELETE ... RETURNING feeds the INSERT, so a task is never in both tables
+ * 2. FOR UPDATE SKIP LOCKED leaves rows a request is changing for a later run
+ *    instead of waiting on them, and lets several nodes archive at once
+ * 3. A full batch means more backlog, so the next one follows after the pause;
+ *    otherwise the archiver idles for the interval. Either way a large backlog
+ *    is spread out instead of holding the scheduler thread or the table
+ * 4. Age counts from updated_at, so a task edited after it finished starts over
+ * 5. Each batch that moved rows publishes a TasksArchivedEvent after commit, so
+ *    cached pages and list versions stop showing the archived tasks
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration after;
+    private final int batchSize;
+    private final Duration interval;
+    private final Clock clock;
+    private final AtomicLong archived = new AtomicLong();
+    // Tasks moved since the backlog was last empty; only touched by the scheduler thread
+    private long backlogMoved;
+    private volatile Instant idleUntil = Instant.MIN;
+
+    @Autowired
+    public TaskArchiver(TaskRepository taskRepository,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${tasks.archive.after:P30D}") Duration after,
+                        @Value("${tasks.archive.batch-size:500}") int batchSize,
+                        @Value("${tasks.archive.interval:PT10M}") Duration interval) {
+        this(taskRepository, new TransactionTemplate(transactionManager), eventPublisher, after, batchSize,
+                interval, Clock.systemDefaultZone());
+    }
+
+    TaskArchiver(TaskRepository taskRepository,
+                 TransactionTemplate transactionTemplate,
+                 ApplicationEventPublisher eventPublisher,
+                 Duration after,
+                 int batchSize,
+                 Duration interval,
+                 Clock clock) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.after = after;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.archive.pause:PT1S}", initialDelayString = "${tasks.archive.pause:PT1S}")
+    public void archiveBatch() {
+        Instant now = clock.instant();
+        if (now.isBefore(idleUntil)) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(after);
+        int moved;
+        try {
+            Integer count = transactionTemplate.execute(status ->
+                    taskRepository.archiveFinishedBefore(cutoff, batchSize));
+            moved = count == null ? 0 : count;
+        } catch (DataAccessException e) {
+            logger.warn("Archiving finished tasks failed, retrying in {}", interval, e);
+            idleUntil = now.plus(interval);
+            return;
+        }
+        if (moved > 0) {
+            eventPublisher.publishEvent(new TasksArchivedEvent(moved));
+        }
+        archived.addAndGet(moved);
+        backlogMoved += moved;
+        if (moved < batchSize) {
+            if (backlogMoved > 0) {
+                logger.info("Archived {} tasks finished before {}", backlogMoved, cutoff);
+            }
+            backlogMoved = 0;
+            idleUntil = now.plus(interval);
+        }
+    }
+
+    // Tasks moved to the archive by this instance since it started
+    public long getArchived() {
+        return archived.get();
+    }
+}
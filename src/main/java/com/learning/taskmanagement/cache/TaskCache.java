@@ -0,0 +1,100 @@
+package com.learning.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskCacheStatsDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring in-memory cache of single tasks and list pages.
+ *
+ * Learning Points:
+ * 1. Caffeine evicts by size (W-TinyLFU) and by time since write
+ * 2. get(key, loader) collapses concurrent misses for the same key into one load
+ * 3. Any write can move tasks between pages, so pages are dropped wholesale
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCache {
+    private final Cache<UUID, TaskDTO> tasks;
+    private final Cache<PageKey, TaskPageDTO> pages;
+    private final Cache<ListKey, String> listVersions;
+
+    public TaskCache(@Value("${tasks.cache.max-size:10000}") long maxSize,
+                     @Value("${tasks.cache.page-max-size:1000}") long pageMaxSize,
+                     @Value("${tasks.cache.ttl:PT5M}") Duration ttl) {
+        this.tasks = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.listVersions = Caffeine.newBuilder()
+                .maximumSize(TaskStatus.values().length + 1)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<TaskDTO> getTask(UUID id, Function<UUID, Optional<TaskDTO>> loader) {
+        // Returning null from the mapping function leaves missing tasks uncached
+        return Optional.ofNullable(tasks.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public TaskPageDTO getPage(TaskStatus status, String after, int limit, Supplier<TaskPageDTO> loader) {
+        return pages.get(new PageKey(status, after, limit), key -> loader.get());
+    }
+
+    // Lets clients polling with If-None-Match get a 304 without touching the database
+    public String getListVersion(TaskStatus status, Supplier<String> loader) {
+        return listVersions.get(new ListKey(status), key -> loader.get());
+    }
+
+    public void evict(Collection<UUID> ids) {
+        tasks.invalidateAll(ids);
+        pages.invalidateAll();
+        listVersions.invalidateAll();
+    }
+
+    // Archiving removes tasks from lists without changing them
+    public void evictLists() {
+        pages.invalidateAll();
+        listVersions.invalidateAll();
+    }
+
+    public void evictAll() {
+        tasks.invalidateAll();
+        pages.invalidateAll();
+        listVersions.invalidateAll();
+    }
+
+    public List<TaskCacheStatsDTO> getStats() {
+        return List.of(toStats("tasks", tasks), toStats("pages", pages));
+    }
+
+    private static TaskCacheStatsDTO toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new TaskCacheStatsDTO(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    private record PageKey(TaskStatus status, String after, int limit) {}
+
+    private record ListKey(TaskStatus status) {}
+}
@@ -0,0 +1,96 @@
+package com.learning.taskmanagement.cache;
+
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.event.TasksArchivedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Turns task change events into local evictions and a cluster-wide NOTIFY.
+ *
+ * Learning Points:
+ * 1. Changed ids are collected per transaction, so a batch sends one NOTIFY, not one per row
+ * 2. pg_notify runs before commit inside the write transaction; Postgres only
+ *    delivers it if the transaction commits
+ * 3. Local entries are evicted after commit so readers cannot re-cache the old row
+ * 4. An archived batch changes lists but no task, so only pages and list versions
+ *    are dropped, here and on every peer
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCacheInvalidator {
+    // Stays under the 8000 byte NOTIFY payload limit (36 chars + comma per id)
+    static final int MAX_IDS_PER_NOTIFY = 200;
+    static final String EVICT_ALL = "*";
+    static final String EVICT_LISTS = "lists";
+
+    private static final ResultSetExtractor<Void> IGNORE = rs -> null;
+
+    private final TaskCache taskCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+
+    public TaskCacheInvalidator(TaskCache taskCache,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${tasks.cache.channel:task_cache}") String channel) {
+        this.taskCache = taskCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<UUID> ids = Set.of(event.getTaskId());
+            notifyPeers(ids);
+            taskCache.evict(ids);
+            return;
+        }
+        PendingInvalidation pending = (PendingInvalidation) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidation();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.ids.add(event.getTaskId());
+    }
+
+    // Published after the archiver's transaction, so the NOTIFY is sent on its own
+    @EventListener
+    public void onTasksArchived(TasksArchivedEvent event) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE, channel, EVICT_LISTS);
+        taskCache.evictLists();
+    }
+
+    private void notifyPeers(Set<UUID> ids) {
+        String payload = ids.size() > MAX_IDS_PER_NOTIFY ? EVICT_ALL : String.join(",",
+                ids.stream().map(UUID::toString).toList());
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", IGNORE, channel, payload);
+    }
+
+    private class PendingInvalidation implements TransactionSynchronization {
+        private final Set<UUID> ids = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            notifyPeers(ids);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskCacheInvalidator.this);
+            if (status == STATUS_COMMITTED) {
+                taskCache.evict(ids);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.learning.taskmanagement.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listens on a Postgres channel and drops cache entries changed by other nodes.
+ *
+ * Learning Points:
+ * 1. LISTEN needs one long-lived session, so it uses its own connection rather
+ *    than pinning one of the pooled connections
+ * 2. Notifications sent while disconnected are lost, so the whole cache is
+ *    cleared after every (re)connect
+ * 3. SmartLifecycle starts the listener with the context and stops it on shutdown
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCacheNotificationListener implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(TaskCacheNotificationListener.class);
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 2_000;
+
+    private final TaskCache taskCache;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private volatile boolean running;
+    private Thread thread;
+
+    public TaskCacheNotificationListener(TaskCache taskCache,
+                                         DataSourceProperties dataSourceProperties,
+                                         @Value("${tasks.cache.channel:task_cache}") String channel) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid cache channel name: " + channel);
+        }
+        this.taskCache = taskCache;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("task-cache-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                taskCache.evictAll();
+                logger.info("Listening for cache invalidations on channel {}", channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Cache invalidation listener disconnected, retrying: {}", e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    void apply(String payload) {
+        if (TaskCacheInvalidator.EVICT_ALL.equals(payload)) {
+            taskCache.evictAll();
+            return;
+        }
+        if (TaskCacheInvalidator.EVICT_LISTS.equals(payload)) {
+            taskCache.evictLists();
+            return;
+        }
+        List<UUID> ids = new ArrayList<>();
+        for (String id : payload.split(",")) {
+            try {
+                ids.add(UUID.fromString(id));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring malformed cache invalidation payload: {}", payload);
+                taskCache.evictAll();
+                return;
+            }
+        }
+        taskCache.evict(ids);
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
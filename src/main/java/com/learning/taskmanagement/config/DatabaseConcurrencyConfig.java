@@ -0,0 +1,100 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.jdbc.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts a fair permit queue in front of the connection pool.
+ *
+ * Learning Points:
+ * 1. A BeanPostProcessor wraps the auto-configured pool without redefining it,
+ *    so spring.datasource.* settings keep working
+ * 2. Permits default to the pool's maximum size; requests beyond that queue on
+ *    the semaphore for tasks.db.concurrency.queue-timeout, which defaults to the
+ *    pool's connection-timeout so callers fail no sooner or later than before
+ * 3. Combined with spring.threads.virtual.enabled, blocked requests are cheap
+ *    parked virtual threads rather than a capped set of platform threads
+ * 4. Permits and queue wait are published as tasks.db.permits.* meters next to
+ *    Hikari's own hikaricp.* pool gauges
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.db.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseConcurrencyConfig {
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseConcurrencyConfig.class);
+
+    // Static so the post-processor does not force early initialization of this configuration
+    @Bean
+    static ConcurrencyLimitingPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new ConcurrencyLimitingPostProcessor(environment);
+    }
+
+    @Bean
+    MeterBinder databasePermitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, ConcurrencyLimitingDataSource.class))
+                .filter(limiter -> limiter != null)
+                .findFirst()
+                .ifPresent(limiter -> {
+                    Gauge.builder("tasks.db.permits.max", limiter, ConcurrencyLimitingDataSource::getMaxConcurrency)
+                            .description("Connections that may be borrowed at once")
+                            .register(registry);
+                    Gauge.builder("tasks.db.permits.available", limiter, ConcurrencyLimitingDataSource::getAvailablePermits)
+                            .description("Permits not currently held")
+                            .register(registry);
+                    Gauge.builder("tasks.db.permits.queued", limiter, ConcurrencyLimitingDataSource::getQueueLength)
+                            .description("Callers waiting for a permit")
+                            .register(registry);
+                    FunctionTimer.builder("tasks.db.permits.wait", limiter,
+                                    ConcurrencyLimitingDataSource::getWaitCount,
+                                    ConcurrencyLimitingDataSource::getTotalWaitNanos, TimeUnit.NANOSECONDS)
+                            .description("Time spent queueing for a permit before borrowing a connection")
+                            .register(registry);
+                });
+    }
+
+    // Ordered ahead of other DataSource decorators, which only see the pool once this has wrapped it
+    static final class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, Ordered {
+        static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+        private final Environment environment;
+
+        ConcurrencyLimitingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource pool)) {
+                return bean;
+            }
+            int permits = environment.getProperty("tasks.db.concurrency.permits", Integer.class, 0);
+            Duration queueTimeout = environment.getProperty("tasks.db.concurrency.queue-timeout",
+                    Duration.class, Duration.ofMillis(pool.getConnectionTimeout()));
+            int maxConcurrency = permits > 0 ? permits : pool.getMaximumPoolSize();
+            logger.info("Limiting database access to {} concurrent connections (queue timeout {})",
+                    maxConcurrency, queueTimeout);
+            return new ConcurrencyLimitingDataSource(pool, maxConcurrency, queueTimeout);
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+}
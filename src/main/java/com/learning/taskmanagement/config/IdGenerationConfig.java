@@ -0,0 +1,36 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskIdGenerator;
+import com.learning.taskmanagement.domain.UuidV7Generator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.UUID;
+
+/**
+ * Selects how new Task identifiers are generated.
+ *
+ * Learning Points:
+ * 1. tasks.id.strategy switches between time-ordered v7 and random v4 keys
+ * 2. Entities are created with new, so the choice is installed on Task itself
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGenerationConfig.class);
+
+    @Bean
+    public TaskIdGenerator taskIdGenerator(@Value("${tasks.id.strategy:v7}") String strategy) {
+        TaskIdGenerator generator = switch (strategy.toLowerCase()) {
+            case "v7" -> new UuidV7Generator();
+            case "random", "v4" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("Unknown tasks.id.strategy: " + strategy);
+        };
+        Task.useIdGenerator(generator);
+        logger.info("Using {} task id strategy", strategy);
+        return generator;
+    }
+}
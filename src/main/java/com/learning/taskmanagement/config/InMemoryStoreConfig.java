@@ -0,0 +1,58 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.memory.InMemoryTaskRepository;
+import com.learning.taskmanagement.memory.InMemoryTransactionManager;
+import com.learning.taskmanagement.memory.TaskStore;
+import com.learning.taskmanagement.memory.UnitOfWorkEntityManager;
+import com.learning.taskmanagement.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Replaces Postgres with the embedded in-memory task store when the memory profile is active.
+ *
+ * Learning Points:
+ * 1. The profile turns off the DataSource, JPA and Flyway auto-configuration,
+ *    so these beans stand in for the repository, EntityManager and transaction
+ *    manager they would have created
+ * 2. The repository is a plain bean, not a @Repository, because there is no
+ *    SQLException for Spring's exception translation to translate
+ * 3. Closing the store on shutdown writes a final snapshot, so the next start
+ *    has no log to replay
+ */
+@Configuration
+@Profile("memory")
+public class InMemoryStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public TaskStore taskStore(@Value("${tasks.memory.directory:data/task-store}") Path directory,
+                               @Value("${tasks.memory.log-size:64MB}") DataSize logSize,
+                               @Value("${tasks.memory.sync:true}") boolean sync,
+                               @Value("${tasks.memory.lock-timeout:PT10S}") Duration lockTimeout) throws IOException {
+        return new TaskStore(directory, Math.toIntExact(logSize.toBytes()), sync, lockTimeout);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(TaskStore taskStore) {
+        return new InMemoryTransactionManager(taskStore);
+    }
+
+    @Bean
+    public TaskRepository taskRepository(TaskStore taskStore) {
+        return new InMemoryTaskRepository(taskStore);
+    }
+
+    // Spring would infer close() as the destroy method; the store bean owns shutdown
+    @Bean(destroyMethod = "")
+    public EntityManager entityManager(TaskStore taskStore) {
+        return UnitOfWorkEntityManager.create(taskStore);
+    }
+}
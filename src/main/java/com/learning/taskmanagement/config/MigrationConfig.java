@@ -0,0 +1,126 @@
+package com.learning.taskmanagement.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.flywaydb.core.api.MigrationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Lets fast starts skip Flyway when the database already has the newest packaged migration.
+ *
+ * Learning Points:
+ * 1. Flyway.migrate() scans, checksums and validates every script and locks the
+ *    history table even when there is nothing to apply
+ * 2. With tasks.startup.skip-current-migrations, one query for the newest applied
+ *    version is compared with the newest V file name instead; anything unexpected,
+ *    such as a missing history table, falls back to a normal migrate
+ * 3. Normal starts still validate, so a script edited after it was applied is
+ *    caught there rather than in the fast path
+ * 4. The property is read when the strategy runs, not as a bean condition, so an
+ *    AOT-processed build honours it too
+ */
+@Configuration
+public class MigrationConfig {
+    private static final Logger logger = LoggerFactory.getLogger(MigrationConfig.class);
+
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("tasks.startup.skip-current-migrations", Boolean.class, false)
+                    && isCurrent(flyway)) {
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+
+    static boolean isCurrent(Flyway flyway) {
+        try {
+            MigrationVersion packaged = newestPackagedVersion(flyway);
+            MigrationVersion applied = newestAppliedVersion(flyway);
+            if (packaged == null || applied == null || applied.compareTo(packaged) < 0) {
+                return false;
+            }
+            logger.info("Schema is at version {}, newest packaged migration is {}; skipping Flyway",
+                    applied, packaged);
+            return true;
+        } catch (IOException | SQLException e) {
+            logger.info("Could not compare schema versions, running Flyway: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // Null when there is nothing to compare against, or when repeatable migrations would need checksums
+    static MigrationVersion newestPackagedVersion(Flyway flyway) throws IOException {
+        org.flywaydb.core.api.configuration.Configuration configuration = flyway.getConfiguration();
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(configuration.getClassLoader());
+        MigrationVersion newest = null;
+        for (Location location : configuration.getLocations()) {
+            if (!location.isClassPath()) {
+                return null;
+            }
+            for (Resource resource : resolver.getResources("classpath*:" + location.getRootPath() + "/**/*")) {
+                String name = resource.getFilename();
+                if (name == null) {
+                    continue;
+                }
+                if (name.startsWith(configuration.getRepeatableSqlMigrationPrefix())) {
+                    return null;
+                }
+                MigrationVersion version = versionOf(name, configuration.getSqlMigrationPrefix(),
+                        configuration.getSqlMigrationSeparator(), configuration.getSqlMigrationSuffixes());
+                if (version != null && (newest == null || version.compareTo(newest) > 0)) {
+                    newest = version;
+                }
+            }
+        }
+        return newest;
+    }
+
+    // V8__add_task_archive.sql is version 8, V1_2__x.sql is 1.2; anything else is not a versioned migration
+    static MigrationVersion versionOf(String fileName, String prefix, String separator, String[] suffixes) {
+        int end = fileName.indexOf(separator);
+        if (!fileName.startsWith(prefix) || end <= prefix.length()) {
+            return null;
+        }
+        for (String suffix : suffixes) {
+            if (fileName.endsWith(suffix)) {
+                return MigrationVersion.fromVersion(fileName.substring(prefix.length(), end));
+            }
+        }
+        return null;
+    }
+
+    private static MigrationVersion newestAppliedVersion(Flyway flyway) throws SQLException {
+        org.flywaydb.core.api.configuration.Configuration configuration = flyway.getConfiguration();
+        String schema = configuration.getDefaultSchema() != null ? configuration.getDefaultSchema() :
+                configuration.getSchemas().length > 0 ? configuration.getSchemas()[0] : null;
+        String table = (schema == null ? "" : "\"" + schema + "\".") + "\"" + configuration.getTable() + "\"";
+        MigrationVersion newest = null;
+        try (Connection connection = configuration.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT version FROM " + table + " WHERE success AND version IS NOT NULL")) {
+            while (result.next()) {
+                MigrationVersion version = MigrationVersion.fromVersion(result.getString(1));
+                if (newest == null || version.compareTo(newest) > 0) {
+                    newest = version;
+                }
+            }
+        }
+        return newest;
+    }
+}
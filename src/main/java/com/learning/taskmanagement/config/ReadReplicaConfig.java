@@ -0,0 +1,165 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.jdbc.ReadReplicaRoutingDataSource;
+import com.learning.taskmanagement.jdbc.Replica;
+import com.learning.taskmanagement.jdbc.ReplicaSet;
+import com.learning.taskmanagement.web.ReadYourWritesInterceptor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes read-only transactions to streaming replicas listed in tasks.db.replicas.urls.
+ *
+ * Learning Points:
+ * 1. Replica pools copy the primary pool's settings, so driver properties and
+ *    connection-init-sql stay the same on every server
+ * 2. The routing DataSource wraps the primary after the permit queue and before
+ *    the statement profiler, so replica statements are profiled as well
+ * 3. Clients that just wrote read from the primary for max-lag plus three check
+ *    intervals, long enough for any replica still in rotation to have their write
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.db.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    @Bean
+    static ReplicaRoutingPostProcessor replicaRoutingDataSourcePostProcessor(Environment environment) {
+        return new ReplicaRoutingPostProcessor(environment);
+    }
+
+    @Bean
+    ReadYourWritesInterceptor readYourWritesInterceptor(Environment environment) {
+        return new ReadYourWritesInterceptor(maxLag(environment).plus(checkInterval(environment).multipliedBy(3)));
+    }
+
+    @Bean
+    MeterBinder replicaMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, ReadReplicaRoutingDataSource.class))
+                .filter(routing -> routing != null)
+                .findFirst()
+                .ifPresent(routing -> {
+                    FunctionCounter.builder("tasks.db.replica.primary.reads", routing,
+                                    ReadReplicaRoutingDataSource::getPrimaryReads)
+                            .description("Read-only transactions served by the primary")
+                            .register(registry);
+                    for (Replica replica : routing.getReplicas().getReplicas()) {
+                        Gauge.builder("tasks.db.replica.usable", replica, r -> r.isCaughtUp() ? 1 : 0)
+                                .description("1 while the replica is within max-lag of the primary")
+                                .tag("replica", replica.getName())
+                                .register(registry);
+                        Gauge.builder("tasks.db.replica.lag", replica, Replica::getLagBytes)
+                                .description("WAL bytes the replica had not replayed at its last check")
+                                .baseUnit("bytes")
+                                .tag("replica", replica.getName())
+                                .register(registry);
+                        Gauge.builder("tasks.db.replica.latency", replica,
+                                        r -> r.getLatencyNanos() / TimeUnit.SECONDS.toNanos(1))
+                                .description("Smoothed round trip of the replica's health check")
+                                .baseUnit("seconds")
+                                .tag("replica", replica.getName())
+                                .register(registry);
+                        FunctionCounter.builder("tasks.db.replica.reads", replica, Replica::getConnections)
+                                .description("Read-only transactions served by the replica")
+                                .tag("replica", replica.getName())
+                                .register(registry);
+                    }
+                });
+    }
+
+    private static Duration maxLag(Environment environment) {
+        return environment.getProperty("tasks.db.replicas.max-lag", Duration.class, Duration.ofSeconds(1));
+    }
+
+    private static Duration checkInterval(Environment environment) {
+        return environment.getProperty("tasks.db.replicas.check-interval", Duration.class, Duration.ofMillis(500));
+    }
+
+    // Between the permit queue and the statement profiler; closes the replica pools on shutdown
+    static final class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+        static final int ORDER = DatabaseConcurrencyConfig.ConcurrencyLimitingPostProcessor.ORDER + 1;
+
+        private final Environment environment;
+        private final List<ReplicaSet> replicaSets = new ArrayList<>();
+
+        ReplicaRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+            HikariDataSource template = DataSourceUnwrapper.unwrap(primary, HikariDataSource.class);
+            String[] urls = environment.getProperty("tasks.db.replicas.urls", String[].class, new String[0]);
+            if (template == null || urls.length == 0) {
+                logger.warn("Replica routing is enabled but there is no Hikari pool or replica URL; reading from {}",
+                        beanName);
+                return bean;
+            }
+            Duration checkInterval = checkInterval(environment);
+            List<Replica> replicas = new ArrayList<>();
+            for (int i = 0; i < urls.length; i++) {
+                replicas.add(replica("replica-" + (i + 1), urls[i].strip(), template, checkInterval));
+            }
+            ReplicaSet replicaSet = new ReplicaSet(replicas, maxLag(environment), checkInterval);
+            replicaSet.monitor(primary);
+            replicaSets.add(replicaSet);
+            logger.info("Routing read-only transactions to {} replicas (max lag {})", urls.length, maxLag(environment));
+            return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replicaSet));
+        }
+
+        private Replica replica(String name, String url, HikariDataSource template, Duration checkInterval) {
+            HikariConfig config = new HikariConfig();
+            template.copyStateTo(config);
+            config.setPoolName(name);
+            config.setJdbcUrl(url);
+            config.setReadOnly(true);
+            config.setMaximumPoolSize(environment.getProperty(
+                    "tasks.db.replicas.pool-size", Integer.class, template.getMaximumPoolSize()));
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), config.getMaximumPoolSize()));
+            // A replica that cannot hand out a connection quickly is skipped in favour of the primary
+            config.setConnectionTimeout(Math.max(250, checkInterval.toMillis()));
+            // Replicas may be down at startup; they join once their health check passes
+            config.setInitializationFailTimeout(-1);
+            HikariDataSource pool = new HikariDataSource(config);
+            return new Replica(name, pool, () -> {
+                HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+                return mxBean == null ? 0 : mxBean.getActiveConnections();
+            });
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+
+        @Override
+        public void destroy() {
+            replicaSets.forEach(ReplicaSet::close);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.web.AdaptiveConcurrencyLimit;
+import com.learning.taskmanagement.web.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import java.time.Duration;
+
+/**
+ * Builds the adaptive read and write limits that WebConfig puts in front of the task API.
+ *
+ * Learning Points:
+ * 1. Limits start near the connection pool size and then follow latency, so
+ *    they need no retuning when the pool or the queries change
+ * 2. Limit, in-flight and rejection counts are published as tasks.http.limit.*
+ *    meters, tagged read or write
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestLimitConfig {
+
+    @Bean
+    ConcurrencyLimitInterceptor concurrencyLimitInterceptor(Environment environment) {
+        return new ConcurrencyLimitInterceptor(
+                limit(environment, "read", 40, 200),
+                limit(environment, "write", 20, 100),
+                environment.getProperty("tasks.limit.retry-after", Duration.class, Duration.ofSeconds(1)));
+    }
+
+    @Bean
+    MeterBinder requestLimitMetrics(ConcurrencyLimitInterceptor interceptor) {
+        return registry -> {
+            for (AdaptiveConcurrencyLimit limit : interceptor.getLimits()) {
+                Gauge.builder("tasks.http.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                        .description("Concurrent requests currently admitted at most")
+                        .tag("kind", limit.getName())
+                        .register(registry);
+                Gauge.builder("tasks.http.limit.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                        .description("Requests currently holding a slot")
+                        .tag("kind", limit.getName())
+                        .register(registry);
+                FunctionCounter.builder("tasks.http.limit.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                        .description("Requests answered with 503 because the limit was reached")
+                        .tag("kind", limit.getName())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static AdaptiveConcurrencyLimit limit(Environment environment, String kind,
+                                                  int defaultInitial, int defaultMax) {
+        String prefix = "tasks.limit." + kind + "s.";
+        return new AdaptiveConcurrencyLimit(kind,
+                environment.getProperty(prefix + "initial", Integer.class, defaultInitial),
+                environment.getProperty(prefix + "min", Integer.class, 4),
+                environment.getProperty(prefix + "max", Integer.class, defaultMax),
+                environment.getProperty("tasks.limit.tolerance", Double.class, 1.5),
+                environment.getProperty("tasks.limit.window", Duration.class, Duration.ofMillis(100)).toNanos());
+    }
+}
@@ -0,0 +1,15 @@
+package com.learning.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as statistics reconciliation.
+ *
+ * Learning Points:
+ * 1. Keeping @EnableScheduling in its own configuration keeps test slices free of timers
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
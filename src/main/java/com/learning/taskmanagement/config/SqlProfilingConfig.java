@@ -0,0 +1,65 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.jdbc.ProfilingDataSource;
+import com.learning.taskmanagement.jdbc.SqlProfiler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Times every JDBC statement and aggregates the timings per SQL fingerprint.
+ *
+ * Learning Points:
+ * 1. Replaces show-sql and bind-parameter TRACE logging, which formatted and
+ *    wrote every statement on the request thread
+ * 2. The profiler wraps the outermost DataSource, after the permit queue, so
+ *    statement times never include waiting for a connection
+ * 3. GET /debug/sql lists the fingerprints that cost the most in total
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasks.db.profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfig {
+
+    // Static like the post-processor that needs it, so neither forces this configuration to load early
+    @Bean(destroyMethod = "close")
+    static SqlProfiler sqlProfiler(Environment environment) {
+        return new SqlProfiler(
+                environment.getProperty("tasks.db.profiling.slow-threshold", Duration.class, Duration.ofMillis(200)),
+                environment.getProperty("tasks.db.profiling.sample-rate", Double.class, 0.0),
+                environment.getProperty("tasks.db.profiling.max-fingerprints", Integer.class, 500),
+                environment.getProperty("tasks.db.profiling.log-queue-size", Integer.class, 1000));
+    }
+
+    @Bean
+    static ProfilingPostProcessor profilingDataSourcePostProcessor(ObjectProvider<SqlProfiler> profiler) {
+        return new ProfilingPostProcessor(profiler);
+    }
+
+    static final class ProfilingPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<SqlProfiler> profiler;
+
+        ProfilingPostProcessor(ObjectProvider<SqlProfiler> profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ProfilingDataSource) {
+                return bean;
+            }
+            return new ProfilingDataSource(dataSource, profiler.getObject());
+        }
+
+        // Outermost, so statements are profiled whichever pool the router picks
+        @Override
+        public int getOrder() {
+            return ReadReplicaConfig.ReplicaRoutingPostProcessor.ORDER + 1;
+        }
+    }
+}
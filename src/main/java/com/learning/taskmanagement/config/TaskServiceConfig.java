@@ -0,0 +1,42 @@
+package com.learning.taskmanagement.config;
+
+import com.learning.taskmanagement.cache.TaskCache;
+import com.learning.taskmanagement.service.CachingTaskService;
+import com.learning.taskmanagement.service.TaskService;
+import com.learning.taskmanagement.service.TaskServiceImpl;
+import com.learning.taskmanagement.service.WriteBehindTaskService;
+import com.learning.taskmanagement.writebehind.TaskStatusWriteBehind;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Stacks the optional TaskService decorators around TaskServiceImpl.
+ *
+ * Learning Points:
+ * 1. One @Primary bean builds the chain, so decorators that are each optional
+ *    never compete for the primary slot
+ * 2. Write-behind sits outside the cache: its overlay is applied to cached
+ *    reads, and the cache only ever holds what the database holds
+ */
+@Configuration
+public class TaskServiceConfig {
+
+    @Bean
+    @Primary
+    public TaskService taskService(TaskServiceImpl taskServiceImpl,
+                                   ObjectProvider<TaskCache> taskCache,
+                                   ObjectProvider<TaskStatusWriteBehind> writeBehind) {
+        TaskService service = taskServiceImpl;
+        TaskCache cache = taskCache.getIfAvailable();
+        if (cache != null) {
+            service = new CachingTaskService(taskServiceImpl, cache);
+        }
+        TaskStatusWriteBehind buffer = writeBehind.getIfAvailable();
+        if (buffer != null) {
+            service = new WriteBehindTaskService(service, buffer);
+        }
+        return service;
+    }
+}
@@ -1,11 +1,30 @@
 package com.learning.taskmanagement.config;
 
+import com.learning.taskmanagement.web.ApiJsonMapper;
+import com.learning.taskmanagement.web.ConcurrencyLimitInterceptor;
+import com.learning.taskmanagement.web.ReadYourWritesInterceptor;
+import com.learning.taskmanagement.web.TimedHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableWebMvc
@@ -13,6 +32,66 @@ public class WebConfig implements WebMvcConfigurer {
     
     private static final Logger logger = LoggerFactory.getLogger(WebConfig.class);
 
+    // @EnableWebMvc bypasses spring.mvc.*, so long-running streamed responses are configured here
+    @Value("${tasks.export.timeout:PT30M}")
+    private Duration asyncTimeout;
+
+    // Absent in slices without metrics, such as @WebMvcTest
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    // Absent when tasks.limit.enabled is false, and in @WebMvcTest
+    @Autowired
+    private ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+
+    // Present only when read replicas are configured
+    @Autowired
+    private ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
+    // Boot's bounded pool, or virtual threads when enabled; @EnableWebMvc leaves async requests without it
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor;
+
+    @Bean
+    public ApiJsonMapper apiJsonMapper() {
+        return new ApiJsonMapper();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+        applicationTaskExecutor.ifAvailable(configurer::setTaskExecutor);
+    }
+
+    // Streams are left out: they hold no pooled connection and would count as hour-long requests
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/tasks/**")
+                .excludePathPatterns("/api/tasks/stream", "/api/tasks/export"));
+        readYourWritesInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/tasks/**"));
+    }
+
+    // Shares the JSON mapper with the export, then splits request latency into serialization
+    // and everything else, per wire format
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter json) {
+                json.setObjectMapper(apiJsonMapper().getObjectMapper());
+            }
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        converters.replaceAll(converter -> converter instanceof AbstractJackson2HttpMessageConverter jackson
+                ? new TimedHttpMessageConverter(jackson, registry)
+                : converter);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         logger.info("Configuring resource handlers");
@@ -1,17 +1,75 @@
 package com.learning.taskmanagement.controller;
 
+import com.learning.taskmanagement.cache.TaskCache;
+import com.learning.taskmanagement.dto.RequestLimitStatsDTO;
+import com.learning.taskmanagement.dto.SqlFingerprintStatsDTO;
+import com.learning.taskmanagement.dto.TaskCacheStatsDTO;
+import com.learning.taskmanagement.jdbc.SqlProfiler;
+import com.learning.taskmanagement.web.ConcurrencyLimitInterceptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
 
 @RestController
 public class DebugController {
     private static final Logger logger = LoggerFactory.getLogger(DebugController.class);
 
+    private final ObjectProvider<TaskCache> taskCache;
+    private final ObjectProvider<SqlProfiler> sqlProfiler;
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+
+    public DebugController(ObjectProvider<TaskCache> taskCache, ObjectProvider<SqlProfiler> sqlProfiler,
+                           ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor) {
+        this.taskCache = taskCache;
+        this.sqlProfiler = sqlProfiler;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+    }
+
     @GetMapping("/debug/routing")
     public String testRouting() {
         logger.info("Debug routing endpoint hit");
         return "Routing is working";
     }
+
+    @GetMapping("/debug/cache")
+    public ResponseEntity<List<TaskCacheStatsDTO>> cacheStats() {
+        TaskCache cache = taskCache.getIfAvailable();
+        return cache != null ? ResponseEntity.ok(cache.getStats()) : ResponseEntity.notFound().build();
+    }
+
+    // SQL fingerprints ranked by total execution time since startup or the last reset
+    @GetMapping("/debug/sql")
+    public ResponseEntity<List<SqlFingerprintStatsDTO>> sqlStats(@RequestParam(defaultValue = "20") int limit) {
+        SqlProfiler profiler = sqlProfiler.getIfAvailable();
+        return profiler != null ? ResponseEntity.ok(profiler.top(limit)) : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/debug/sql")
+    public ResponseEntity<Void> resetSqlStats() {
+        SqlProfiler profiler = sqlProfiler.getIfAvailable();
+        if (profiler == null) {
+            return ResponseEntity.notFound().build();
+        }
+        profiler.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Current adaptive limits of the task API, for reads and writes
+    @GetMapping("/debug/limits")
+    public ResponseEntity<List<RequestLimitStatsDTO>> requestLimits() {
+        ConcurrencyLimitInterceptor interceptor = concurrencyLimitInterceptor.getIfAvailable();
+        if (interceptor == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(interceptor.getLimits().stream()
+                .map(limit -> new RequestLimitStatsDTO(
+                        limit.getName(), limit.getLimit(), limit.getInFlight(), limit.getRejected()))
+                .toList());
+    }
 }
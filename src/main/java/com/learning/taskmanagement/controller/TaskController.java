@@ -1,24 +1,47 @@
 package com.learning.taskmanagement.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
 import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.dto.TaskStatsDTO;
+import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.exception.TaskVersionMismatchException;
 import com.learning.taskmanagement.service.TaskService;
+import com.learning.taskmanagement.stats.TaskStatistics;
+import com.learning.taskmanagement.stream.TaskChangeFeed;
+import com.learning.taskmanagement.web.ApiJsonMapper;
 
 import jakarta.validation.Valid;
 /**
@@ -29,20 +52,44 @@ import jakarta.validation.Valid;
  * 2. Proper HTTP method usage
  * 3. Response entity for HTTP response control
  * 4. Input validation with @Valid
+ * 5. Cursor pagination keeps list responses bounded
+ * 6. StreamingResponseBody writes NDJSON rows as they are read from the database
+ * 7. Version ETags let polling clients revalidate with If-None-Match and get a 304
+ *    without a body; If-Match turns PUT into a compare-and-set on the task version
+ * 8. PATCH sends only the changed fields and is applied in one database round trip
+ * 9. Search is a separate resource so the list endpoint keeps its creation-order cursor
+ * 10. The change stream lets clients apply each write as it happens instead of
+ *     refetching the list after every change
+ * 11. Clients that were offline catch up from /changes with the token of their
+ *     last sync instead of downloading every task again
+ * 12. Responses are negotiated from Accept: JSON by default, CBOR or Smile for
+ *     clients that ask; Vary: Accept keeps caches from mixing them up
  */
 @RestController
 @RequestMapping("/api/tasks")
 @CrossOrigin(
     origins = {"https://*.app.github.dev", "http://localhost:4200"},
     allowedHeaders = "*",
-    methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.OPTIONS},
+    exposedHeaders = HttpHeaders.ETAG,
+    methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH, RequestMethod.DELETE, RequestMethod.OPTIONS},
     allowCredentials = "true"
 )
 public class TaskController {
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final TaskService taskService;
+    private final TaskStatistics taskStatistics;
+    private final TaskChangeFeed taskChangeFeed;
+    private final ObjectWriter taskWriter;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskStatistics taskStatistics,
+                          TaskChangeFeed taskChangeFeed,
+                          ApiJsonMapper apiJsonMapper) {
         this.taskService = taskService;
+        this.taskStatistics = taskStatistics;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskWriter = apiJsonMapper.getObjectMapper().writerFor(TaskDTO.class);
     }
 
     @PostMapping
@@ -50,32 +97,156 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(taskDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResultDTO>> applyBatch(
+            @RequestBody List<TaskBatchOperationDTO> operations) {
+        return ResponseEntity.ok(taskService.applyBatch(operations));
+    }
+
+    // ResponseEntity with an ETag is answered with 304 by Spring MVC before the body is written
     @GetMapping("/{id}")
     public ResponseEntity<TaskDTO> getTask(@PathVariable UUID id) {
         return taskService.getTask(id)
-                .map(ResponseEntity::ok)
+                .map(TaskController::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks(
-            @RequestParam(required = false) TaskStatus status) {
-        List<TaskDTO> tasks = status != null ? 
-                taskService.getTasksByStatus(status) : 
-                taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<TaskPageDTO> getAllTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit,
+            WebRequest request) {
+        // Versioned before the page is read, so a concurrent change can only make the tag stale, never too new
+        String eTag = listETag(taskService.getListVersion(status), status, after, limit);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        TaskPageDTO page = status != null ?
+                taskService.getTasksByStatus(status, after, limit) :
+                taskService.getAllTasks(after, limit);
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageDTO> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(taskService.searchTasks(query, after, limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(taskService.getChanges(since, limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getStatistics() {
+        return ResponseEntity.ok(taskStatistics.snapshot());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = out -> taskService.exportTasks(task -> {
+            try {
+                out.write(taskWriter.writeValueAsBytes(task));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return taskChangeFeed.subscribe();
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable UUID id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskDTO taskDTO) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDTO));
+        if (ifMatch != null) {
+            taskDTO = taskDTO.withVersion(parseIfMatch(id, ifMatch));
+        }
+        try {
+            return withETag(taskService.updateTask(id, taskDTO));
+        } catch (TaskNotFoundException e) {
+            throw preconditionFailed(id, ifMatch, e);
+        }
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskDTO> patchTask(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskPatchDTO patch) {
+        if (ifMatch != null) {
+            patch.setVersion(parseIfMatch(id, ifMatch));
+        }
+        try {
+            return withETag(taskService.patchTask(id, patch));
+        } catch (TaskNotFoundException e) {
+            throw preconditionFailed(id, ifMatch, e);
+        }
+    }
+
+    // 404 when the task does not exist, reported by the same DELETE statement
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable UUID id) {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static ResponseEntity<TaskDTO> withETag(TaskDTO task) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (task.getVersion() != null) {
+            response.eTag(taskETag(task.getVersion()));
+        }
+        return response.body(task);
+    }
+
+    // Weak for the same reason as the list tag: the version names the task, not the bytes sent
+    static String taskETag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    // Weak, because the same list is sent as JSON, CBOR or Smile, gzipped or not; a strong tag
+    // would also stop Tomcat from compressing the response. Only If-None-Match uses it.
+    static String listETag(String listVersion, TaskStatus status, String after, int limit) {
+        String key = listVersion + "|" + status + "|" + after + "|" + limit;
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Only a single version tag or * is supported; anything else cannot match and fails the precondition.
+    // The W/ prefix is accepted because the version itself is exact, even if the tag sent is weak.
+    private static Long parseIfMatch(UUID id, String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new TaskVersionMismatchException(id);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new TaskVersionMismatchException(id);
+        }
+    }
+
+    // Any If-Match, * included, is false when the task does not exist, so it is a 412 rather than a 404
+    private static RuntimeException preconditionFailed(UUID id, String ifMatch, TaskNotFoundException notFound) {
+        return ifMatch != null ? new TaskVersionMismatchException(id) : notFound;
+    }
 }
@@ -0,0 +1,16 @@
+package com.learning.taskmanagement.domain;
+
+/**
+ * Where an open task's due date falls relative to now.
+ *
+ * Learning Points:
+ * 1. Buckets turn a continuous timestamp into a few dashboard-friendly groups
+ * 2. Only open tasks (TODO, IN_PROGRESS) are bucketed
+ */
+public enum DueBucket {
+    OVERDUE,
+    DUE_24H,
+    DUE_7D,
+    LATER,
+    NO_DUE_DATE
+}
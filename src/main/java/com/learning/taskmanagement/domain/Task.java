@@ -1,7 +1,9 @@
 package com.learning.taskmanagement.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -12,10 +14,17 @@ import java.util.UUID;
  * 2. Use of UUID instead of sequential IDs for better scalability
  * 3. @Column annotations to specify database mapping details
  * 4. Immutable ID using final modifier
+ * 5. Persistable lets save() persist new tasks directly instead of merging,
+ *    which would SELECT first because the ID is assigned up front
+ * 6. IDs come from a pluggable TaskIdGenerator, time-ordered UUIDv7 by default
+ * 7. @Version makes Hibernate check and bump a counter on every update, so
+ *    concurrent writers cannot silently overwrite each other
  */
 @Entity
 @Table(name = "tasks")
-public class Task {
+public class Task implements Persistable<UUID> {
+    private static volatile TaskIdGenerator idGenerator = new UuidV7Generator();
+
     @Id
     private final UUID id;
 
@@ -37,20 +46,55 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    // Required by JPA
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew = true;
+
+    // Required by JPA; Hibernate overwrites the id from the loaded row
     protected Task() {
-        this.id = UUID.randomUUID();
+        this.id = null;
     }
 
     public Task(String title) {
-        this.id = UUID.randomUUID();
+        this.id = idGenerator.nextId();
         this.title = title;
         this.status = TaskStatus.TODO;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
+    // Rebuilds a stored task outside JPA, as the in-memory task store does
+    public Task(UUID id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+                LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.isNew = false;
+    }
+
+    public static void useIdGenerator(TaskIdGenerator generator) {
+        idGenerator = Objects.requireNonNull(generator);
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
     // Getters and Setters
+    @Override
     public UUID getId() { return id; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
@@ -62,4 +106,5 @@ public class Task {
     public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public long getVersion() { return version; }
 }
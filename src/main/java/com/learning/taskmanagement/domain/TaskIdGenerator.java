@@ -0,0 +1,15 @@
+package com.learning.taskmanagement.domain;
+
+import java.util.UUID;
+
+/**
+ * Strategy for assigning identifiers to new tasks.
+ *
+ * Learning Points:
+ * 1. A functional interface lets UUID::randomUUID serve as a strategy directly
+ * 2. Implementations must be thread-safe because tasks are created concurrently
+ */
+@FunctionalInterface
+public interface TaskIdGenerator {
+    UUID nextId();
+}
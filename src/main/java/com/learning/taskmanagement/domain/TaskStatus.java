@@ -6,10 +6,15 @@ package com.learning.taskmanagement.domain;
  * Learning Points:
  * 1. Using enums provides type safety and prevents invalid status values
  * 2. Enums are perfect for representing a fixed set of values
+ * 3. Enums can carry behavior, such as whether a status still counts as open work
  */
 public enum TaskStatus {
     TODO,
     IN_PROGRESS,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    public boolean isOpen() {
+        return this == TODO || this == IN_PROGRESS;
+    }
 }
@@ -0,0 +1,28 @@
+package com.learning.taskmanagement.dto;
+
+/**
+ * Point-in-time state of one of the adaptive request concurrency limits.
+ *
+ * Learning Points:
+ * 1. A limit that keeps falling towards its minimum means requests are
+ *    queueing downstream, usually for database connections
+ * 2. Rejections that climb while the limit is high point at a burst, not at slowness
+ */
+public class RequestLimitStatsDTO {
+    private final String name;
+    private final int limit;
+    private final int inFlight;
+    private final long rejected;
+
+    public RequestLimitStatsDTO(String name, int limit, int inFlight, long rejected) {
+        this.name = name;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.rejected = rejected;
+    }
+
+    public String getName() { return name; }
+    public int getLimit() { return limit; }
+    public int getInFlight() { return inFlight; }
+    public long getRejected() { return rejected; }
+}
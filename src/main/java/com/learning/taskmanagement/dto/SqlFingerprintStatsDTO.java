@@ -0,0 +1,35 @@
+package com.learning.taskmanagement.dto;
+
+/**
+ * Accumulated execution statistics for one SQL fingerprint.
+ *
+ * Learning Points:
+ * 1. Total time ranks what to optimize: a fast query run a million times can
+ *    cost more than one slow report
+ * 2. Mean and max together tell a uniformly slow query from an occasional spike
+ */
+public class SqlFingerprintStatsDTO {
+    private final String fingerprint;
+    private final long executions;
+    private final long errors;
+    private final double totalMillis;
+    private final double meanMillis;
+    private final double maxMillis;
+
+    public SqlFingerprintStatsDTO(String fingerprint, long executions, long errors,
+                                  double totalMillis, double meanMillis, double maxMillis) {
+        this.fingerprint = fingerprint;
+        this.executions = executions;
+        this.errors = errors;
+        this.totalMillis = totalMillis;
+        this.meanMillis = meanMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getFingerprint() { return fingerprint; }
+    public long getExecutions() { return executions; }
+    public long getErrors() { return errors; }
+    public double getTotalMillis() { return totalMillis; }
+    public double getMeanMillis() { return meanMillis; }
+    public double getMaxMillis() { return maxMillis; }
+}
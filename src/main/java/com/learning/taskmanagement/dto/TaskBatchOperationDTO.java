@@ -0,0 +1,32 @@
+package com.learning.taskmanagement.dto;
+
+import java.util.UUID;
+
+/**
+ * A single create, update or delete inside a batch request.
+ *
+ * Learning Points:
+ * 1. One request body can carry mixed operations for bulk integrations
+ * 2. The id is required for UPDATE and DELETE and ignored for CREATE
+ */
+public class TaskBatchOperationDTO {
+    public enum Type {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private final Type op;
+    private final UUID id;
+    private final TaskDTO task;
+
+    public TaskBatchOperationDTO(Type op, UUID id, TaskDTO task) {
+        this.op = op;
+        this.id = id;
+        this.task = task;
+    }
+
+    public Type getOp() { return op; }
+    public UUID getId() { return id; }
+    public TaskDTO getTask() { return task; }
+}
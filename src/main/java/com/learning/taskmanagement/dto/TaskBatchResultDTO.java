@@ -0,0 +1,37 @@
+package com.learning.taskmanagement.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one operation in a batch request.
+ *
+ * Learning Points:
+ * 1. The index ties each result back to its position in the request
+ * 2. Item failures are reported here instead of failing the whole batch
+ */
+public class TaskBatchResultDTO {
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private final int index;
+    private final UUID id;
+    private final Outcome outcome;
+    private final String error;
+
+    public TaskBatchResultDTO(int index, UUID id, Outcome outcome, String error) {
+        this.index = index;
+        this.id = id;
+        this.outcome = outcome;
+        this.error = error;
+    }
+
+    public int getIndex() { return index; }
+    public UUID getId() { return id; }
+    public Outcome getOutcome() { return outcome; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,33 @@
+package com.learning.taskmanagement.dto;
+
+/**
+ * Point-in-time statistics for one of the task caches.
+ *
+ * Learning Points:
+ * 1. Hit rate shows whether the cache is sized for the working set
+ * 2. A climbing eviction count with a low hit rate means the cache is too small
+ */
+public class TaskCacheStatsDTO {
+    private final String name;
+    private final long size;
+    private final long hits;
+    private final long misses;
+    private final double hitRate;
+    private final long evictions;
+
+    public TaskCacheStatsDTO(String name, long size, long hits, long misses, double hitRate, long evictions) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.evictions = evictions;
+    }
+
+    public String getName() { return name; }
+    public long getSize() { return size; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public double getHitRate() { return hitRate; }
+    public long getEvictions() { return evictions; }
+}
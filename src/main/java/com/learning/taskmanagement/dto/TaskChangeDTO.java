@@ -0,0 +1,32 @@
+package com.learning.taskmanagement.dto;
+
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import java.util.UUID;
+
+/**
+ * One created, updated or deleted task as pushed to change-feed clients.
+ *
+ * Learning Points:
+ * 1. The full task rides along with creates and updates, so a client can apply
+ *    the change to its list without fetching anything
+ * 2. A delete only needs the id; task is null
+ */
+public class TaskChangeDTO {
+    private final TaskChangedEvent.Type type;
+    private final UUID id;
+    private final TaskDTO task;
+
+    public TaskChangeDTO(TaskChangedEvent.Type type, UUID id, TaskDTO task) {
+        this.type = type;
+        this.id = id;
+        this.task = task;
+    }
+
+    public static TaskChangeDTO from(TaskChangedEvent event) {
+        return new TaskChangeDTO(event.getType(), event.getTaskId(), event.getCurrent());
+    }
+
+    public TaskChangedEvent.Type getType() { return type; }
+    public UUID getId() { return id; }
+    public TaskDTO getTask() { return task; }
+}
@@ -0,0 +1,28 @@
+package com.learning.taskmanagement.dto;
+
+import java.util.List;
+
+/**
+ * One page of a delta sync plus the token to pass as since on the next call.
+ *
+ * Learning Points:
+ * 1. While hasMore is true the client keeps paging straight away; once it is
+ *    false the token is saved for the next sync
+ * 2. A transaction still running during the sync can make a change appear again
+ *    in the next one, so clients apply changes idempotently by id
+ */
+public class TaskChangesDTO {
+    private final List<TaskChangeDTO> changes;
+    private final String next;
+    private final boolean hasMore;
+
+    public TaskChangesDTO(List<TaskChangeDTO> changes, String next, boolean hasMore) {
+        this.changes = changes;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    public List<TaskChangeDTO> getChanges() { return changes; }
+    public String getNext() { return next; }
+    public boolean isHasMore() { return hasMore; }
+}
@@ -1,5 +1,6 @@
 package com.learning.taskmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.learning.taskmanagement.domain.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -13,12 +14,15 @@ import java.util.UUID;
  * 1. DTOs help separate domain models from API contracts
  * 2. Using validation annotations ensures data integrity
  * 3. Immutable fields where appropriate
+ * 4. The version is echoed back on updates to make them conditional
  */
 public class TaskDTO {
+    public static final int TITLE_MAX_LENGTH = 255;
+
     private final UUID id;
     
     @NotBlank(message = "Title is required")
-    @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
+    @Size(min = 1, max = TITLE_MAX_LENGTH, message = "Title must be between 1 and 255 characters")
     private String title;
     
     private String description;
@@ -26,9 +30,16 @@ public class TaskDTO {
     private LocalDateTime dueDate;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
+    private final Long version;
 
     public TaskDTO(UUID id, String title, String description, TaskStatus status, 
                   LocalDateTime dueDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, status, dueDate, createdAt, updatedAt, null);
+    }
+
+    @JsonCreator
+    public TaskDTO(UUID id, String title, String description, TaskStatus status,
+                  LocalDateTime dueDate, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
         this.id = id;
         this.title = title;
         this.description = description;
@@ -36,6 +47,15 @@ public class TaskDTO {
         this.dueDate = dueDate;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    public TaskDTO withVersion(Long version) {
+        return new TaskDTO(id, title, description, status, dueDate, createdAt, updatedAt, version);
+    }
+
+    public TaskDTO withStatus(TaskStatus status) {
+        return new TaskDTO(id, title, description, status, dueDate, createdAt, updatedAt, version);
     }
 
     // Getters and Setters
@@ -50,4 +70,6 @@ public class TaskDTO {
     public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    // Null when the client does not want a conditional update
+    public Long getVersion() { return version; }
 }
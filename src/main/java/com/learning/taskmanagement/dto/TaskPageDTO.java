@@ -0,0 +1,23 @@
+package com.learning.taskmanagement.dto;
+
+import java.util.List;
+
+/**
+ * One page of tasks plus the cursor for the following page.
+ *
+ * Learning Points:
+ * 1. A null next cursor tells the client it has reached the end
+ * 2. Pages are bounded by the requested limit, never by table size
+ */
+public class TaskPageDTO {
+    private final List<TaskDTO> items;
+    private final String next;
+
+    public TaskPageDTO(List<TaskDTO> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public List<TaskDTO> getItems() { return items; }
+    public String getNext() { return next; }
+}
@@ -0,0 +1,59 @@
+package com.learning.taskmanagement.dto;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+/**
+ * Partial update of a task; only the fields present in the request body are changed.
+ *
+ * Learning Points:
+ * 1. Jackson only calls the setters of properties that appear in the JSON, so each
+ *    setter records that its field was sent; an explicit null clears the field
+ *    while an absent one leaves it alone
+ * 2. A full replacement (PUT) is the same patch with every field sent
+ */
+public class TaskPatchDTO {
+    @Size(max = 255, message = "Title must be between 1 and 255 characters")
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+    private Long version;
+
+    private boolean titleSet;
+    private boolean descriptionSet;
+    private boolean statusSet;
+    private boolean dueDateSet;
+
+    public static TaskPatchDTO replacing(TaskDTO task) {
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle(task.getTitle());
+        patch.setDescription(task.getDescription());
+        patch.setStatus(task.getStatus());
+        patch.setDueDate(task.getDueDate());
+        patch.setVersion(task.getVersion());
+        return patch;
+    }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; this.titleSet = true; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; this.descriptionSet = true; }
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; this.statusSet = true; }
+    public LocalDateTime getDueDate() { return dueDate; }
+    public void setDueDate(LocalDateTime dueDate) { this.dueDate = dueDate; this.dueDateSet = true; }
+    // Null when the client does not want a conditional update
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public boolean hasTitle() { return titleSet; }
+    public boolean hasDescription() { return descriptionSet; }
+    public boolean hasStatus() { return statusSet; }
+    public boolean hasDueDate() { return dueDateSet; }
+
+    public boolean hasChanges() {
+        return titleSet || descriptionSet || statusSet || dueDateSet;
+    }
+}
@@ -0,0 +1,51 @@
+package com.learning.taskmanagement.dto;
+
+import com.learning.taskmanagement.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor pointing at the last hit of a search page.
+ *
+ * Learning Points:
+ * 1. Search results are ordered by (rank DESC, id), so the cursor carries both
+ * 2. The rank is a Postgres real; Float.toString round-trips it exactly, which
+ *    keeps the equality half of the seek predicate reliable
+ */
+public final class TaskSearchCursor {
+    private static final char SEPARATOR = '|';
+
+    private final float rank;
+    private final UUID id;
+
+    public TaskSearchCursor(float rank, UUID id) {
+        this.rank = rank;
+        this.id = id;
+    }
+
+    public static TaskSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new TaskSearchCursor(
+                Float.parseFloat(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public float getRank() { return rank; }
+    public UUID getId() { return id; }
+}
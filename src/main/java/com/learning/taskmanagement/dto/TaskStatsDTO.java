@@ -0,0 +1,36 @@
+package com.learning.taskmanagement.dto;
+
+import com.learning.taskmanagement.domain.DueBucket;
+import com.learning.taskmanagement.domain.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Task counts for dashboards, served from in-memory counters.
+ *
+ * Learning Points:
+ * 1. EnumMaps serialize as small JSON objects keyed by enum name
+ * 2. reconciledAt tells clients how recently the counters were checked against SQL
+ */
+public class TaskStatsDTO {
+    private final long total;
+    private final Map<TaskStatus, Long> byStatus;
+    private final long overdue;
+    private final Map<DueBucket, Long> dueBuckets;
+    private final LocalDateTime reconciledAt;
+
+    public TaskStatsDTO(long total, Map<TaskStatus, Long> byStatus, long overdue,
+                        Map<DueBucket, Long> dueBuckets, LocalDateTime reconciledAt) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.overdue = overdue;
+        this.dueBuckets = dueBuckets;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public long getTotal() { return total; }
+    public Map<TaskStatus, Long> getByStatus() { return byStatus; }
+    public long getOverdue() { return overdue; }
+    public Map<DueBucket, Long> getDueBuckets() { return dueBuckets; }
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+}
@@ -0,0 +1,83 @@
+package com.learning.taskmanagement.dto;
+
+import com.learning.taskmanagement.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque delta-sync position: everything written by transaction floorXid or later is still to be sent.
+ *
+ * Learning Points:
+ * 1. The floor is a snapshot xmin rather than a timestamp, so a transaction that
+ *    was still running when the token was issued is picked up once it commits
+ * 2. A token for the next page of the same sync also seeks past the last row sent
+ *    and carries the lowest xmin seen so far, which becomes the floor of the final token
+ * 3. issuedAt lets the server refuse tokens older than the tombstone retention
+ */
+public final class TaskSyncToken {
+    private static final String SEPARATOR = "|";
+
+    private final long floorXid;
+    private final Instant issuedAt;
+    private final Long afterXid;
+    private final UUID afterId;
+    private final Long nextFloorXid;
+
+    private TaskSyncToken(long floorXid, Instant issuedAt, Long afterXid, UUID afterId, Long nextFloorXid) {
+        this.floorXid = floorXid;
+        this.issuedAt = issuedAt;
+        this.afterXid = afterXid;
+        this.afterId = afterId;
+        this.nextFloorXid = nextFloorXid;
+    }
+
+    // A full sync: every live task, plus tombstones still retained
+    public static TaskSyncToken initial(Instant now) {
+        return new TaskSyncToken(0, now, null, null, null);
+    }
+
+    public static TaskSyncToken of(long floorXid, Instant issuedAt) {
+        return new TaskSyncToken(floorXid, issuedAt, null, null, null);
+    }
+
+    public TaskSyncToken continueAfter(long changeXid, UUID id, long nextFloorXid) {
+        return new TaskSyncToken(floorXid, issuedAt, changeXid, id, nextFloorXid);
+    }
+
+    public static TaskSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || parts[2].isEmpty() != parts[3].isEmpty() || parts[2].isEmpty() != parts[4].isEmpty()) {
+                throw new InvalidCursorException(token);
+            }
+            return new TaskSyncToken(
+                Long.parseLong(parts[0]),
+                Instant.ofEpochMilli(Long.parseLong(parts[1])),
+                parts[2].isEmpty() ? null : Long.valueOf(parts[2]),
+                parts[3].isEmpty() ? null : UUID.fromString(parts[3]),
+                parts[4].isEmpty() ? null : Long.valueOf(parts[4])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = floorXid + SEPARATOR + issuedAt.toEpochMilli() + SEPARATOR +
+                (afterXid == null ? "" : afterXid) + SEPARATOR +
+                (afterId == null ? "" : afterId) + SEPARATOR +
+                (nextFloorXid == null ? "" : nextFloorXid);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isContinuation() { return afterXid != null; }
+    public long getFloorXid() { return floorXid; }
+    public Instant getIssuedAt() { return issuedAt; }
+    public Long getAfterXid() { return afterXid; }
+    public UUID getAfterId() { return afterId; }
+    public Long getNextFloorXid() { return nextFloorXid; }
+}
@@ -0,0 +1,52 @@
+package com.learning.taskmanagement.event;
+
+import com.learning.taskmanagement.dto.TaskDTO;
+import java.util.UUID;
+
+/**
+ * Published by the service write paths whenever a task is created, updated or deleted.
+ *
+ * Learning Points:
+ * 1. Application events decouple the write path from caches and other listeners
+ * 2. Events are published inside the transaction; listeners that must only see
+ *    committed changes use @TransactionalEventListener(phase = AFTER_COMMIT)
+ * 3. Carrying the previous state lets listeners compute deltas without a query
+ */
+public class TaskChangedEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final UUID taskId;
+    private final TaskDTO previous;
+    private final TaskDTO current;
+
+    public TaskChangedEvent(Type type, UUID taskId, TaskDTO previous, TaskDTO current) {
+        this.type = type;
+        this.taskId = taskId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static TaskChangedEvent created(TaskDTO current) {
+        return new TaskChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+
+    public static TaskChangedEvent updated(TaskDTO previous, TaskDTO current) {
+        return new TaskChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static TaskChangedEvent deleted(UUID taskId, TaskDTO previous) {
+        return new TaskChangedEvent(Type.DELETED, taskId, previous, null);
+    }
+
+    public Type getType() { return type; }
+    public UUID getTaskId() { return taskId; }
+    // Null for CREATED, and for DELETED when the row was removed without being loaded
+    public TaskDTO getPrevious() { return previous; }
+    // Null for DELETED
+    public TaskDTO getCurrent() { return current; }
+}
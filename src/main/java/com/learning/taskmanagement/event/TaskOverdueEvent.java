@@ -0,0 +1,24 @@
+package com.learning.taskmanagement.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published once when an open task's due date passes.
+ *
+ * Learning Points:
+ * 1. Raised by the in-memory due-date scheduler, so reacting to deadlines needs no polling
+ * 2. Only carries the id and due date; listeners load the task if they need more
+ */
+public class TaskOverdueEvent {
+    private final UUID taskId;
+    private final LocalDateTime dueDate;
+
+    public TaskOverdueEvent(UUID taskId, LocalDateTime dueDate) {
+        this.taskId = taskId;
+        this.dueDate = dueDate;
+    }
+
+    public UUID getTaskId() { return taskId; }
+    public LocalDateTime getDueDate() { return dueDate; }
+}
@@ -0,0 +1,19 @@
+package com.learning.taskmanagement.event;
+
+/**
+ * Published after the archiver has moved a batch of finished tasks into tasks_archive.
+ *
+ * Learning Points:
+ * 1. Archived tasks leave every list but are still found by id, so listeners
+ *    only need to drop cached lists, not cached tasks
+ * 2. Published after the batch's transaction has committed
+ */
+public class TasksArchivedEvent {
+    private final int count;
+
+    public TasksArchivedEvent(int count) {
+        this.count = count;
+    }
+
+    public int getCount() { return count; }
+}
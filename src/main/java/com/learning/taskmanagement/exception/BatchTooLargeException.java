@@ -0,0 +1,18 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a batch request carries more operations than we accept at once.
+ *
+ * Learning Points:
+ * 1. Capping request size keeps a single call from holding a connection indefinitely
+ * 2. 413 tells the client to split the batch rather than retry it as is
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int size, int max) {
+        super("Batch of " + size + " operations exceeds the limit of " + max);
+    }
+}
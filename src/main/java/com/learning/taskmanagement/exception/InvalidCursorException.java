@@ -0,0 +1,18 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a client sends a pagination cursor we did not issue.
+ *
+ * Learning Points:
+ * 1. @ResponseStatus maps the exception to 400 without a controller advice
+ * 2. The message never echoes decoded cursor internals back to the client
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,17 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a search query is empty or longer than the service accepts.
+ *
+ * Learning Points:
+ * 1. Bounding the query text bounds the work one request can ask of the index
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a partial update would leave a required task field empty.
+ *
+ * Learning Points:
+ * 1. Bean validation cannot tell an absent field from an explicit null, so
+ *    fields that may be omitted but not cleared are checked in the service
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidTaskPatchException extends RuntimeException {
+    public InvalidTaskPatchException(String message) {
+        super(message);
+    }
+}
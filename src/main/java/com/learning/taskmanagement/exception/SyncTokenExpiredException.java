@@ -0,0 +1,18 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a sync token is older than the tombstone retention.
+ *
+ * Learning Points:
+ * 1. Deletions from before the retention window are gone, so the delta would be
+ *    incomplete; 410 tells the client to start over with a full sync
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException() {
+        super("Sync token has expired; start a full sync without since");
+    }
+}
@@ -1,5 +1,7 @@
 package com.learning.taskmanagement.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import java.util.UUID;
 
 /**
@@ -8,7 +10,9 @@ import java.util.UUID;
  * Learning Points:
  * 1. Custom exceptions help create meaningful error messages
  * 2. Extending RuntimeException for unchecked exceptions
+ * 3. @ResponseStatus maps it to 404 wherever it escapes a controller
  */
+@ResponseStatus(HttpStatus.NOT_FOUND)
 public class TaskNotFoundException extends RuntimeException {
     public TaskNotFoundException(UUID id) {
         super("Task not found with id: " + id);
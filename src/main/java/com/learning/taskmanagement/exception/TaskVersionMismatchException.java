@@ -0,0 +1,19 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import java.util.UUID;
+
+/**
+ * Thrown when a conditional update was based on a version of the task that is no longer current.
+ *
+ * Learning Points:
+ * 1. 412 Precondition Failed tells the client to reload the task and reapply its change
+ * 2. Raised both for a stale If-Match and for a concurrent update caught by @Version
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class TaskVersionMismatchException extends RuntimeException {
+    public TaskVersionMismatchException(UUID id) {
+        super("Task " + id + " has been modified; reload it and retry");
+    }
+}
@@ -0,0 +1,18 @@
+package com.learning.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the change feed already holds as many open streams as it accepts.
+ *
+ * Learning Points:
+ * 1. Every open stream pins a connection and a send buffer, so their number is capped
+ * 2. 503 tells the client to retry later; EventSource does so on its own
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TooManySubscribersException extends RuntimeException {
+    public TooManySubscribersException(int max) {
+        super("Change feed already has the maximum of " + max + " subscribers");
+    }
+}
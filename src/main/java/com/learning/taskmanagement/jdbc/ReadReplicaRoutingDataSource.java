@@ -0,0 +1,77 @@
+package com.learning.taskmanagement.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * Sends connections for read-only transactions to a replica and everything else to the primary.
+ *
+ * Learning Points:
+ * 1. The decision reads Spring's read-only flag, which is only set after the
+ *    transaction has begun, so this must sit behind a
+ *    LazyConnectionDataSourceProxy that fetches the connection at the first statement
+ * 2. Connections outside a transaction, such as Flyway's or LISTEN sessions,
+ *    always come from the primary
+ * 3. If the chosen replica cannot hand out a connection, the read falls back
+ *    to the primary instead of failing
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final ReplicaSet replicas;
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaSet replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        if (!ReadRouting.isPinnedToPrimary()) {
+            Replica replica = replicas.choose();
+            if (replica != null) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    logger.warn("Replica {} refused a connection, reading from the primary: {}",
+                            replica.getName(), e.getMessage());
+                    replica.recordFailure();
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    // Explicit credentials are meant for one particular server; only the primary is known to accept them
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Lets DataSourceUnwrapper reach the primary pool's wrappers, e.g. for pool metrics
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    public ReplicaSet getReplicas() { return replicas; }
+    // Read-only transactions that ran on the primary: pinned, or no replica was usable
+    public long getPrimaryReads() { return primaryReads.sum(); }
+}
@@ -0,0 +1,54 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets callers keep read-only transactions on the primary when replica lag would be wrong.
+ *
+ * Learning Points:
+ * 1. Read-only transactions go to a replica by default; work that combines a
+ *    snapshot with events it received since, such as a cache load after an
+ *    invalidation, must not see a snapshot older than those events
+ * 2. The pin is thread-bound and nests, and it only has to be in place when
+ *    the first statement runs, because connections are fetched lazily
+ */
+public final class ReadRouting {
+    private static final ThreadLocal<int[]> PRIMARY_PINS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ReadRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> reads) {
+        pinToPrimary();
+        try {
+            return reads.get();
+        } finally {
+            unpin();
+        }
+    }
+
+    public static void onPrimary(Runnable reads) {
+        pinToPrimary();
+        try {
+            reads.run();
+        } finally {
+            unpin();
+        }
+    }
+
+    // Every call must be matched by unpin() on the same thread
+    public static void pinToPrimary() {
+        PRIMARY_PINS.get()[0]++;
+    }
+
+    public static void unpin() {
+        int[] pins = PRIMARY_PINS.get();
+        if (--pins[0] <= 0) {
+            PRIMARY_PINS.remove();
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINS.get()[0] > 0;
+    }
+}
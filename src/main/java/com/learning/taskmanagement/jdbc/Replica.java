@@ -0,0 +1,72 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import javax.sql.DataSource;
+
+/**
+ * One read replica's connection pool together with what its last health check found.
+ *
+ * Learning Points:
+ * 1. A replica is usable only while its last check is recent and showed it
+ *    had replayed the WAL the primary had written max-lag ago
+ * 2. Probe latency is smoothed, so one slow check does not send all reads elsewhere
+ * 3. A failed connection attempt marks the replica unusable until the next
+ *    successful check, without waiting for the checker to notice
+ */
+public class Replica {
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final IntSupplier activeConnections;
+    private final LongAdder connections = new LongAdder();
+
+    private volatile boolean caughtUp;
+    private volatile long checkedAtNanos;
+    private volatile long lagBytes = -1;
+    private volatile double latencyNanos;
+
+    public Replica(String name, DataSource dataSource, IntSupplier activeConnections) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.activeConnections = activeConnections;
+    }
+
+    Connection getConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connections.increment();
+        return connection;
+    }
+
+    void recordCheck(long replayLsn, long requiredLsn, long primaryLsn, long latency, long now) {
+        latencyNanos = latencyNanos == 0 ? latency : latencyNanos + (latency - latencyNanos) * LATENCY_WEIGHT;
+        lagBytes = Math.max(0, primaryLsn - replayLsn);
+        caughtUp = replayLsn >= requiredLsn;
+        checkedAtNanos = now;
+    }
+
+    void recordFailure() {
+        caughtUp = false;
+    }
+
+    boolean isUsable(long now, long staleAfterNanos) {
+        return caughtUp && now - checkedAtNanos <= staleAfterNanos;
+    }
+
+    // Lower is better: smoothed latency scaled by how busy the pool already is
+    double score() {
+        return latencyNanos * (activeConnections.getAsInt() + 1);
+    }
+
+    DataSource getDataSource() { return dataSource; }
+
+    public String getName() { return name; }
+    public boolean isCaughtUp() { return caughtUp; }
+    // -1 until the first successful check
+    public long getLagBytes() { return lagBytes; }
+    public double getLatencyNanos() { return latencyNanos; }
+    public long getConnections() { return connections.sum(); }
+}
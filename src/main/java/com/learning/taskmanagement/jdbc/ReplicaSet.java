@@ -0,0 +1,181 @@
+package com.learning.taskmanagement.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+
+/**
+ * Health-checks the read replicas against the primary and picks one for each read.
+ *
+ * Learning Points:
+ * 1. Lag is measured in WAL position, not replay timestamps: the primary's
+ *    LSN is sampled every check, and a replica counts as caught up once it has
+ *    replayed what the primary had written max-lag ago
+ * 2. That bound makes read-your-writes a matter of time: a client that stays on
+ *    the primary for max-lag plus a few check intervals after its write will
+ *    only be sent to replicas that have it
+ * 3. Reads pick the better of two random usable replicas (power of two
+ *    choices), scored by probe latency and active connections, which spreads
+ *    load without herding onto whichever replica looked fastest last
+ * 4. When no replica is usable, reads fall back to the primary
+ */
+public class ReplicaSet implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaSet.class);
+    private static final String PRIMARY_LSN = "SELECT CAST(pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0') AS bigint)";
+    private static final String REPLAY_LSN = "SELECT pg_is_in_recovery(), " +
+            "CAST(pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0') AS bigint)";
+
+    private final List<Replica> replicas;
+    private final long maxLagNanos;
+    private final long checkIntervalNanos;
+    private final LongSupplier clock;
+    // (time, lsn) samples, oldest first; guarded by this
+    private final Deque<long[]> primaryLsns = new ArrayDeque<>();
+    private ScheduledExecutorService checker;
+
+    public ReplicaSet(List<Replica> replicas, Duration maxLag, Duration checkInterval) {
+        this(replicas, maxLag, checkInterval, System::nanoTime);
+    }
+
+    ReplicaSet(List<Replica> replicas, Duration maxLag, Duration checkInterval, LongSupplier clock) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagNanos = maxLag.toNanos();
+        this.checkIntervalNanos = checkInterval.toNanos();
+        this.clock = clock;
+    }
+
+    // Starts checking the replicas against this primary every check interval
+    public synchronized void monitor(DataSource primary) {
+        if (checker != null) {
+            throw new IllegalStateException("Replicas are already monitored");
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(() -> check(primary), 0, checkIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Null when no replica is usable and the read should go to the primary
+    Replica choose() {
+        long now = clock.getAsLong();
+        List<Replica> usable = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isUsable(now, 2 * checkIntervalNanos)) {
+                usable.add(replica);
+            }
+        }
+        if (usable.size() <= 1) {
+            return usable.isEmpty() ? null : usable.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(usable.size());
+        int second = random.nextInt(usable.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Replica a = usable.get(first);
+        Replica b = usable.get(second);
+        return a.score() <= b.score() ? a : b;
+    }
+
+    void check(DataSource primary) {
+        long primaryLsn;
+        try {
+            primaryLsn = queryLong(primary);
+        } catch (SQLException | RuntimeException e) {
+            // Without the primary's position no replica can be shown to be current; they go stale
+            logger.warn("Could not read the primary's WAL position: {}", e.getMessage());
+            return;
+        }
+        long requiredLsn = recordPrimaryLsn(clock.getAsLong(), primaryLsn);
+        for (Replica replica : replicas) {
+            long start = clock.getAsLong();
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(Math.max(1, (int) TimeUnit.NANOSECONDS.toSeconds(checkIntervalNanos)));
+                try (ResultSet result = statement.executeQuery(REPLAY_LSN)) {
+                    result.next();
+                    boolean inRecovery = result.getBoolean(1);
+                    long replayLsn = result.getLong(2);
+                    long end = clock.getAsLong();
+                    if (!inRecovery || result.wasNull()) {
+                        // A promoted replica has its own history; reads there could miss primary writes
+                        logger.warn("Replica {} is not replaying WAL; not reading from it", replica.getName());
+                        replica.recordFailure();
+                        continue;
+                    }
+                    replica.recordCheck(replayLsn, requiredLsn, primaryLsn, end - start, end);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (replica.isCaughtUp()) {
+                    logger.warn("Replica {} failed its health check: {}", replica.getName(), e.getMessage());
+                }
+                replica.recordFailure();
+            }
+        }
+    }
+
+    // Returns the LSN a replica must have replayed to be at most max-lag behind
+    synchronized long recordPrimaryLsn(long now, long lsn) {
+        primaryLsns.addLast(new long[] {now, lsn});
+        long cutoff = now - maxLagNanos;
+        // Keep the newest sample at or before the cutoff, drop everything older
+        while (primaryLsns.size() > 1) {
+            long[] first = primaryLsns.removeFirst();
+            if (primaryLsns.peekFirst()[0] > cutoff) {
+                primaryLsns.addFirst(first);
+                break;
+            }
+        }
+        long[] oldest = primaryLsns.peekFirst();
+        // Until the history reaches back max-lag, no replica can be shown to be close enough
+        return oldest[0] <= cutoff ? oldest[1] : Long.MAX_VALUE;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close the pool of replica {}", replica.getName(), e);
+                }
+            }
+        }
+    }
+
+    private static long queryLong(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(PRIMARY_LSN)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL text to a fingerprint shared by every execution of the same query shape.
+ *
+ * Learning Points:
+ * 1. Literals become ? so statements that only differ in inlined values
+ *    aggregate together; Hibernate's bind parameters are already ?
+ * 2. IN lists of any length collapse to one form, otherwise every list size
+ *    would be a separate fingerprint
+ * 3. Comments and whitespace are dropped, so formatting never splits a query
+ */
+public final class SqlFingerprint {
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile(
+            "(\\bin\\s*)\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        fingerprint = LINE_COMMENT.matcher(fingerprint).replaceAll(" ");
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return PARAMETER_LIST.matcher(fingerprint).replaceAll("$1(?, ...)");
+    }
+}
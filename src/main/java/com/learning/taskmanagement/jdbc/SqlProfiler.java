@@ -0,0 +1,168 @@
+package com.learning.taskmanagement.jdbc;
+
+import com.learning.taskmanagement.dto.SqlFingerprintStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Per-fingerprint SQL latency aggregates plus a slow and sampled statement log.
+ *
+ * Learning Points:
+ * 1. The raw SQL string is looked up before fingerprinting, so the regex work
+ *    runs once per distinct statement text rather than once per execution
+ * 2. Counters are LongAdders; recording an execution never takes a lock
+ * 3. Log lines are formatted and written on one background thread behind a
+ *    bounded queue; when it is full lines are dropped and counted, so logging
+ *    can never slow a query down
+ * 4. Only fingerprints are logged, never bind values, so no task data reaches the log
+ * 5. The number of fingerprints is capped; anything beyond it is counted under (other)
+ */
+public class SqlProfiler implements AutoCloseable {
+    static final String OTHER = "(other)";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlProfiler.class);
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxFingerprints;
+    private final Executor writer;
+    private final ConcurrentHashMap<String, Stats> bySql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Stats> byFingerprint = new ConcurrentHashMap<>();
+    private final Stats other = new Stats(OTHER);
+    private final LongAdder droppedLogLines = new LongAdder();
+
+    public SqlProfiler(Duration slowThreshold, double sampleRate, int maxFingerprints, int logQueueSize) {
+        this(slowThreshold, sampleRate, maxFingerprints, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(logQueueSize), Thread.ofPlatform().name("sql-log").daemon().factory()));
+    }
+
+    SqlProfiler(Duration slowThreshold, double sampleRate, int maxFingerprints, Executor writer) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("tasks.db.profiling.sample-rate must be between 0 and 1");
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxFingerprints = maxFingerprints;
+        this.writer = writer;
+    }
+
+    public void record(String sql, long nanos, boolean failed) {
+        Stats stats = statsFor(sql);
+        stats.add(nanos, failed);
+        boolean slow = nanos >= slowThresholdNanos;
+        if (!slow && (sampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        try {
+            writer.execute(() -> log(slow, stats.fingerprint, nanos, failed));
+        } catch (RejectedExecutionException e) {
+            droppedLogLines.increment();
+        }
+    }
+
+    public List<SqlFingerprintStatsDTO> top(int limit) {
+        return Stream.concat(byFingerprint.values().stream(), Stream.of(other))
+                .filter(stats -> stats.executions.sum() > 0)
+                .sorted(Comparator.comparingLong((Stats stats) -> stats.totalNanos.sum()).reversed())
+                .limit(limit)
+                .map(Stats::toDTO)
+                .toList();
+    }
+
+    public void reset() {
+        bySql.clear();
+        byFingerprint.clear();
+        other.reset();
+    }
+
+    public long getDroppedLogLines() {
+        return droppedLogLines.sum();
+    }
+
+    @Override
+    public void close() {
+        if (writer instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private Stats statsFor(String sql) {
+        Stats stats = bySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        stats = byFingerprint.get(fingerprint);
+        if (stats == null) {
+            stats = byFingerprint.size() < maxFingerprints
+                    ? byFingerprint.computeIfAbsent(fingerprint, Stats::new)
+                    : other;
+        }
+        // Statement texts that only differ in literals would otherwise grow this without bound
+        if (bySql.size() < maxFingerprints * 4) {
+            bySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private static void log(boolean slow, String fingerprint, long nanos, boolean failed) {
+        String outcome = failed ? " (failed)" : "";
+        double millis = nanos / 1_000_000.0;
+        if (slow) {
+            logger.warn("Slow SQL{} {} ms: {}", outcome, String.format("%.1f", millis), fingerprint);
+        } else {
+            logger.info("Sampled SQL{} {} ms: {}", outcome, String.format("%.1f", millis), fingerprint);
+        }
+    }
+
+    private static final class Stats {
+        private final String fingerprint;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private Stats(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void add(long nanos, boolean failed) {
+            executions.increment();
+            totalNanos.add(nanos);
+            if (failed) {
+                errors.increment();
+            }
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+        }
+
+        void reset() {
+            executions.reset();
+            errors.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        SqlFingerprintStatsDTO toDTO() {
+            long count = executions.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new SqlFingerprintStatsDTO(fingerprint, count, errors.sum(),
+                    total, count == 0 ? 0 : total / count, maxNanos.get() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,584 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.repository.DueMinuteCount;
+import com.learning.taskmanagement.repository.StatusCount;
+import com.learning.taskmanagement.repository.TaskChangeBatch;
+import com.learning.taskmanagement.repository.TaskChangeRow;
+import com.learning.taskmanagement.repository.TaskDueDate;
+import com.learning.taskmanagement.repository.TaskListVersion;
+import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.repository.TaskRowChange;
+import com.learning.taskmanagement.repository.TaskSearchHit;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * TaskRepository answered from the in-memory task store instead of Postgres.
+ *
+ * Learning Points:
+ * 1. Every query of the JPA repository maps onto one of the store's indexes, so
+ *    pages, status pages, due dates and the change stream stay range scans
+ * 2. Entities come from the store's unit of work, so TaskServiceImpl can keep
+ *    changing loaded tasks and relying on the flush to write them
+ * 3. The native single-statement writes become one store write each, with the
+ *    same results: the old and new row, or nothing when the version is stale
+ * 4. Search scans every task and prefix-matches words of the title and
+ *    description; there is no stemming and no trigram fallback for typos
+ * 5. Queries that Spring Data builds from Sort, Pageable or Example are not
+ *    offered, since nothing in the application uses them
+ */
+public class InMemoryTaskRepository implements TaskRepository {
+    private static final Set<TaskStatus> FINISHED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    private static final Set<TaskStatus> OPEN = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+    private static final Comparator<TaskSearchHit> BEST_FIRST = Comparator
+            .comparing(TaskSearchHit::getRank, Comparator.reverseOrder())
+            .thenComparing(hit -> hit.getTask().getId(), TaskStore.UUID_ORDER);
+
+    private final TaskStore store;
+
+    public InMemoryTaskRepository(TaskStore store) {
+        this.store = store;
+    }
+
+    // Derived and JPQL queries
+
+    @Override
+    public List<Task> findByStatus(TaskStatus status) {
+        store.flush();
+        return store.byStatus(status, null, null).stream().map(store::entity).toList();
+    }
+
+    @Override
+    public List<Task> findByDueDateBefore(LocalDateTime date) {
+        store.flush();
+        return store.dueBefore(date).stream().map(store::entity).toList();
+    }
+
+    @Override
+    public List<TaskDTO> findPage(Limit limit) {
+        return page(store.byCreated(null, null), limit);
+    }
+
+    @Override
+    public List<TaskDTO> findPageByStatus(TaskStatus status, Limit limit) {
+        return page(store.byStatus(status, null, null), limit);
+    }
+
+    @Override
+    public List<TaskDTO> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit) {
+        return page(store.byCreated(createdAt, id), limit);
+    }
+
+    @Override
+    public List<TaskDTO> findPageByStatusAfter(TaskStatus status, LocalDateTime createdAt, UUID id, Limit limit) {
+        return page(store.byStatus(status, createdAt, id), limit);
+    }
+
+    @Override
+    public List<StatusCount> countByStatus() {
+        store.flush();
+        return countByStatus(store.tasks());
+    }
+
+    @Override
+    public List<StatusCount> countArchivedByStatus() {
+        store.flush();
+        return countByStatus(store.archived());
+    }
+
+    @Override
+    public List<DueMinuteCount> countOpenByDueMinute() {
+        store.flush();
+        Map<Long, Long> counts = new HashMap<>();
+        for (TaskRow row : store.tasks()) {
+            if (OPEN.contains(row.getStatus()) && row.getDueDate() != null) {
+                long minute = Math.floorDiv(row.getDueDate().toEpochSecond(ZoneOffset.UTC), 60);
+                counts.merge(minute, 1L, Long::sum);
+            }
+        }
+        List<DueMinuteCount> result = new ArrayList<>(counts.size());
+        counts.forEach((minute, count) -> result.add(new MinuteCount(minute, count)));
+        return result;
+    }
+
+    @Override
+    public long countByStatusInAndDueDateIsNull(Collection<TaskStatus> statuses) {
+        store.flush();
+        return store.tasks().stream()
+                .filter(row -> statuses.contains(row.getStatus()) && row.getDueDate() == null)
+                .count();
+    }
+
+    @Override
+    public TaskListVersion findListVersion() {
+        store.flush();
+        return listVersion(store.tasks().stream());
+    }
+
+    @Override
+    public TaskListVersion findListVersionByStatus(TaskStatus status) {
+        store.flush();
+        return listVersion(store.byStatus(status, null, null).stream());
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        store.flush();
+        return Stream.concat(store.tasks().stream(), store.archived().stream()).map(store::entity);
+    }
+
+    @Override
+    public Stream<TaskDueDate> streamDueAfter(Collection<TaskStatus> statuses, LocalDateTime after) {
+        store.flush();
+        return store.dueAfter(after)
+                .filter(row -> statuses.contains(row.getStatus()))
+                .map(row -> new DueDate(row.getId(), row.getDueDate()));
+    }
+
+    // Native statements
+
+    @Override
+    public int archiveFinishedBefore(LocalDateTime cutoff, int limit) {
+        return store.write(work -> {
+            List<TaskRow> finished = store.tasks().stream()
+                    .filter(row -> FINISHED.contains(row.getStatus()) && row.getUpdatedAt().isBefore(cutoff))
+                    .limit(limit)
+                    .toList();
+            // Moved without a tombstone, as the archive trigger skips rows the same statement archived
+            for (TaskRow row : finished) {
+                store.removeTask(work, row.getId());
+                store.putArchived(work, row);
+                work.detach(row.getId());
+            }
+            return finished.size();
+        });
+    }
+
+    @Override
+    public int restoreArchived(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return store.write(work -> {
+            int restored = 0;
+            for (UUID id : ids) {
+                TaskRow row = store.removeArchived(work, id);
+                if (row != null) {
+                    store.putTask(work, row);
+                    restored++;
+                }
+            }
+            return restored;
+        });
+    }
+
+    @Override
+    public int deleteTombstonesBefore(LocalDateTime cutoff) {
+        return store.write(work -> {
+            List<UUID> expired = store.tombstones().stream()
+                    .filter(tombstone -> tombstone.getDeletedAt().isBefore(cutoff))
+                    .map(Tombstone::getId)
+                    .toList();
+            expired.forEach(id -> store.removeTombstone(work, id));
+            return expired.size();
+        });
+    }
+
+    // TaskRepositoryCustom
+
+    @Override
+    public Optional<TaskDTO> findDtoById(UUID id) {
+        store.flush();
+        TaskRow row = store.get(id);
+        if (row == null) {
+            row = store.getArchived(id);
+        }
+        return Optional.ofNullable(row).map(TaskRow::toDTO);
+    }
+
+    @Override
+    public Optional<TaskRowChange> patch(UUID id, TaskPatchDTO patch) {
+        return store.write(work -> {
+            TaskRow old = store.get(id);
+            if (old == null || (patch.getVersion() != null && patch.getVersion() != old.getVersion())) {
+                return Optional.empty();
+            }
+            TaskRow updated = store.putTask(work, old.updated(
+                    patch.hasTitle() ? patch.getTitle() : old.getTitle(),
+                    patch.hasDescription() ? patch.getDescription() : old.getDescription(),
+                    patch.hasStatus() ? patch.getStatus() : old.getStatus(),
+                    patch.hasDueDate() ? patch.getDueDate() : old.getDueDate(),
+                    work.getStartedAt()));
+            return Optional.of(new TaskRowChange(old.toDTO(), updated.toDTO()));
+        });
+    }
+
+    @Override
+    public Optional<TaskDTO> deleteReturning(UUID id) {
+        return store.write(work -> Optional.ofNullable(store.deleteTask(work, id)).map(TaskRow::toDTO));
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String text, Float afterRank, UUID afterId, int limit) {
+        List<String> terms = words(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        store.flush();
+        List<TaskSearchHit> hits = new ArrayList<>();
+        for (TaskRow row : store.tasks()) {
+            float rank = rank(terms, words(row.getTitle()), words(row.getDescription()));
+            if (rank > 0 && (afterRank == null || rank < afterRank
+                    || (rank == afterRank && TaskStore.UUID_ORDER.compare(row.getId(), afterId) > 0))) {
+                hits.add(new TaskSearchHit(row.toDTO(), rank));
+            }
+        }
+        return hits.stream().sorted(BEST_FIRST).limit(limit).toList();
+    }
+
+    @Override
+    public TaskChangeBatch changesSince(long floorXid, Long afterXid, UUID afterId, int limit) {
+        // Read before the rows, so nothing a transaction still open may write is handed out
+        long visibleBelow = store.visibleXidLimit();
+        long fromXid = afterXid == null ? floorXid : afterXid;
+        List<TaskChangeRow> rows = new ArrayList<>();
+        store.tasksChangedFrom(fromXid, afterId).stream()
+                .takeWhile(row -> row.getChangeXid() < visibleBelow)
+                .limit(limit)
+                .forEach(row -> rows.add(new TaskChangeRow(row.getId(), row.getChangeXid(), row.toDTO())));
+        store.tombstonesFrom(fromXid, afterId).stream()
+                .takeWhile(tombstone -> tombstone.getChangeXid() < visibleBelow)
+                .limit(limit)
+                .forEach(tombstone -> rows.add(new TaskChangeRow(tombstone.getId(), tombstone.getChangeXid(), null)));
+        rows.sort(Comparator.comparingLong(TaskChangeRow::getChangeXid)
+                .thenComparing(TaskChangeRow::getId, TaskStore.UUID_ORDER));
+        return new TaskChangeBatch(rows.size() > limit ? rows.subList(0, limit) : rows, visibleBelow);
+    }
+
+    @Override
+    public List<TaskRowChange> updateStatuses(Map<UUID, TaskStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+        return store.write(work -> {
+            List<TaskRowChange> changes = new ArrayList<>();
+            statuses.keySet().stream().sorted(TaskStore.UUID_ORDER).forEach(id -> {
+                TaskRow old = store.get(id);
+                TaskStatus status = statuses.get(id);
+                if (old != null && old.getStatus() != status) {
+                    TaskRow updated = store.putTask(work, old.updated(old.getTitle(), old.getDescription(), status,
+                            old.getDueDate(), work.getStartedAt()));
+                    changes.add(new TaskRowChange(old.toDTO(), updated.toDTO()));
+                }
+            });
+            return changes;
+        });
+    }
+
+    // JpaRepository
+
+    @Override
+    public <S extends Task> S save(S entity) {
+        return store.save(entity);
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(store.save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends Task> S saveAndFlush(S entity) {
+        S saved = store.save(entity);
+        store.flush();
+        return saved;
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAllAndFlush(Iterable<S> entities) {
+        List<S> saved = saveAll(entities);
+        store.flush();
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(UUID id) {
+        store.flush();
+        return Optional.ofNullable(store.get(id)).map(store::entity);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        store.flush();
+        return store.get(id) != null;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        store.flush();
+        return store.byCreated(null, null).stream().map(store::entity).toList();
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<UUID> ids) {
+        store.flush();
+        List<Task> found = new ArrayList<>();
+        for (UUID id : ids) {
+            TaskRow row = store.get(id);
+            if (row != null) {
+                found.add(store.entity(row));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public long count() {
+        store.flush();
+        return store.tasks().size();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        store.write(work -> store.deleteTask(work, id));
+    }
+
+    @Override
+    public void delete(Task entity) {
+        store.delete(entity);
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        store.write(work -> {
+            ids.forEach(id -> store.deleteTask(work, id));
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Task> entities) {
+        entities.forEach(store::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAll(findAll());
+    }
+
+    @Override
+    public void flush() {
+        store.flush();
+    }
+
+    // Bulk deletes skip the version check, like the JPQL DELETE they stand for
+    @Override
+    public void deleteAllInBatch(Iterable<Task> entities) {
+        store.write(work -> {
+            entities.forEach(entity -> store.deleteTask(work, entity.getId()));
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<UUID> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        store.write(work -> {
+            store.tasks().stream().map(TaskRow::getId).toList().forEach(id -> store.deleteTask(work, id));
+            return null;
+        });
+    }
+
+    @Override
+    @Deprecated
+    public Task getOne(UUID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Task getById(UUID id) {
+        return getReferenceById(id);
+    }
+
+    // Loaded at once rather than as a lazy proxy
+    @Override
+    public Task getReferenceById(UUID id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Unable to find Task with id " + id));
+    }
+
+    @Override
+    public List<Task> findAll(Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends Task, R> R findBy(Example<S> example,
+                                        Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private List<TaskDTO> page(Collection<TaskRow> rows, Limit limit) {
+        store.flush();
+        Stream<TaskRow> page = rows.stream();
+        if (limit.isLimited()) {
+            page = page.limit(limit.max());
+        }
+        return page.map(TaskRow::toDTO).toList();
+    }
+
+    private static List<StatusCount> countByStatus(Collection<TaskRow> rows) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        rows.forEach(row -> counts.merge(row.getStatus(), 1L, Long::sum));
+        List<StatusCount> result = new ArrayList<>(counts.size());
+        counts.forEach((status, count) -> result.add(new Count(status, count)));
+        return result;
+    }
+
+    private static TaskListVersion listVersion(Stream<TaskRow> rows) {
+        long[] count = new long[1];
+        LocalDateTime lastUpdated = rows.peek(row -> count[0]++)
+                .map(TaskRow::getUpdatedAt)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new ListVersion(count[0], lastUpdated);
+    }
+
+    // Terms are weighted by where they match and averaged, so a task matching every term in its title ranks 1.0
+    private static float rank(List<String> terms, List<String> title, List<String> description) {
+        float total = 0;
+        for (String term : terms) {
+            if (matches(term, title)) {
+                total += TITLE_WEIGHT;
+            } else if (matches(term, description)) {
+                total += DESCRIPTION_WEIGHT;
+            } else {
+                return 0;
+            }
+        }
+        return total / terms.size();
+    }
+
+    private static boolean matches(String term, List<String> words) {
+        for (String word : words) {
+            if (word.startsWith(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The same word split as the tsquery built for Postgres
+    private static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the in-memory task store");
+    }
+
+    private record Count(TaskStatus status, long count) implements StatusCount {
+        @Override
+        public TaskStatus getStatus() { return status; }
+        @Override
+        public long getCount() { return count; }
+    }
+
+    private record MinuteCount(long minute, long count) implements DueMinuteCount {
+        @Override
+        public long getMinute() { return minute; }
+        @Override
+        public long getCount() { return count; }
+    }
+
+    private record ListVersion(long count, LocalDateTime lastUpdated) implements TaskListVersion {
+        @Override
+        public long getCount() { return count; }
+        @Override
+        public LocalDateTime getLastUpdated() { return lastUpdated; }
+    }
+
+    private record DueDate(UUID id, LocalDateTime dueDate) implements TaskDueDate {
+        @Override
+        public UUID getId() { return id; }
+        @Override
+        public LocalDateTime getDueDate() { return dueDate; }
+    }
+}
@@ -0,0 +1,106 @@
+package com.learning.taskmanagement.memory;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+
+/**
+ * Spring transaction manager for the in-memory task store, so @Transactional works as it does with JPA.
+ *
+ * Learning Points:
+ * 1. AbstractPlatformTransactionManager handles propagation, suspension and
+ *    synchronizations; a subclass only begins, commits and rolls back
+ * 2. The store's unit of work is bound to the thread with the store as key,
+ *    the way JpaTransactionManager binds an EntityManager to its factory
+ * 3. The transaction timeout, or tasks.memory.lock-timeout, bounds the wait
+ *    for the store's write lock
+ */
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+    private final TaskStore store;
+
+    public InMemoryTransactionManager(TaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new StoreTransaction(store.current());
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((StoreTransaction) transaction).work != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        int timeout = determineTimeout(definition);
+        Duration lockTimeout = timeout == TransactionDefinition.TIMEOUT_DEFAULT ?
+                store.getLockTimeout() : Duration.ofSeconds(timeout);
+        UnitOfWork work;
+        try {
+            work = store.begin(definition.isReadOnly(), lockTimeout);
+        } catch (CannotAcquireLockException e) {
+            throw new CannotCreateTransactionException(e.getMessage(), e);
+        }
+        ((StoreTransaction) transaction).work = work;
+        TransactionSynchronizationManager.bindResource(store, work);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((StoreTransaction) transaction).work = null;
+        return TransactionSynchronizationManager.unbindResource(store);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(store, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        store.commit(((StoreTransaction) status.getTransaction()).work);
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        store.rollback(((StoreTransaction) status.getTransaction()).work);
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((StoreTransaction) status.getTransaction()).work.setRollbackOnly();
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(store);
+        ((StoreTransaction) transaction).work = null;
+    }
+
+    private final class StoreTransaction implements SmartTransactionObject {
+        private UnitOfWork work;
+
+        StoreTransaction(UnitOfWork work) {
+            this.work = work;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return work != null && work.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+            if (work != null) {
+                store.flush(work);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable image of one stored task, the in-memory counterpart of a tasks row.
+ *
+ * Learning Points:
+ * 1. Rows are never changed in place; a write stores a new row, so readers
+ *    holding the old one always see a consistent task
+ * 2. changeXid plays the part of the change_xid column: the write transaction
+ *    that last stored the row
+ * 3. The same binary form is used by the log and by snapshots
+ * 4. The NOT NULL columns are checked when a row is built, so a bad write fails
+ *    before it reaches the maps, the log or a snapshot
+ */
+final class TaskRow {
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final long version;
+    private final long changeXid;
+
+    TaskRow(UUID id, String title, String description, TaskStatus status, LocalDateTime dueDate,
+            LocalDateTime createdAt, LocalDateTime updatedAt, long version, long changeXid) {
+        requireColumn(id, "id");
+        requireColumn(title, "title");
+        requireColumn(status, "status");
+        requireColumn(createdAt, "created_at");
+        requireColumn(updatedAt, "updated_at");
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.changeXid = changeXid;
+    }
+
+    // Worded like the Postgres error, which Spring translates to the same exception
+    private static void requireColumn(Object value, String column) {
+        if (value == null) {
+            throw new DataIntegrityViolationException(
+                    "null value in column \"" + column + "\" of relation \"tasks\" violates not-null constraint");
+        }
+    }
+
+    static TaskRow of(Task task) {
+        return new TaskRow(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getVersion(), 0);
+    }
+
+    UUID getId() { return id; }
+    String getTitle() { return title; }
+    String getDescription() { return description; }
+    TaskStatus getStatus() { return status; }
+    LocalDateTime getDueDate() { return dueDate; }
+    LocalDateTime getCreatedAt() { return createdAt; }
+    LocalDateTime getUpdatedAt() { return updatedAt; }
+    long getVersion() { return version; }
+    long getChangeXid() { return changeXid; }
+
+    // The same task with new field values, as an UPDATE would leave it
+    TaskRow updated(String title, String description, TaskStatus status, LocalDateTime dueDate,
+                    LocalDateTime updatedAt) {
+        return new TaskRow(id, title, description, status, dueDate, createdAt, updatedAt, version + 1, changeXid);
+    }
+
+    TaskRow withChangeXid(long changeXid) {
+        return new TaskRow(id, title, description, status, dueDate, createdAt, updatedAt, version, changeXid);
+    }
+
+    // True when the entity carries field values this row does not have
+    boolean differsFrom(Task task) {
+        return !Objects.equals(title, task.getTitle())
+                || !Objects.equals(description, task.getDescription())
+                || status != task.getStatus()
+                || !Objects.equals(dueDate, task.getDueDate());
+    }
+
+    TaskDTO toDTO() {
+        return new TaskDTO(id, title, description, status, dueDate, createdAt, updatedAt, version);
+    }
+
+    Task toTask() {
+        return new Task(id, title, description, status, dueDate, createdAt, updatedAt, version);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        writeId(out, id);
+        writeString(out, title);
+        writeString(out, description);
+        writeString(out, status.name());
+        writeTime(out, dueDate);
+        writeTime(out, createdAt);
+        writeTime(out, updatedAt);
+        out.writeLong(version);
+        out.writeLong(changeXid);
+    }
+
+    static TaskRow readFrom(DataInput in) throws IOException {
+        return new TaskRow(readId(in), readString(in), readString(in), TaskStatus.valueOf(readString(in)),
+                readTime(in), readTime(in), readTime(in), in.readLong(), in.readLong());
+    }
+
+    static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readId(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    // Length-prefixed UTF-8, since writeUTF stops at 64 KB and descriptions are unbounded
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeTime(DataOutput out, LocalDateTime time) throws IOException {
+        out.writeBoolean(time != null);
+        if (time != null) {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    static LocalDateTime readTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
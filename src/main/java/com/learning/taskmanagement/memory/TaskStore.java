@@ -0,0 +1,742 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Task storage engine that keeps every task in memory and makes commits durable through a write-ahead log.
+ *
+ * Learning Points:
+ * 1. Besides the id map, tasks are kept in ordered indexes: by (createdAt, id)
+ *    overall and per status, by (dueDate, id) and by (changeXid, id). Each is a
+ *    concurrent skip list, so the keyset queries of the JPA repository are
+ *    range scans here as well
+ * 2. Write transactions run one at a time under a lock and change the maps in
+ *    place. Readers never lock and may see the open write transaction's rows
+ *    before it commits; only the change stream stops below it
+ * 3. At commit the transaction's redo records become one checksummed log
+ *    record, forced to disk before the commit returns unless sync is off
+ * 4. A rollback puts the old rows back stamped with its own transaction id,
+ *    so a sync that ran meanwhile, and missed them, picks them up again
+ * 5. A snapshot holds the lock only to start a new log generation and copy the
+ *    maps; it is written beside the log, renamed into place, and then every
+ *    older file is deleted
+ * 6. Recovery loads the newest intact snapshot and replays every log generation
+ *    from it on, stopping at a torn record
+ */
+public class TaskStore implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TaskStore.class);
+    static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int SNAPSHOT_MAGIC = 0x54534B31;
+
+    private static final byte PUT_TASK = 1;
+    private static final byte REMOVE_TASK = 2;
+    private static final byte PUT_ARCHIVED = 3;
+    private static final byte REMOVE_ARCHIVED = 4;
+    private static final byte PUT_TOMBSTONE = 5;
+    private static final byte REMOVE_TOMBSTONE = 6;
+
+    // Postgres compares uuids as unsigned bytes, so pages come out in the same order as there
+    static final Comparator<UUID> UUID_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+    // A null id sorts before every task at the same position, for seeking to a time or transaction
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::at)
+            .thenComparing(Key::id, Comparator.nullsFirst(UUID_ORDER));
+    private static final Comparator<ChangeKey> CHANGE_ORDER = Comparator.comparingLong(ChangeKey::xid)
+            .thenComparing(ChangeKey::id, Comparator.nullsFirst(UUID_ORDER));
+
+    private final Path directory;
+    private final boolean sync;
+    private final Duration lockTimeout;
+    private final Clock clock;
+    private final Map<UUID, TaskRow> tasks = new ConcurrentHashMap<>();
+    private final Map<UUID, TaskRow> archived = new ConcurrentHashMap<>();
+    private final Map<UUID, Tombstone> tombstones = new ConcurrentHashMap<>();
+    private final NavigableMap<Key, TaskRow> byCreated = new ConcurrentSkipListMap<>(KEY_ORDER);
+    private final Map<TaskStatus, NavigableMap<Key, TaskRow>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final NavigableMap<Key, TaskRow> byDueDate = new ConcurrentSkipListMap<>(KEY_ORDER);
+    private final NavigableMap<ChangeKey, TaskRow> changedTasks = new ConcurrentSkipListMap<>(CHANGE_ORDER);
+    private final NavigableMap<ChangeKey, Tombstone> changedTombstones = new ConcurrentSkipListMap<>(CHANGE_ORDER);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object snapshotLock = new Object();
+    private final WriteAheadLog log;
+    private volatile long nextXid = 1;
+    // The outermost open write transaction, or zero
+    private volatile long activeXid;
+    private volatile boolean changedSinceSnapshot;
+
+    public TaskStore(Path directory, int logCapacity, boolean sync, Duration lockTimeout) throws IOException {
+        this(directory, logCapacity, sync, lockTimeout, Clock.systemDefaultZone());
+    }
+
+    TaskStore(Path directory, int logCapacity, boolean sync, Duration lockTimeout, Clock clock) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.sync = sync;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListMap<>(KEY_ORDER));
+        }
+        this.log = new WriteAheadLog(directory, recover() + 1, logCapacity);
+    }
+
+    // Transactions
+
+    public Duration getLockTimeout() {
+        return lockTimeout;
+    }
+
+    // The transaction bound to this thread by InMemoryTransactionManager, or null
+    UnitOfWork current() {
+        return (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+    }
+
+    UnitOfWork begin(boolean readOnly, Duration timeout) {
+        if (readOnly) {
+            return new UnitOfWork(true, 0, 0, LocalDateTime.now(clock));
+        }
+        try {
+            if (!writeLock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException("No write access to the task store within " + timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Interrupted waiting for write access to the task store", e);
+        }
+        long xid = nextXid++;
+        long enclosing = activeXid;
+        if (enclosing == 0) {
+            activeXid = xid;
+        }
+        return new UnitOfWork(false, xid, enclosing, LocalDateTime.now(clock));
+    }
+
+    void commit(UnitOfWork work) {
+        if (work.isReadOnly()) {
+            work.finish();
+            return;
+        }
+        long ticket = 0;
+        try {
+            flush(work);
+            if (work.getRedoCount() > 0) {
+                ticket = log.append(work.redoRecord());
+                changedSinceSnapshot = true;
+            }
+        } catch (IOException e) {
+            rollback(work);
+            throw new DataAccessResourceFailureException("Could not log task store commit", e);
+        } catch (RuntimeException e) {
+            rollback(work);
+            throw e;
+        }
+        release(work);
+        // Outside the lock, so the next writer can go ahead while this one waits for the disk
+        if (sync && ticket > 0) {
+            log.sync(ticket);
+        }
+    }
+
+    void rollback(UnitOfWork work) {
+        if (!work.isReadOnly() && !work.isFinished()) {
+            work.undo();
+        }
+        release(work);
+    }
+
+    private void release(UnitOfWork work) {
+        if (work.isFinished()) {
+            return;
+        }
+        work.finish();
+        if (!work.isReadOnly()) {
+            activeXid = work.getEnclosingXid();
+            writeLock.unlock();
+        }
+    }
+
+    // Runs the action in this thread's write transaction, or in one of its own that commits right after
+    <T> T write(Function<UnitOfWork, T> action) {
+        UnitOfWork current = current();
+        if (current != null) {
+            if (current.isReadOnly()) {
+                throw new InvalidDataAccessApiUsageException("Cannot write tasks in a read-only transaction");
+            }
+            flush(current);
+            return action.apply(current);
+        }
+        UnitOfWork work = begin(false, lockTimeout);
+        try {
+            T result = action.apply(work);
+            commit(work);
+            return result;
+        } catch (RuntimeException | Error e) {
+            rollback(work);
+            throw e;
+        }
+    }
+
+    // Entities
+
+    // Changed entities of the transaction are written back, checking their version like Hibernate does
+    void flush(UnitOfWork work) {
+        if (work.isReadOnly()) {
+            return;
+        }
+        for (UnitOfWork.Managed managed : work.allManaged()) {
+            Task entity = managed.getEntity();
+            TaskRow loaded = managed.getLoaded();
+            if (!loaded.differsFrom(entity)) {
+                continue;
+            }
+            TaskRow current = tasks.get(entity.getId());
+            if (current == null || current.getVersion() != loaded.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, entity.getId());
+            }
+            managed.setLoaded(putTask(work, current.updated(entity.getTitle(), entity.getDescription(),
+                    entity.getStatus(), entity.getDueDate(), work.getStartedAt())));
+        }
+    }
+
+    // Before queries too, so they see the transaction's entity changes as with Hibernate's AUTO flush mode
+    void flush() {
+        UnitOfWork work = current();
+        if (work != null) {
+            flush(work);
+        }
+    }
+
+    // Write transactions get the same instance for the same id each time, and flush its changes
+    Task entity(TaskRow row) {
+        UnitOfWork work = current();
+        if (work == null || work.isReadOnly()) {
+            return row.toTask();
+        }
+        UnitOfWork.Managed managed = work.managed(row.getId());
+        if (managed != null) {
+            return managed.getEntity();
+        }
+        Task entity = row.toTask();
+        work.manage(entity, row);
+        return entity;
+    }
+
+    <S extends Task> S save(S entity) {
+        return write(work -> {
+            UUID id = entity.getId();
+            UnitOfWork.Managed managed = work.managed(id);
+            if (managed != null) {
+                if (managed.getEntity() != entity) {
+                    copyFields(entity, managed.getEntity());
+                }
+                return entity;
+            }
+            TaskRow current = tasks.get(id);
+            if (entity.isNew()) {
+                if (current != null || archived.containsKey(id)) {
+                    throw new DuplicateKeyException("Task " + id + " already exists");
+                }
+                work.manage(entity, putTask(work, TaskRow.of(entity)));
+                return entity;
+            }
+            // A detached task: its changes are merged into the stored row if that is still the version it came from
+            if (current == null || current.getVersion() != entity.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, id);
+            }
+            work.manage(entity, current);
+            return entity;
+        });
+    }
+
+    void delete(Task entity) {
+        write(work -> {
+            UUID id = entity.getId();
+            TaskRow current = tasks.get(id);
+            if (current == null) {
+                return null;
+            }
+            UnitOfWork.Managed managed = work.managed(id);
+            long expected = managed != null ? managed.getLoaded().getVersion() : entity.getVersion();
+            if (current.getVersion() != expected) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, id);
+            }
+            deleteTask(work, id);
+            return null;
+        });
+    }
+
+    void detach(Task entity) {
+        UnitOfWork work = current();
+        if (work != null) {
+            work.detach(entity.getId());
+        }
+    }
+
+    // Forgets every entity without writing unflushed changes, like EntityManager.clear()
+    void clear() {
+        UnitOfWork work = current();
+        if (work != null) {
+            work.clear();
+        }
+    }
+
+    boolean contains(Task entity) {
+        UnitOfWork work = current();
+        UnitOfWork.Managed managed = work == null ? null : work.managed(entity.getId());
+        return managed != null && managed.getEntity() == entity;
+    }
+
+    private static void copyFields(Task source, Task target) {
+        target.setTitle(source.getTitle());
+        target.setDescription(source.getDescription());
+        target.setStatus(source.getStatus());
+        target.setDueDate(source.getDueDate());
+    }
+
+    // Reads
+
+    TaskRow get(UUID id) {
+        return tasks.get(id);
+    }
+
+    TaskRow getArchived(UUID id) {
+        return archived.get(id);
+    }
+
+    Collection<TaskRow> tasks() {
+        return tasks.values();
+    }
+
+    Collection<TaskRow> archived() {
+        return archived.values();
+    }
+
+    Collection<Tombstone> tombstones() {
+        return tombstones.values();
+    }
+
+    // Ordered by (createdAt, id), starting after the given position, or at the start when createdAt is null
+    Collection<TaskRow> byCreated(LocalDateTime createdAt, UUID id) {
+        return createdAt == null ? byCreated.values() : byCreated.tailMap(new Key(createdAt, id), false).values();
+    }
+
+    Collection<TaskRow> byStatus(TaskStatus status, LocalDateTime createdAt, UUID id) {
+        NavigableMap<Key, TaskRow> index = byStatus.get(status);
+        return createdAt == null ? index.values() : index.tailMap(new Key(createdAt, id), false).values();
+    }
+
+    Collection<TaskRow> dueBefore(LocalDateTime date) {
+        return byDueDate.headMap(new Key(date, null), false).values();
+    }
+
+    Stream<TaskRow> dueAfter(LocalDateTime date) {
+        return byDueDate.tailMap(new Key(date, null), true).values().stream()
+                .filter(row -> row.getDueDate().isAfter(date));
+    }
+
+    // In (changeXid, id) order from transaction xid on, or after (xid, id) when id is given
+    Collection<TaskRow> tasksChangedFrom(long xid, UUID id) {
+        return changedTasks.tailMap(new ChangeKey(xid, id), false).values();
+    }
+
+    Collection<Tombstone> tombstonesFrom(long xid, UUID id) {
+        return changedTombstones.tailMap(new ChangeKey(xid, id), false).values();
+    }
+
+    // Every transaction below this one has committed or rolled back; read before the rows it guards
+    long visibleXidLimit() {
+        long next = nextXid;
+        long active = activeXid;
+        return active != 0 ? Math.min(active, next) : next;
+    }
+
+    // Writes, called inside write()
+
+    // Each undo is registered before the change, so a change that fails part way is rolled back too
+    TaskRow putTask(UnitOfWork work, TaskRow row) {
+        TaskRow stamped = row.withChangeXid(work.getXid());
+        TaskRow previous = tasks.get(stamped.getId());
+        work.onRollback(() -> applyTask(stamped.getId(), restamped(previous, work)));
+        applyTask(stamped.getId(), stamped);
+        redo(work, PUT_TASK, stamped::writeTo);
+        return stamped;
+    }
+
+    TaskRow removeTask(UnitOfWork work, UUID id) {
+        TaskRow previous = tasks.get(id);
+        if (previous != null) {
+            work.onRollback(() -> applyTask(id, restamped(previous, work)));
+            applyTask(id, null);
+            redo(work, REMOVE_TASK, out -> TaskRow.writeId(out, id));
+        }
+        return previous;
+    }
+
+    // Removes the task and leaves a tombstone for the change stream
+    TaskRow deleteTask(UnitOfWork work, UUID id) {
+        TaskRow deleted = removeTask(work, id);
+        if (deleted != null) {
+            putTombstone(work, new Tombstone(id, work.getStartedAt(), work.getXid()));
+            work.detach(id);
+        }
+        return deleted;
+    }
+
+    void putArchived(UnitOfWork work, TaskRow row) {
+        TaskRow previous = archived.get(row.getId());
+        work.onRollback(() -> applyArchived(row.getId(), previous));
+        applyArchived(row.getId(), row);
+        redo(work, PUT_ARCHIVED, row::writeTo);
+    }
+
+    TaskRow removeArchived(UnitOfWork work, UUID id) {
+        TaskRow previous = archived.get(id);
+        if (previous != null) {
+            work.onRollback(() -> applyArchived(id, previous));
+            applyArchived(id, null);
+            redo(work, REMOVE_ARCHIVED, out -> TaskRow.writeId(out, id));
+        }
+        return previous;
+    }
+
+    void putTombstone(UnitOfWork work, Tombstone tombstone) {
+        Tombstone previous = tombstones.get(tombstone.getId());
+        work.onRollback(() -> applyTombstone(tombstone.getId(), previous));
+        applyTombstone(tombstone.getId(), tombstone);
+        redo(work, PUT_TOMBSTONE, tombstone::writeTo);
+    }
+
+    Tombstone removeTombstone(UnitOfWork work, UUID id) {
+        Tombstone previous = tombstones.get(id);
+        if (previous != null) {
+            work.onRollback(() -> applyTombstone(id, previous));
+            applyTombstone(id, null);
+            redo(work, REMOVE_TOMBSTONE, out -> TaskRow.writeId(out, id));
+        }
+        return previous;
+    }
+
+    private static TaskRow restamped(TaskRow row, UnitOfWork work) {
+        return row == null ? null : row.withChangeXid(work.getXid());
+    }
+
+    private static void redo(UnitOfWork work, byte code, Operation operation) {
+        try {
+            DataOutput out = work.redo();
+            out.writeByte(code);
+            operation.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The maps and indexes, without undo or redo
+
+    private TaskRow applyTask(UUID id, TaskRow row) {
+        TaskRow previous = row == null ? tasks.remove(id) : tasks.put(id, row);
+        if (row != null) {
+            Key created = new Key(row.getCreatedAt(), id);
+            byCreated.put(created, row);
+            byStatus.get(row.getStatus()).put(created, row);
+            if (row.getDueDate() != null) {
+                byDueDate.put(new Key(row.getDueDate(), id), row);
+            }
+            changedTasks.put(new ChangeKey(row.getChangeXid(), id), row);
+        }
+        // Conditional removes, so an entry the new row just took over stays; an undo
+        // of a change that failed before reaching the map puts back the same row
+        if (previous != null && previous != row) {
+            Key created = new Key(previous.getCreatedAt(), id);
+            byCreated.remove(created, previous);
+            byStatus.get(previous.getStatus()).remove(created, previous);
+            if (previous.getDueDate() != null) {
+                byDueDate.remove(new Key(previous.getDueDate(), id), previous);
+            }
+            changedTasks.remove(new ChangeKey(previous.getChangeXid(), id), previous);
+        }
+        return previous;
+    }
+
+    private void applyArchived(UUID id, TaskRow row) {
+        if (row == null) {
+            archived.remove(id);
+        } else {
+            archived.put(id, row);
+        }
+    }
+
+    private Tombstone applyTombstone(UUID id, Tombstone tombstone) {
+        Tombstone previous = tombstone == null ? tombstones.remove(id) : tombstones.put(id, tombstone);
+        if (tombstone != null) {
+            changedTombstones.put(new ChangeKey(tombstone.getChangeXid(), id), tombstone);
+        }
+        if (previous != null) {
+            changedTombstones.remove(new ChangeKey(previous.getChangeXid(), id), previous);
+        }
+        return previous;
+    }
+
+    // Snapshots and recovery
+
+    // Writes the current state and deletes the log it replaces; does nothing if nothing was committed since
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long generation;
+            long xid;
+            List<TaskRow> taskRows;
+            List<TaskRow> archivedRows;
+            List<Tombstone> tombstoneRows;
+            writeLock.lock();
+            try {
+                if (!changedSinceSnapshot) {
+                    return;
+                }
+                generation = log.roll();
+                xid = nextXid;
+                taskRows = new ArrayList<>(tasks.values());
+                archivedRows = new ArrayList<>(archived.values());
+                tombstoneRows = new ArrayList<>(tombstones.values());
+                changedSinceSnapshot = false;
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                writeSnapshot(generation, xid, taskRows, archivedRows, tombstoneRows);
+            } catch (IOException | RuntimeException e) {
+                changedSinceSnapshot = true;
+                throw e;
+            }
+            for (Path path : files(directory, WriteAheadLog.SUFFIX)) {
+                if (generation(path, WriteAheadLog.SUFFIX) < generation) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            for (Path path : files(directory, SNAPSHOT_SUFFIX)) {
+                if (generation(path, SNAPSHOT_SUFFIX) < generation) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            logger.info("Task store snapshot {} holds {} tasks, {} archived and {} tombstones",
+                    generation, taskRows.size(), archivedRows.size(), tombstoneRows.size());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            snapshot();
+        } finally {
+            log.close();
+        }
+    }
+
+    private void writeSnapshot(long generation, long xid, List<TaskRow> taskRows, List<TaskRow> archivedRows,
+                               List<Tombstone> tombstoneRows) throws IOException {
+        Path target = file(directory, generation, SNAPSHOT_SUFFIX);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            writeSnapshotFile(temporary, xid, taskRows, archivedRows, tombstoneRows);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeSnapshotFile(Path temporary, long xid, List<TaskRow> taskRows,
+                                          List<TaskRow> archivedRows, List<Tombstone> tombstoneRows)
+            throws IOException {
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(xid);
+            out.writeInt(taskRows.size());
+            for (TaskRow row : taskRows) {
+                row.writeTo(out);
+            }
+            out.writeInt(archivedRows.size());
+            for (TaskRow row : archivedRows) {
+                row.writeTo(out);
+            }
+            out.writeInt(tombstoneRows.size());
+            for (Tombstone tombstone : tombstoneRows) {
+                tombstone.writeTo(out);
+            }
+            out.flush();
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+    }
+
+    // Returns the newest log generation found, so the log continues after it
+    private long recover() throws IOException {
+        for (Path path : files(directory, TEMPORARY_SUFFIX)) {
+            Files.deleteIfExists(path);
+        }
+        List<Path> snapshots = files(directory, SNAPSHOT_SUFFIX);
+        long from = 0;
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            if (loadSnapshot(snapshots.get(i))) {
+                from = generation(snapshots.get(i), SNAPSHOT_SUFFIX);
+                break;
+            }
+        }
+        long newest = from;
+        int replayed = 0;
+        for (Path path : files(directory, WriteAheadLog.SUFFIX)) {
+            long generation = generation(path, WriteAheadLog.SUFFIX);
+            newest = Math.max(newest, generation);
+            if (generation >= from) {
+                replayed += WriteAheadLog.replay(path, this::replay);
+            }
+        }
+        changedSinceSnapshot = replayed > 0;
+        logger.info("Task store recovered {} tasks from snapshot {} and {} logged transactions",
+                tasks.size(), from, replayed);
+        return newest;
+    }
+
+    private boolean loadSnapshot(Path path) throws IOException {
+        List<TaskRow> taskRows = new ArrayList<>();
+        List<TaskRow> archivedRows = new ArrayList<>();
+        List<Tombstone> tombstoneRows = new ArrayList<>();
+        long xid;
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path)), new CRC32C())) {
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                logger.warn("Task store snapshot {} has an unknown format; skipping it", path);
+                return false;
+            }
+            xid = in.readLong();
+            for (int i = in.readInt(); i > 0; i--) {
+                taskRows.add(TaskRow.readFrom(in));
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                archivedRows.add(TaskRow.readFrom(in));
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                tombstoneRows.add(Tombstone.readFrom(in));
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                logger.warn("Task store snapshot {} is corrupt; skipping it", path);
+                return false;
+            }
+        } catch (EOFException e) {
+            logger.warn("Task store snapshot {} is incomplete; skipping it", path);
+            return false;
+        }
+        taskRows.forEach(row -> applyTask(row.getId(), row));
+        archivedRows.forEach(row -> applyArchived(row.getId(), row));
+        tombstoneRows.forEach(tombstone -> applyTombstone(tombstone.getId(), tombstone));
+        nextXid = xid;
+        return true;
+    }
+
+    private void replay(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            long xid = in.readLong();
+            for (int i = in.readInt(); i > 0; i--) {
+                byte code = in.readByte();
+                switch (code) {
+                    case PUT_TASK -> {
+                        TaskRow row = TaskRow.readFrom(in);
+                        applyTask(row.getId(), row);
+                    }
+                    case REMOVE_TASK -> applyTask(TaskRow.readId(in), null);
+                    case PUT_ARCHIVED -> {
+                        TaskRow row = TaskRow.readFrom(in);
+                        applyArchived(row.getId(), row);
+                    }
+                    case REMOVE_ARCHIVED -> applyArchived(TaskRow.readId(in), null);
+                    case PUT_TOMBSTONE -> {
+                        Tombstone tombstone = Tombstone.readFrom(in);
+                        applyTombstone(tombstone.getId(), tombstone);
+                    }
+                    case REMOVE_TOMBSTONE -> applyTombstone(TaskRow.readId(in), null);
+                    default -> throw new IOException("Unknown task log operation " + code);
+                }
+            }
+            nextXid = Math.max(nextXid, xid + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay task log record", e);
+        }
+    }
+
+    static Path file(Path directory, long generation, String suffix) {
+        return directory.resolve(String.format("%019d%s", generation, suffix));
+    }
+
+    private static List<Path> files(Path directory, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(suffix))
+                    .sorted(Comparator.comparingLong(path -> generation(path, suffix)))
+                    .toList();
+        }
+    }
+
+    private static long generation(Path path, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    private interface Operation {
+        void writeTo(DataOutput out) throws IOException;
+    }
+
+    private record Key(LocalDateTime at, UUID id) {
+    }
+
+    private record ChangeKey(long xid, UUID id) {
+    }
+}
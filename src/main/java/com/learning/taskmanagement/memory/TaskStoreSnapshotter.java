@@ -0,0 +1,37 @@
+package com.learning.taskmanagement.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+
+/**
+ * Snapshots the in-memory task store on a timer, which keeps the log to replay at startup short.
+ *
+ * Learning Points:
+ * 1. A failed snapshot loses nothing: the log it would have replaced is kept
+ *    and the next run tries again
+ */
+@Component
+@Profile("memory")
+public class TaskStoreSnapshotter {
+    private static final Logger logger = LoggerFactory.getLogger(TaskStoreSnapshotter.class);
+
+    private final TaskStore store;
+
+    public TaskStoreSnapshotter(TaskStore store) {
+        this.store = store;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.memory.snapshot-interval:PT5M}",
+               initialDelayString = "${tasks.memory.snapshot-interval:PT5M}")
+    public void snapshot() {
+        try {
+            store.snapshot();
+        } catch (IOException e) {
+            logger.warn("Task store snapshot failed; keeping the log until the next one", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.learning.taskmanagement.memory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A deleted task id, kept so the change stream can report the deletion, like a task_tombstones row.
+ */
+final class Tombstone {
+    private final UUID id;
+    private final LocalDateTime deletedAt;
+    private final long changeXid;
+
+    Tombstone(UUID id, LocalDateTime deletedAt, long changeXid) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+        this.changeXid = changeXid;
+    }
+
+    UUID getId() { return id; }
+    LocalDateTime getDeletedAt() { return deletedAt; }
+    long getChangeXid() { return changeXid; }
+
+    void writeTo(DataOutput out) throws IOException {
+        TaskRow.writeId(out, id);
+        TaskRow.writeTime(out, deletedAt);
+        out.writeLong(changeXid);
+    }
+
+    static Tombstone readFrom(DataInput in) throws IOException {
+        return new Tombstone(TaskRow.readId(in), TaskRow.readTime(in), in.readLong());
+    }
+}
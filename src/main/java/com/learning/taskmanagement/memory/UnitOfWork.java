@@ -0,0 +1,126 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * State of one task store transaction: how to undo it, what to log for it, and which entities it handed out.
+ *
+ * Learning Points:
+ * 1. Writes change the store at once; the undo actions put the old rows back
+ *    if the transaction rolls back
+ * 2. The redo records are only logged at commit, so the log never holds a
+ *    transaction that did not commit
+ * 3. Entities handed out by a write transaction are remembered with the row
+ *    they were loaded from, which is what flush compares them against, like a
+ *    JPA persistence context
+ */
+final class UnitOfWork {
+    private final boolean readOnly;
+    private final long xid;
+    private final long enclosingXid;
+    private final LocalDateTime startedAt;
+    private final Deque<Runnable> undo = new ArrayDeque<>();
+    private final ByteArrayOutputStream redoBytes = new ByteArrayOutputStream();
+    private final DataOutputStream redo = new DataOutputStream(redoBytes);
+    private int redoCount;
+    private final Map<UUID, Managed> managed = new LinkedHashMap<>();
+    private boolean rollbackOnly;
+    private boolean finished;
+
+    UnitOfWork(boolean readOnly, long xid, long enclosingXid, LocalDateTime startedAt) {
+        this.readOnly = readOnly;
+        this.xid = xid;
+        this.enclosingXid = enclosingXid;
+        this.startedAt = startedAt;
+    }
+
+    boolean isReadOnly() { return readOnly; }
+    // Zero for read-only transactions
+    long getXid() { return xid; }
+    // The write transaction this one runs inside of on the same thread, or zero
+    long getEnclosingXid() { return enclosingXid; }
+    // Updated rows get this as updated_at, as CURRENT_TIMESTAMP is the transaction start in Postgres
+    LocalDateTime getStartedAt() { return startedAt; }
+
+    boolean isRollbackOnly() { return rollbackOnly; }
+    void setRollbackOnly() { rollbackOnly = true; }
+
+    // Set once the store has released the transaction, so it is never released twice
+    boolean isFinished() { return finished; }
+    void finish() { finished = true; }
+
+    void onRollback(Runnable action) {
+        undo.push(action);
+    }
+
+    void undo() {
+        while (!undo.isEmpty()) {
+            undo.pop().run();
+        }
+    }
+
+    // Caller writes one operation to the returned output
+    DataOutput redo() {
+        redoCount++;
+        return redo;
+    }
+
+    int getRedoCount() { return redoCount; }
+
+    // xid, operation count, then the operations
+    byte[] redoRecord() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(redoBytes.size() + Long.BYTES + Integer.BYTES);
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeLong(xid);
+        record.writeInt(redoCount);
+        redo.flush();
+        redoBytes.writeTo(record);
+        record.flush();
+        return bytes.toByteArray();
+    }
+
+    Managed managed(UUID id) {
+        return managed.get(id);
+    }
+
+    Collection<Managed> allManaged() {
+        return managed.values();
+    }
+
+    void manage(Task entity, TaskRow loaded) {
+        managed.put(entity.getId(), new Managed(entity, loaded));
+    }
+
+    void detach(UUID id) {
+        managed.remove(id);
+    }
+
+    void clear() {
+        managed.clear();
+    }
+
+    static final class Managed {
+        private final Task entity;
+        private TaskRow loaded;
+
+        Managed(Task entity, TaskRow loaded) {
+            this.entity = entity;
+            this.loaded = loaded;
+        }
+
+        Task getEntity() { return entity; }
+        TaskRow getLoaded() { return loaded; }
+        void setLoaded(TaskRow loaded) { this.loaded = loaded; }
+    }
+}
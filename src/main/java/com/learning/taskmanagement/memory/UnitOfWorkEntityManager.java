@@ -0,0 +1,64 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * EntityManager that only manages the in-memory task store's unit of work.
+ *
+ * Learning Points:
+ * 1. TaskServiceImpl uses the EntityManager just to flush, clear and detach;
+ *    backing those with the unit of work lets the service run unchanged
+ * 2. A JDK proxy implements the interface without stubbing its other sixty
+ *    methods, which throw UnsupportedOperationException
+ */
+public final class UnitOfWorkEntityManager implements InvocationHandler {
+    private final TaskStore store;
+
+    private UnitOfWorkEntityManager(TaskStore store) {
+        this.store = store;
+    }
+
+    public static EntityManager create(TaskStore store) {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[] {EntityManager.class}, new UnitOfWorkEntityManager(store));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "flush":
+                store.flush();
+                return null;
+            case "clear":
+                store.clear();
+                return null;
+            case "detach":
+                store.detach(task(args[0]));
+                return null;
+            case "contains":
+                return store.contains(task(args[0]));
+            case "isOpen":
+                return true;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "EntityManager for " + store;
+            default:
+                throw new UnsupportedOperationException(
+                        "EntityManager." + method.getName() + " is not supported by the in-memory task store");
+        }
+    }
+
+    private static Task task(Object entity) {
+        if (!(entity instanceof Task task)) {
+            throw new IllegalArgumentException("Not a task: " + entity);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,159 @@
+package com.learning.taskmanagement.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped log of committed task store transactions.
+ *
+ * Learning Points:
+ * 1. Each file is mapped once at its full size, so an append is a memory copy
+ *    without a system call. The pages belong to the kernel, so they survive a
+ *    crash of the process even before they are forced
+ * 2. force() writes the dirty pages to disk; committers share it like the
+ *    status journal shares fsyncs, whoever forces first covers everyone before
+ * 3. A new file is all zeroes, so a zero length ends the log; a CRC mismatch
+ *    marks a record torn by a machine crash, and replay stops there
+ * 4. A full file is forced and the next generation started; a snapshot makes
+ *    every older generation redundant
+ */
+class WriteAheadLog implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+    static final String SUFFIX = ".log";
+    // length, crc
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final int capacity;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private MappedByteBuffer buffer;
+    private long generation;
+    private long appended;
+    private int synced;
+    private volatile long durable;
+
+    WriteAheadLog(Path directory, long generation, int capacity) throws IOException {
+        this.directory = directory;
+        this.capacity = capacity;
+        this.generation = generation;
+        open(capacity);
+    }
+
+    // Calls the consumer with the payload of every intact record, oldest first; returns how many there were
+    static int replay(Path path, Consumer<ByteBuffer> consumer) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int records = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length == 0) {
+                break;
+            }
+            int crc = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()
+                    || crc != crc(buffer.slice(buffer.position(), length))) {
+                logger.warn("Task log {} ends in a torn record at byte {}; ignoring the rest", path, start);
+                break;
+            }
+            consumer.accept(buffer.slice(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+            records++;
+        }
+        return records;
+    }
+
+    long getGeneration() {
+        synchronized (appendLock) {
+            return generation;
+        }
+    }
+
+    // Returns a ticket for sync(); the record is not durable until then
+    long append(byte[] payload) throws IOException {
+        synchronized (appendLock) {
+            if (buffer.remaining() < HEADER_BYTES + payload.length) {
+                roll(Math.max(capacity, HEADER_BYTES + payload.length));
+            }
+            buffer.putInt(payload.length).putInt(crc(ByteBuffer.wrap(payload))).put(payload);
+            return ++appended;
+        }
+    }
+
+    void sync(long ticket) {
+        if (durable >= ticket) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= ticket) {
+                return;
+            }
+            MappedByteBuffer target;
+            int from;
+            int to;
+            long covered;
+            synchronized (appendLock) {
+                target = buffer;
+                from = synced;
+                to = buffer.position();
+                covered = appended;
+            }
+            target.force(from, to - from);
+            synchronized (appendLock) {
+                if (target == buffer) {
+                    synced = Math.max(synced, to);
+                }
+            }
+            durable = Math.max(durable, covered);
+        }
+    }
+
+    // Starts the next generation and returns its number; everything appended so far is in older ones
+    long roll() throws IOException {
+        synchronized (appendLock) {
+            roll(capacity);
+            return generation;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            buffer.force();
+            durable = appended;
+        }
+    }
+
+    private void roll(int size) throws IOException {
+        buffer.force();
+        durable = appended;
+        generation++;
+        open(size);
+    }
+
+    // The mapping stays valid after the channel closes, and is released when the buffer is collected
+    private void open(int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(TaskStore.file(directory, generation, SUFFIX),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        synced = 0;
+    }
+
+    private static int crc(ByteBuffer bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,9 @@
+package com.learning.taskmanagement.repository;
+
+/**
+ * Projection for open-task counts per due minute (minutes since the epoch, UTC-naive).
+ */
+public interface DueMinuteCount {
+    long getMinute();
+    long getCount();
+}
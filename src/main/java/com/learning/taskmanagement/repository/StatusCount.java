@@ -0,0 +1,11 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+
+/**
+ * Projection for per-status row counts.
+ */
+public interface StatusCount {
+    TaskStatus getStatus();
+    long getCount();
+}
@@ -0,0 +1,24 @@
+package com.learning.taskmanagement.repository;
+
+import java.util.List;
+
+/**
+ * Changed rows read by one statement, plus the xmin of that statement's snapshot.
+ *
+ * Learning Points:
+ * 1. Every transaction below the snapshot xmin had finished when the rows were
+ *    read, so its writes are either in this batch or were rolled back; only
+ *    transactions from xmin on can still commit a change the batch did not see
+ */
+public class TaskChangeBatch {
+    private final List<TaskChangeRow> rows;
+    private final long snapshotXmin;
+
+    public TaskChangeBatch(List<TaskChangeRow> rows, long snapshotXmin) {
+        this.rows = rows;
+        this.snapshotXmin = snapshotXmin;
+    }
+
+    public List<TaskChangeRow> getRows() { return rows; }
+    public long getSnapshotXmin() { return snapshotXmin; }
+}
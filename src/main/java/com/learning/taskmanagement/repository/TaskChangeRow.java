@@ -0,0 +1,29 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.dto.TaskDTO;
+import java.util.UUID;
+
+/**
+ * A task written, or a tombstone recorded, by one transaction since a sync token.
+ *
+ * Learning Points:
+ * 1. The transaction id is the sort key of the change stream, so the next page
+ *    seeks past (changeXid, id)
+ */
+public class TaskChangeRow {
+    private final UUID id;
+    private final long changeXid;
+    private final TaskDTO task;
+
+    public TaskChangeRow(UUID id, long changeXid, TaskDTO task) {
+        this.id = id;
+        this.changeXid = changeXid;
+        this.task = task;
+    }
+
+    public UUID getId() { return id; }
+    public long getChangeXid() { return changeXid; }
+    // Null when the task was deleted
+    public TaskDTO getTask() { return task; }
+    public boolean isDeleted() { return task == null; }
+}
@@ -0,0 +1,12 @@
+package com.learning.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a task id and its due date, used to fill the due-date scheduler.
+ */
+public interface TaskDueDate {
+    UUID getId();
+    LocalDateTime getDueDate();
+}
@@ -0,0 +1,12 @@
+package com.learning.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the row count and latest update time, used to version task lists.
+ */
+public interface TaskListVersion {
+    long getCount();
+    // Null when there are no rows
+    LocalDateTime getLastUpdated();
+}
@@ -2,23 +2,141 @@ package com.learning.taskmanagement.repository;
 
 import com.learning.taskmanagement.domain.Task;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entities.
- * 
+ *
  * Learning Points:
  * 1. Spring Data JPA provides basic CRUD operations out of the box
  * 2. Custom queries can be defined using method names
  * 3. @Repository marks this as a Spring component for persistence operations
+ * 4. Keyset queries seek past the cursor on (createdAt, id) so every page is an index range scan
+ * 5. Stream results with a fetch size are read through a server-side cursor
+ * 6. Interface projections return aggregates without loading entities
+ * 7. Read paths select straight into TaskDTO with a constructor expression, so no
+ *    managed entity, snapshot or dirty check is created per row
+ * 8. COUNT plus MAX(updated_at) is a cheap fingerprint for list ETags
+ * 9. Single-row patches and deletes come from the TaskRepositoryCustom fragment
+ * 10. Old finished tasks live in tasks_archive; lists, status pages and search
+ *     only read the hot tasks table, lookups by id and the export read both
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+    String SELECT_DTO = "SELECT new com.learning.taskmanagement.dto.TaskDTO(" +
+            "t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt, t.version) " +
+            "FROM Task t ";
+    // (createdAt, id) > (:createdAt, :id) spelled out, since HQL cannot compare a
+    // tuple with parameters; the leading >= still bounds the index range
+    String AFTER_CURSOR = "t.createdAt >= :createdAt " +
+            "AND (t.createdAt > :createdAt OR t.id > :id) ";
+
     // Spring Data JPA will implement these methods automatically
     List<Task> findByStatus(TaskStatus status);
     List<Task> findByDueDateBefore(LocalDateTime date);
+
+    // Keyset pagination ordered by (createdAt, id)
+    @Query(SELECT_DTO + "ORDER BY t.createdAt, t.id")
+    List<TaskDTO> findPage(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE t.status = :status ORDER BY t.createdAt, t.id")
+    List<TaskDTO> findPageByStatus(@Param("status") TaskStatus status, Limit limit);
+
+    // Aggregates used to reconcile the in-memory statistics
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t GROUP BY t.status")
+    List<StatusCount> countByStatus();
+
+    @Query(value = "SELECT CAST(status AS text) AS status, COUNT(*) AS count FROM tasks_archive GROUP BY status",
+           nativeQuery = true)
+    List<StatusCount> countArchivedByStatus();
+
+    @Query(value = "SELECT CAST(FLOOR(EXTRACT(EPOCH FROM due_date) / 60) AS BIGINT) AS minute, " +
+                   "COUNT(*) AS count FROM tasks " +
+                   "WHERE status IN ('TODO', 'IN_PROGRESS') AND due_date IS NOT NULL " +
+                   "GROUP BY 1", nativeQuery = true)
+    List<DueMinuteCount> countOpenByDueMinute();
+
+    long countByStatusInAndDueDateIsNull(Collection<TaskStatus> statuses);
+
+    // Moves up to limit finished tasks last changed before cutoff; rows a writer holds are left for the next batch
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM tasks WHERE id IN (" +
+                   "SELECT id FROM tasks WHERE status IN ('COMPLETED', 'CANCELLED') AND updated_at < :cutoff " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id, title, description, status, due_date, created_at, updated_at, version) " +
+                   "INSERT INTO tasks_archive (id, title, description, status, due_date, created_at, updated_at, version) " +
+                   "SELECT * FROM moved", nativeQuery = true)
+    int archiveFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Moves archived tasks back so they can be changed; returns how many were archived
+    @Modifying
+    @Query(value = "WITH restored AS (DELETE FROM tasks_archive WHERE id IN (:ids) " +
+                   "RETURNING id, title, description, status, due_date, created_at, updated_at, version) " +
+                   "INSERT INTO tasks (id, title, description, status, due_date, created_at, updated_at, version) " +
+                   "SELECT * FROM restored", nativeQuery = true)
+    int restoreArchived(@Param("ids") Collection<UUID> ids);
+
+    // Tombstones are written by a trigger on tasks and only ever read by changesSince
+    @Modifying
+    @Query(value = "DELETE FROM task_tombstones WHERE deleted_at < :cutoff", nativeQuery = true)
+    int deleteTombstonesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // COUNT(*) rather than COUNT(t) lets both aggregates come from an index-only scan
+    @Query("SELECT COUNT(*) AS count, MAX(t.updatedAt) AS lastUpdated FROM Task t")
+    TaskListVersion findListVersion();
+
+    @Query("SELECT COUNT(*) AS count, MAX(t.updatedAt) AS lastUpdated FROM Task t WHERE t.status = :status")
+    TaskListVersion findListVersionByStatus(@Param("status") TaskStatus status);
+
+    // Must be consumed inside a transaction and closed; Postgres only uses a cursor when autocommit is off
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    // Archived tasks are included; one statement reads both tables from the same snapshot,
+    // so a task archived or restored meanwhile is exported exactly once
+    @Query(value = "SELECT id, title, description, status, due_date, created_at, updated_at, version FROM tasks " +
+                   "UNION ALL " +
+                   "SELECT id, title, description, status, due_date, created_at, updated_at, version FROM tasks_archive",
+           nativeQuery = true)
+    Stream<Task> streamAll();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t.id AS id, t.dueDate AS dueDate FROM Task t " +
+           "WHERE t.status IN :statuses AND t.dueDate > :after")
+    Stream<TaskDueDate> streamDueAfter(@Param("statuses") Collection<TaskStatus> statuses,
+                                       @Param("after") LocalDateTime after);
+
+    @Query(SELECT_DTO + "WHERE " + AFTER_CURSOR +
+           "ORDER BY t.createdAt, t.id")
+    List<TaskDTO> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") UUID id,
+                                Limit limit);
+
+    @Query(SELECT_DTO + "WHERE t.status = :status " +
+           "AND " + AFTER_CURSOR +
+           "ORDER BY t.createdAt, t.id")
+    List<TaskDTO> findPageByStatusAfter(@Param("status") TaskStatus status,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
 }
@@ -0,0 +1,45 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-statement writes that Spring Data cannot derive.
+ *
+ * Learning Points:
+ * 1. A repository fragment is an interface plus an Impl class; Spring Data
+ *    mixes it into TaskRepository next to the generated methods
+ * 2. Each method is one round trip: the row is found, changed and returned
+ *    by the same UPDATE or DELETE ... RETURNING
+ * 3. Ranked search is native SQL because HQL has no tsquery or trigram operators
+ * 4. The change stream merges tasks and tombstones in one statement so both are
+ *    read from the same snapshot
+ * 5. Buffered status changes are written by one UPDATE per batch, joined to an
+ *    unnest() of the ids and statuses
+ * 6. Lookups by id read tasks first and tasks_archive only on a miss
+ */
+public interface TaskRepositoryCustom {
+    // Archived tasks are found as well
+    Optional<TaskDTO> findDtoById(UUID id);
+
+    // Empty when no task has the id, or when the patch carries a version that is no longer current
+    Optional<TaskRowChange> patch(UUID id, TaskPatchDTO patch);
+
+    // The deleted row, or empty when no task has the id
+    Optional<TaskDTO> deleteReturning(UUID id);
+
+    // Best matches first; afterRank/afterId are the last hit of the previous page, or null
+    List<TaskSearchHit> search(String text, Float afterRank, UUID afterId, int limit);
+
+    // Tasks and tombstones written by transaction floorXid or later, in (transaction, id) order;
+    // afterXid/afterId continue a page and replace the floor
+    TaskChangeBatch changesSince(long floorXid, Long afterXid, UUID afterId, int limit);
+
+    // Only rows whose status actually changes are updated and returned; missing ids are skipped
+    List<TaskRowChange> updateStatuses(Map<UUID, TaskStatus> statuses);
+}
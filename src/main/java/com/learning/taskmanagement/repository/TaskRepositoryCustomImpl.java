@@ -0,0 +1,282 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Native SQL implementation of TaskRepositoryCustom.
+ *
+ * Learning Points:
+ * 1. The SET list only names the columns the patch sent, so the statement never
+ *    overwrites a field the client did not mention
+ * 2. Joining the target to a FOR UPDATE subquery of itself makes the old row
+ *    visible to RETURNING; the lock means it is exactly the row being replaced
+ * 3. The version check sits in the WHERE clause, so a stale write matches no row
+ *    instead of needing a read first
+ * 4. Running through Hibernate keeps the session flushed beforehand and the
+ *    statement visible to the StatementInspector like every other query
+ * 5. Search matches a prefix tsquery on the GIN tsvector index; only when that
+ *    finds nothing does the same statement fall back to trigram word similarity
+ *    on titles, whose recheck is too costly to run for every common word
+ * 6. Each branch of the change stream is an ordered index scan with its own
+ *    LIMIT, so a sync reads about as many rows as it returns
+ * 7. UNION ALL under LIMIT 1 stops at the first branch that returns a row, so
+ *    the archive is only probed for ids missing from tasks
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final String[] COLUMNS = {
+        "id", "title", "description", "status", "due_date", "created_at", "updated_at", "version"
+    };
+    private static final Class<?>[] TYPES = {
+        UUID.class, String.class, String.class, String.class,
+        LocalDateTime.class, LocalDateTime.class, LocalDateTime.class, Long.class
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskDTO> findDtoById(UUID id) {
+        List<Parameter> parameters = new ArrayList<>();
+        String sql = "(SELECT " + columns("t", "") + " FROM tasks t WHERE t.id = " +
+                bind(parameters, id, UUID.class) + ") UNION ALL (SELECT " + columns("a", "") +
+                " FROM tasks_archive a WHERE a.id = " + bind(parameters, id, UUID.class) + ") LIMIT 1";
+        return execute(sql, parameters, taskScalars("")).stream()
+                .findFirst()
+                .map(row -> toDTO(row, 0));
+    }
+
+    @Override
+    public Optional<TaskRowChange> patch(UUID id, TaskPatchDTO patch) {
+        List<Parameter> parameters = new ArrayList<>();
+        StringJoiner assignments = new StringJoiner(", ");
+        if (patch.hasTitle()) {
+            assignments.add("title = " + bind(parameters, patch.getTitle(), String.class));
+        }
+        if (patch.hasDescription()) {
+            assignments.add("description = " + bind(parameters, patch.getDescription(), String.class));
+        }
+        if (patch.hasStatus()) {
+            String status = patch.getStatus() == null ? null : patch.getStatus().name();
+            assignments.add("status = CAST(" + bind(parameters, status, String.class) + " AS task_status)");
+        }
+        if (patch.hasDueDate()) {
+            assignments.add("due_date = " + bind(parameters, patch.getDueDate(), LocalDateTime.class));
+        }
+        assignments.add("version = t.version + 1");
+
+        String sql = "UPDATE tasks t SET " + assignments +
+                " FROM (SELECT * FROM tasks WHERE id = " + bind(parameters, id, UUID.class) + " FOR UPDATE) old" +
+                " WHERE t.id = old.id";
+        if (patch.getVersion() != null) {
+            sql += " AND old.version = " + bind(parameters, patch.getVersion(), Long.class);
+        }
+        sql += " RETURNING " + columns("t", "") + ", " + columns("old", "old_");
+
+        List<Scalar> scalars = new ArrayList<>(taskScalars(""));
+        scalars.addAll(taskScalars("old_"));
+        List<Object[]> rows = execute(sql, parameters, scalars);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new TaskRowChange(toDTO(row, COLUMNS.length), toDTO(row, 0)));
+    }
+
+    @Override
+    public List<TaskRowChange> updateStatuses(Map<UUID, TaskStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner ids = new StringJoiner(",", "{", "}");
+        StringJoiner values = new StringJoiner(",", "{", "}");
+        statuses.forEach((id, status) -> {
+            ids.add(id.toString());
+            values.add(status.name());
+        });
+        List<Parameter> parameters = new ArrayList<>();
+        // Rows are locked in id order, so two overlapping batches cannot deadlock
+        String sql = "WITH u AS (SELECT * FROM unnest(CAST(" + bind(parameters, ids.toString(), String.class) +
+                " AS uuid[]), CAST(" + bind(parameters, values.toString(), String.class) + " AS task_status[]))" +
+                " AS u(id, status)), " +
+                "old AS (SELECT tasks.*, u.status AS new_status FROM tasks JOIN u ON tasks.id = u.id" +
+                " WHERE tasks.status <> u.status ORDER BY tasks.id FOR UPDATE OF tasks) " +
+                "UPDATE tasks t SET status = old.new_status, version = t.version + 1" +
+                " FROM old WHERE t.id = old.id" +
+                " RETURNING " + columns("t", "") + ", " + columns("old", "old_");
+
+        List<Scalar> scalars = new ArrayList<>(taskScalars(""));
+        scalars.addAll(taskScalars("old_"));
+        return execute(sql, parameters, scalars).stream()
+                .map(row -> new TaskRowChange(toDTO(row, COLUMNS.length), toDTO(row, 0)))
+                .toList();
+    }
+
+    @Override
+    public Optional<TaskDTO> deleteReturning(UUID id) {
+        List<Parameter> parameters = new ArrayList<>();
+        String sql = "DELETE FROM tasks t WHERE t.id = " + bind(parameters, id, UUID.class) +
+                " RETURNING " + columns("t", "");
+        return execute(sql, parameters, taskScalars("")).stream()
+                .findFirst()
+                .map(row -> toDTO(row, 0));
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String text, Float afterRank, UUID afterId, int limit) {
+        String tsQuery = prefixQuery(text);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        List<Parameter> parameters = new ArrayList<>();
+        String sql = "WITH q AS (SELECT to_tsquery('english', " + bind(parameters, tsQuery, String.class) + ") AS query), " +
+                "hits AS (" +
+                "SELECT tasks.*, CAST(ts_rank(tasks.search_vector, q.query) AS real) AS rank " +
+                "FROM tasks, q WHERE tasks.search_vector @@ q.query " +
+                "UNION ALL " +
+                // Typo fallback: Postgres runs it only if the full-text branch matched nothing at all
+                "SELECT tasks.*, CAST(word_similarity(" + bind(parameters, text, String.class) + ", tasks.title) AS real) " +
+                "FROM tasks WHERE " + bind(parameters, text, String.class) + " <% tasks.title " +
+                "AND NOT EXISTS (SELECT 1 FROM tasks, q WHERE tasks.search_vector @@ q.query)" +
+                ") " +
+                "SELECT " + columns("t", "") + ", t.rank AS rank FROM hits t";
+        if (afterRank != null) {
+            String rank = bind(parameters, afterRank, Float.class);
+            sql += " WHERE t.rank < " + rank +
+                    " OR (t.rank = " + rank + " AND t.id > " + bind(parameters, afterId, UUID.class) + ")";
+        }
+        sql += " ORDER BY t.rank DESC, t.id LIMIT " + bind(parameters, limit, Integer.class);
+
+        List<Scalar> scalars = new ArrayList<>(taskScalars(""));
+        scalars.add(new Scalar("rank", Float.class));
+        return execute(sql, parameters, scalars).stream()
+                .map(row -> new TaskSearchHit(toDTO(row, 0), (Float) row[COLUMNS.length]))
+                .toList();
+    }
+
+    @Override
+    public TaskChangeBatch changesSince(long floorXid, Long afterXid, UUID afterId, int limit) {
+        List<Parameter> parameters = new ArrayList<>();
+        String sql = "SELECT " + columns("c", "") + ", c.deleted AS deleted, " +
+                "CAST(CAST(c.change_xid AS text) AS bigint) AS change_xid, s.snapshot_xmin AS snapshot_xmin " +
+                // Outer-joined to a one-row snapshot so the xmin comes back even when nothing changed
+                "FROM (SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint) AS snapshot_xmin) s " +
+                "LEFT JOIN ((" +
+                "SELECT " + columns("t", "") + ", false AS deleted, t.change_xid FROM tasks t " +
+                "WHERE " + changedAfter("t.change_xid", "t.id", parameters, floorXid, afterXid, afterId) +
+                " ORDER BY t.change_xid, t.id LIMIT " + bind(parameters, limit, Integer.class) +
+                ") UNION ALL (" +
+                "SELECT d.task_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, true, d.change_xid FROM task_tombstones d " +
+                "WHERE " + changedAfter("d.change_xid", "d.task_id", parameters, floorXid, afterXid, afterId) +
+                " ORDER BY d.change_xid, d.task_id LIMIT " + bind(parameters, limit, Integer.class) +
+                ")) c ON true " +
+                "ORDER BY c.change_xid, c.id LIMIT " + bind(parameters, limit, Integer.class);
+
+        List<Scalar> scalars = new ArrayList<>(taskScalars(""));
+        scalars.add(new Scalar("deleted", Boolean.class));
+        scalars.add(new Scalar("change_xid", Long.class));
+        scalars.add(new Scalar("snapshot_xmin", Long.class));
+        List<Object[]> result = execute(sql, parameters, scalars);
+
+        List<TaskChangeRow> rows = new ArrayList<>(result.size());
+        long snapshotXmin = 0;
+        for (Object[] row : result) {
+            snapshotXmin = (Long) row[COLUMNS.length + 2];
+            if (row[0] != null) {
+                TaskDTO task = (Boolean) row[COLUMNS.length] ? null : toDTO(row, 0);
+                rows.add(new TaskChangeRow((UUID) row[0], (Long) row[COLUMNS.length + 1], task));
+            }
+        }
+        return new TaskChangeBatch(rows, snapshotXmin);
+    }
+
+    // xid8 has no JDBC type, so transaction ids travel as text and are cast on both sides
+    private static String changedAfter(String xidColumn, String idColumn, List<Parameter> parameters,
+                                       long floorXid, Long afterXid, UUID afterId) {
+        if (afterXid == null) {
+            return xidColumn + " >= CAST(" + bind(parameters, Long.toString(floorXid), String.class) + " AS xid8)";
+        }
+        return "(" + xidColumn + ", " + idColumn + ") > (CAST(" +
+                bind(parameters, afterXid.toString(), String.class) + " AS xid8), " +
+                bind(parameters, afterId, UUID.class) + ")";
+    }
+
+    // Every word becomes a prefix term, so "docu" finds "documentation"; only letters
+    // and digits survive, so user input can never inject tsquery operators
+    static String prefixQuery(String text) {
+        StringJoiner terms = new StringJoiner(" & ");
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                terms.add(word + ":*");
+            }
+        }
+        return terms.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object[]> execute(String sql, List<Parameter> parameters, List<Scalar> scalars) {
+        NativeQuery query = entityManager.unwrap(Session.class).createNativeQuery(sql);
+        query.addSynchronizedEntityClass(Task.class);
+        for (Scalar scalar : scalars) {
+            query.addScalar(scalar.alias(), scalar.type());
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter parameter = parameters.get(i);
+            query.setParameter(i + 1, parameter.value(), (Class) parameter.type());
+        }
+        return query.getResultList();
+    }
+
+    private static String bind(List<Parameter> parameters, Object value, Class<?> type) {
+        parameters.add(new Parameter(value, type));
+        return "?" + parameters.size();
+    }
+
+    private static List<Scalar> taskScalars(String aliasPrefix) {
+        List<Scalar> scalars = new ArrayList<>(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            scalars.add(new Scalar(aliasPrefix + COLUMNS[i], TYPES[i]));
+        }
+        return scalars;
+    }
+
+    private static String columns(String table, String aliasPrefix) {
+        StringJoiner columns = new StringJoiner(", ");
+        for (String column : COLUMNS) {
+            columns.add(table + "." + column + " AS " + aliasPrefix + column);
+        }
+        return columns.toString();
+    }
+
+    private static TaskDTO toDTO(Object[] row, int offset) {
+        return new TaskDTO(
+            (UUID) row[offset],
+            (String) row[offset + 1],
+            (String) row[offset + 2],
+            TaskStatus.valueOf((String) row[offset + 3]),
+            (LocalDateTime) row[offset + 4],
+            (LocalDateTime) row[offset + 5],
+            (LocalDateTime) row[offset + 6],
+            (Long) row[offset + 7]
+        );
+    }
+
+    private record Parameter(Object value, Class<?> type) {
+    }
+
+    private record Scalar(String alias, Class<?> type) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.dto.TaskDTO;
+
+/**
+ * A task row as it was before and after a single-statement update.
+ *
+ * Learning Points:
+ * 1. RETURNING both versions of the row lets listeners see what changed
+ *    without a separate SELECT before the write
+ */
+public class TaskRowChange {
+    private final TaskDTO previous;
+    private final TaskDTO current;
+
+    public TaskRowChange(TaskDTO previous, TaskDTO current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public TaskDTO getPrevious() { return previous; }
+    public TaskDTO getCurrent() { return current; }
+}
@@ -0,0 +1,22 @@
+package com.learning.taskmanagement.repository;
+
+import com.learning.taskmanagement.dto.TaskDTO;
+
+/**
+ * A task matched by a search together with its relevance score.
+ *
+ * Learning Points:
+ * 1. The score is returned so the next page can seek past (rank, id)
+ */
+public class TaskSearchHit {
+    private final TaskDTO task;
+    private final float rank;
+
+    public TaskSearchHit(TaskDTO task, float rank) {
+        this.task = task;
+        this.rank = rank;
+    }
+
+    public TaskDTO getTask() { return task; }
+    public float getRank() { return rank; }
+}
@@ -0,0 +1,229 @@
+package com.learning.taskmanagement.scheduler;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.event.TaskOverdueEvent;
+import com.learning.taskmanagement.jdbc.ReadRouting;
+import com.learning.taskmanagement.repository.TaskDueDate;
+import com.learning.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Keeps open tasks' due dates in a timing wheel and raises TaskOverdueEvent when one passes.
+ *
+ * Learning Points:
+ * 1. The wheel is filled once at startup from a streaming query and then kept current
+ *    from TaskChangedEvent after each commit, so the tasks table is never polled
+ * 2. A single scheduler thread advances the wheel; each tick costs O(1) however many
+ *    tasks are pending
+ * 3. Overdue notifications go both to TaskOverdueListener beans and to the
+ *    application event bus, always from the scheduler thread
+ * 4. Every node keeps its own wheel, so in a cluster each node raises the event
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.scheduler", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DueDateScheduler implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(DueDateScheduler.class);
+    private static final Set<TaskStatus> OPEN = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<TaskOverdueListener> listeners;
+    private final Clock clock;
+    private final long tickMillis;
+    private final TimingWheel<UUID, TaskOverdueEvent> wheel;
+    // Ids changed while the startup query runs; their streamed rows may be stale
+    private volatile Set<UUID> changedDuringLoad;
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Autowired
+    public DueDateScheduler(TaskRepository taskRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectProvider<TaskOverdueListener> listeners,
+                            @Value("${tasks.scheduler.tick:PT1S}") Duration tick) {
+        this(taskRepository, eventPublisher, listeners.orderedStream().toList(), tick, Clock.systemDefaultZone());
+    }
+
+    DueDateScheduler(TaskRepository taskRepository,
+                     ApplicationEventPublisher eventPublisher,
+                     List<TaskOverdueListener> listeners,
+                     Duration tick,
+                     Clock clock) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("tasks.scheduler.tick must be at least 1ms");
+        }
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.listeners = new CopyOnWriteArrayList<>(listeners);
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new TimingWheel<>(currentTick());
+    }
+
+    public void addListener(TaskOverdueListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(TaskOverdueListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int pendingCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        changedDuringLoad = ConcurrentHashMap.newKeySet();
+        int loaded = 0;
+        // Events are only tracked from now on, so the snapshot must not be older than that
+        ReadRouting.pinToPrimary();
+        try (Stream<TaskDueDate> dueDates = taskRepository.streamDueAfter(OPEN, LocalDateTime.now(clock))) {
+            for (TaskDueDate row : (Iterable<TaskDueDate>) dueDates::iterator) {
+                if (changedDuringLoad.contains(row.getId())) {
+                    continue;
+                }
+                // The due date may have passed while the query was running
+                if (!schedule(row.getId(), row.getDueDate())) {
+                    dispatchLater(new TaskOverdueEvent(row.getId(), row.getDueDate()));
+                }
+                loaded++;
+            }
+        } finally {
+            changedDuringLoad = null;
+            ReadRouting.unpin();
+        }
+        logger.info("Due-date scheduler loaded {} open tasks", loaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<UUID> loading = changedDuringLoad;
+        if (loading != null) {
+            loading.add(event.getTaskId());
+        }
+        TaskDTO current = event.getCurrent();
+        if (!isPending(current)) {
+            synchronized (wheel) {
+                wheel.cancel(event.getTaskId());
+            }
+            return;
+        }
+        boolean scheduled = schedule(event.getTaskId(), current.getDueDate());
+        // A task moved straight into the past is overdue now, unless it already was
+        TaskDTO previous = event.getPrevious();
+        boolean unchanged = isPending(previous) && Objects.equals(previous.getDueDate(), current.getDueDate());
+        if (!scheduled && !unchanged) {
+            TaskOverdueEvent overdue = new TaskOverdueEvent(event.getTaskId(), current.getDueDate());
+            dispatchLater(overdue);
+        }
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-due-date-scheduler").daemon().factory());
+        executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Catches up tick by tick if the thread was delayed, so no slot is skipped
+    void tick() {
+        List<TaskOverdueEvent> expired;
+        synchronized (wheel) {
+            expired = wheel.advanceTo(currentTick());
+        }
+        expired.forEach(this::dispatch);
+    }
+
+    private boolean schedule(UUID taskId, LocalDateTime dueDate) {
+        long expiryTick = Math.ceilDiv(toEpochMillis(dueDate), tickMillis);
+        synchronized (wheel) {
+            return wheel.schedule(taskId, new TaskOverdueEvent(taskId, dueDate), expiryTick);
+        }
+    }
+
+    private void dispatch(TaskOverdueEvent event) {
+        for (TaskOverdueListener listener : listeners) {
+            try {
+                listener.onOverdue(event);
+            } catch (RuntimeException e) {
+                logger.warn("Overdue listener failed for task {}", event.getTaskId(), e);
+            }
+        }
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            logger.warn("Overdue event listener failed for task {}", event.getTaskId(), e);
+        }
+    }
+
+    private void dispatchLater(TaskOverdueEvent event) {
+        try {
+            if (running) {
+                executor.execute(() -> dispatch(event));
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("Due-date scheduler stopped, dropping overdue event for task {}", event.getTaskId());
+        }
+    }
+
+    private long currentTick() {
+        return Math.floorDiv(toEpochMillis(LocalDateTime.now(clock)), tickMillis);
+    }
+
+    private static boolean isPending(TaskDTO task) {
+        return task != null && task.getStatus() != null && task.getStatus().isOpen() && task.getDueDate() != null;
+    }
+
+    // Due dates are zone-less, so both sides use the same naive UTC epoch as TaskStatistics
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,15 @@
+package com.learning.taskmanagement.scheduler;
+
+import com.learning.taskmanagement.event.TaskOverdueEvent;
+
+/**
+ * Callback invoked on the scheduler thread when a task becomes overdue.
+ *
+ * Beans implementing this interface are registered automatically; others can
+ * register through {@link DueDateScheduler#addListener}. Implementations should
+ * return quickly and hand slow work to another thread.
+ */
+@FunctionalInterface
+public interface TaskOverdueListener {
+    void onOverdue(TaskOverdueEvent event);
+}
@@ -0,0 +1,170 @@
+package com.learning.taskmanagement.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel holding one value per key.
+ *
+ * Time is measured in ticks. Level 0 has one slot per tick; each higher level
+ * has slots 64 times wider. A timer sits in the lowest level whose span covers
+ * its remaining delay and moves ("cascades") one level down whenever the wheel
+ * below wraps, so each timer is touched at most once per level.
+ *
+ * Learning Points:
+ * 1. Scheduling and cancelling are O(1): slots are intrusive doubly linked lists
+ *    and a map finds a key's entry for removal
+ * 2. A tick only visits one level-0 slot plus, on wrap-around, one slot per higher
+ *    level, so tick cost does not grow with the number of pending timers
+ * 3. Not thread-safe; callers serialize access
+ */
+class TimingWheel<K, V> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    // Delays beyond this (~34 years at 1s ticks) park in the top level and re-cascade
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Slot<K, V>[][] wheels;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.wheels = new Slot[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules or reschedules a key. Returns false if the tick has already passed,
+     * in which case nothing is scheduled.
+     */
+    boolean schedule(K key, V value, long expiryTick) {
+        cancel(key);
+        if (expiryTick <= currentTick) {
+            return false;
+        }
+        Entry<K, V> entry = new Entry<>(key, value, expiryTick);
+        entries.put(key, entry);
+        place(entry);
+        return true;
+    }
+
+    boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Advances one tick at a time up to targetTick and returns the values that expired.
+     */
+    List<V> advanceTo(long targetTick) {
+        List<V> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Slot<K, V> slot = wheels[0][(int) (currentTick & SLOT_MASK)];
+            for (Entry<K, V> entry = slot.poll(); entry != null; entry = slot.poll()) {
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+        }
+        return expired;
+    }
+
+    // Re-place timers from each higher level whose lower wheel just wrapped, top-down
+    private void cascade() {
+        int highest = 0;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            highest = level;
+        }
+        for (int level = highest; level >= 1; level--) {
+            Slot<K, V> slot = wheels[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            for (Entry<K, V> entry = slot.poll(); entry != null; entry = slot.poll()) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delay = Math.min(entry.expiryTick - currentTick, MAX_DELAY);
+        long target = currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK)].add(entry);
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiryTick;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        Entry(K key, V value, long expiryTick) {
+            this.key = key;
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+
+        void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+
+    // Circular list with a sentinel head
+    private static final class Slot<K, V> {
+        private final Entry<K, V> head = new Entry<>(null, null, 0);
+
+        Slot() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void add(Entry<K, V> entry) {
+            entry.prev = head.prev;
+            entry.next = head;
+            head.prev.next = entry;
+            head.prev = entry;
+        }
+
+        Entry<K, V> poll() {
+            Entry<K, V> first = head.next;
+            if (first == head) {
+                return null;
+            }
+            first.unlink();
+            return first;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.learning.taskmanagement.service;
+
+import com.learning.taskmanagement.cache.TaskCache;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.jdbc.ReadRouting;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-through caching decorator around TaskServiceImpl.
+ *
+ * Learning Points:
+ * 1. The decorator pattern adds caching without touching the transactional service
+ * 2. Cache hits return before any transaction starts, so they never borrow a pooled connection
+ * 3. Writes pass straight through; TaskCacheInvalidator evicts from their events
+ * 4. Cache loads read from the primary: a lagging replica could otherwise refill
+ *    an entry with the row an invalidation just removed, for the whole TTL
+ * 5. Built by TaskServiceConfig when the cache is enabled rather than being a
+ *    bean of its own, so it can be stacked with other decorators
+ */
+public class CachingTaskService implements TaskService {
+    private final TaskServiceImpl delegate;
+    private final TaskCache taskCache;
+
+    public CachingTaskService(TaskServiceImpl delegate, TaskCache taskCache) {
+        this.delegate = delegate;
+        this.taskCache = taskCache;
+    }
+
+    @Override
+    public TaskDTO createTask(TaskDTO taskDTO) {
+        return delegate.createTask(taskDTO);
+    }
+
+    @Override
+    public Optional<TaskDTO> getTask(UUID id) {
+        return taskCache.getTask(id, key -> ReadRouting.onPrimary(() -> delegate.getTask(key)));
+    }
+
+    @Override
+    public TaskPageDTO getAllTasks(String after, int limit) {
+        return taskCache.getPage(null, after, limit,
+                () -> ReadRouting.onPrimary(() -> delegate.getAllTasks(after, limit)));
+    }
+
+    @Override
+    public TaskPageDTO getTasksByStatus(TaskStatus status, String after, int limit) {
+        return taskCache.getPage(status, after, limit,
+                () -> ReadRouting.onPrimary(() -> delegate.getTasksByStatus(status, after, limit)));
+    }
+
+    // Not cached: every query string would be its own entry with a low hit rate
+    @Override
+    public TaskPageDTO searchTasks(String query, String after, int limit) {
+        return delegate.searchTasks(query, after, limit);
+    }
+
+    // Not cached: every token is different and the answer must include the latest commits
+    @Override
+    public TaskChangesDTO getChanges(String since, int limit) {
+        return delegate.getChanges(since, limit);
+    }
+
+    @Override
+    public String getListVersion(TaskStatus status) {
+        return taskCache.getListVersion(status, () -> ReadRouting.onPrimary(() -> delegate.getListVersion(status)));
+    }
+
+    @Override
+    public void exportTasks(Consumer<TaskDTO> sink) {
+        delegate.exportTasks(sink);
+    }
+
+    @Override
+    public TaskDTO updateTask(UUID id, TaskDTO taskDTO) {
+        return delegate.updateTask(id, taskDTO);
+    }
+
+    @Override
+    public TaskDTO patchTask(UUID id, TaskPatchDTO patch) {
+        return delegate.patchTask(id, patch);
+    }
+
+    @Override
+    public void deleteTask(UUID id) {
+        delegate.deleteTask(id);
+    }
+
+    @Override
+    public List<TaskBatchResultDTO> applyBatch(List<TaskBatchOperationDTO> operations) {
+        return delegate.applyBatch(operations);
+    }
+}
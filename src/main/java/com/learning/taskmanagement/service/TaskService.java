@@ -1,10 +1,16 @@
 package com.learning.taskmanagement.service;
 
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
 import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
 import com.learning.taskmanagement.domain.TaskStatus;
 import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Task operations.
@@ -13,12 +19,28 @@ import java.util.Optional;
  * 1. Interface segregation principle - define cohesive interfaces
  * 2. Using Optional for nullable returns
  * 3. Working with DTOs instead of entities at service level
+ * 4. List reads are paged with an opaque cursor so no call returns an unbounded result
+ * 5. Full exports push each row to a consumer instead of returning a collection
+ * 6. Updates carrying a version are conditional and fail if the task has moved on
+ * 7. Patches change only the fields that were sent; deleting a missing task is an error
+ * 8. Search pages use their own cursor, since hits are ordered by rank rather than creation
+ * 9. Delta sync returns what changed since a token, so its cost follows the
+ *    number of changes rather than the number of tasks
  */
 public interface TaskService {
     TaskDTO createTask(TaskDTO taskDTO);
     Optional<TaskDTO> getTask(UUID id);
-    List<TaskDTO> getAllTasks();
-    List<TaskDTO> getTasksByStatus(TaskStatus status);
+    TaskPageDTO getAllTasks(String after, int limit);
+    TaskPageDTO getTasksByStatus(TaskStatus status, String after, int limit);
+    // Ranked by relevance over title and description; the cursor is specific to search pages
+    TaskPageDTO searchTasks(String query, String after, int limit);
+    // Tasks written and tombstones recorded since the token; a null token starts a full sync
+    TaskChangesDTO getChanges(String since, int limit);
+    // Opaque token that changes whenever the (optionally status-filtered) task list changes
+    String getListVersion(TaskStatus status);
+    void exportTasks(Consumer<TaskDTO> sink);
     TaskDTO updateTask(UUID id, TaskDTO taskDTO);
+    TaskDTO patchTask(UUID id, TaskPatchDTO patch);
     void deleteTask(UUID id);
+    List<TaskBatchResultDTO> applyBatch(List<TaskBatchOperationDTO> operations);
 }
@@ -2,15 +2,47 @@ package com.learning.taskmanagement.service;
 
 import com.learning.taskmanagement.domain.Task;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangeDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
+import com.learning.taskmanagement.dto.TaskCursor;
 import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.dto.TaskSearchCursor;
+import com.learning.taskmanagement.dto.TaskSyncToken;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.repository.TaskChangeBatch;
+import com.learning.taskmanagement.repository.TaskChangeRow;
+import com.learning.taskmanagement.repository.TaskListVersion;
 import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.repository.TaskRowChange;
+import com.learning.taskmanagement.repository.TaskSearchHit;
+import com.learning.taskmanagement.exception.BatchTooLargeException;
+import com.learning.taskmanagement.exception.InvalidSearchQueryException;
+import com.learning.taskmanagement.exception.InvalidTaskPatchException;
+import com.learning.taskmanagement.exception.SyncTokenExpiredException;
 import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.exception.TaskVersionMismatchException;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of TaskService.
@@ -19,14 +51,44 @@ import java.util.stream.Collectors;
  * 1. @Transactional for data consistency
  * 2. Mapping between DTOs and entities
  * 3. Exception handling for business logic
+ * 4. Fetching limit + 1 rows tells us whether a next page exists without a COUNT
+ * 5. Detaching streamed entities keeps the persistence context from growing with the table
+ * 6. Batches are flushed and cleared per chunk so Hibernate sends JDBC batches
+ *    and the persistence context stays small
+ * 7. Every write publishes a TaskChangedEvent so caches and other listeners stay in sync
+ * 8. Reads come back from the repository as DTOs; entities are only loaded to be modified
+ * 9. Single-task updates and deletes are one UPDATE/DELETE ... RETURNING statement,
+ *    which also returns the previous row for the change event
+ * 10. Delta sync pages are cut from one ordered change stream; the token of the
+ *     last page starts from the lowest snapshot xmin seen while paging
+ * 11. Writes to an archived task first move it back to the tasks table; only a
+ *     write that missed pays for the extra statement
  */
 @Service
 @Transactional
 public class TaskServiceImpl implements TaskService {
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_SEARCH_LENGTH = 200;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchChunkSize;
+    private final int batchMaxOperations;
+    private final Duration syncRetention;
 
-    public TaskServiceImpl(TaskRepository taskRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository,
+                           EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${tasks.batch.chunk-size:500}") int batchChunkSize,
+                           @Value("${tasks.batch.max-operations:10000}") int batchMaxOperations,
+                           @Value("${tasks.sync.retention:P30D}") Duration syncRetention) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.batchChunkSize = batchChunkSize;
+        this.batchMaxOperations = batchMaxOperations;
+        this.syncRetention = syncRetention;
     }
 
     @Override
@@ -34,50 +96,311 @@ public class TaskServiceImpl implements TaskService {
         Task task = new Task(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setDueDate(taskDTO.getDueDate());
-        return mapToDTO(taskRepository.save(task));
+        TaskDTO created = mapToDTO(taskRepository.save(task));
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<TaskDTO> getTask(UUID id) {
-        return taskRepository.findById(id).map(this::mapToDTO);
+        return taskRepository.findDtoById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAllTasks(String after, int limit) {
+        Limit fetch = Limit.of(clamp(limit) + 1);
+        if (after == null) {
+            return toPage(taskRepository.findPage(fetch), limit);
+        }
+        TaskCursor cursor = TaskCursor.decode(after);
+        return toPage(taskRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), fetch), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTasksByStatus(TaskStatus status, String after, int limit) {
+        Limit fetch = Limit.of(clamp(limit) + 1);
+        if (after == null) {
+            return toPage(taskRepository.findPageByStatus(status, fetch), limit);
+        }
+        TaskCursor cursor = TaskCursor.decode(after);
+        return toPage(taskRepository.findPageByStatusAfter(
+                status, cursor.getCreatedAt(), cursor.getId(), fetch), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageDTO searchTasks(String query, String after, int limit) {
+        String text = query == null ? "" : query.strip();
+        if (text.isEmpty()) {
+            throw new InvalidSearchQueryException("Search query is required");
+        }
+        if (text.length() > MAX_SEARCH_LENGTH) {
+            throw new InvalidSearchQueryException("Search query must be at most " + MAX_SEARCH_LENGTH + " characters");
+        }
+        int size = clamp(limit);
+        TaskSearchCursor cursor = after == null ? null : TaskSearchCursor.decode(after);
+        List<TaskSearchHit> hits = cursor == null ?
+                taskRepository.search(text, null, null, size + 1) :
+                taskRepository.search(text, cursor.getRank(), cursor.getId(), size + 1);
+
+        List<TaskSearchHit> page = hits.size() > size ? hits.subList(0, size) : hits;
+        String next = null;
+        if (hits.size() > size) {
+            TaskSearchHit last = page.get(page.size() - 1);
+            next = new TaskSearchCursor(last.getRank(), last.getTask().getId()).encode();
+        }
+        return new TaskPageDTO(page.stream().map(TaskSearchHit::getTask).toList(), next);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    public TaskChangesDTO getChanges(String since, int limit) {
+        Instant now = Instant.now();
+        TaskSyncToken token = since == null ? TaskSyncToken.initial(now) : TaskSyncToken.decode(since);
+        if (token.getIssuedAt().isBefore(now.minus(syncRetention))) {
+            throw new SyncTokenExpiredException();
+        }
+        int size = clamp(limit);
+        TaskChangeBatch batch = taskRepository.changesSince(
+                token.getFloorXid(), token.getAfterXid(), token.getAfterId(), size + 1);
+
+        // A transaction running during any page may still commit below the rows already sent
+        long nextFloor = token.isContinuation() ?
+                Math.min(token.getNextFloorXid(), batch.getSnapshotXmin()) :
+                batch.getSnapshotXmin();
+        List<TaskChangeRow> rows = batch.getRows();
+        boolean hasMore = rows.size() > size;
+        List<TaskChangeRow> page = hasMore ? rows.subList(0, size) : rows;
+        TaskSyncToken next;
+        if (hasMore) {
+            TaskChangeRow last = page.get(page.size() - 1);
+            next = token.continueAfter(last.getChangeXid(), last.getId(), nextFloor);
+        } else {
+            next = TaskSyncToken.of(nextFloor, now);
+        }
+        List<TaskChangeDTO> changes = page.stream()
+                .map(row -> new TaskChangeDTO(
+                        row.isDeleted() ? TaskChangedEvent.Type.DELETED : TaskChangedEvent.Type.UPDATED,
+                        row.getId(),
+                        row.getTask()))
+                .toList();
+        return new TaskChangesDTO(changes, next.encode(), hasMore);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatus(status).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    public String getListVersion(TaskStatus status) {
+        TaskListVersion version = status == null ?
+                taskRepository.findListVersion() :
+                taskRepository.findListVersionByStatus(status);
+        return version.getCount() + ":" + version.getLastUpdated();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<TaskDTO> sink) {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                sink.accept(mapToDTO(task));
+                entityManager.detach(task);
+            });
+        }
     }
 
     @Override
     public TaskDTO updateTask(UUID id, TaskDTO taskDTO) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
-        
-        task.setTitle(taskDTO.getTitle());
-        task.setDescription(taskDTO.getDescription());
-        task.setStatus(taskDTO.getStatus());
-        task.setDueDate(taskDTO.getDueDate());
-        
-        return mapToDTO(taskRepository.save(task));
+        // A full replacement is a patch that sends every field
+        return patchTask(id, TaskPatchDTO.replacing(taskDTO));
+    }
+
+    @Override
+    public TaskDTO patchTask(UUID id, TaskPatchDTO patch) {
+        if (patch.hasTitle() && isBlank(patch.getTitle())) {
+            throw new InvalidTaskPatchException("Title is required");
+        }
+        if (patch.hasStatus() && patch.getStatus() == null) {
+            throw new InvalidTaskPatchException("Status cannot be cleared");
+        }
+        if (!patch.hasChanges()) {
+            TaskDTO current = taskRepository.findDtoById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            if (patch.getVersion() != null && !patch.getVersion().equals(current.getVersion())) {
+                throw new TaskVersionMismatchException(id);
+            }
+            return current;
+        }
+
+        TaskRowChange change = taskRepository.patch(id, patch)
+                .or(() -> restoreArchived(id) ? taskRepository.patch(id, patch) : Optional.empty())
+                .orElseThrow(() -> missingOrStale(id, patch));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(change.getPrevious(), change.getCurrent()));
+        return change.getCurrent();
     }
 
     @Override
     public void deleteTask(UUID id) {
-        taskRepository.deleteById(id);
+        // Restoring first makes the delete leave a tombstone like any other
+        TaskDTO deleted = taskRepository.deleteReturning(id)
+                .or(() -> restoreArchived(id) ? taskRepository.deleteReturning(id) : Optional.empty())
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id, deleted));
+    }
+
+    @Override
+    public List<TaskBatchResultDTO> applyBatch(List<TaskBatchOperationDTO> operations) {
+        if (operations.size() > batchMaxOperations) {
+            throw new BatchTooLargeException(operations.size(), batchMaxOperations);
+        }
+        List<TaskBatchResultDTO> results = new ArrayList<>(operations.size());
+        for (int start = 0; start < operations.size(); start += batchChunkSize) {
+            int end = Math.min(start + batchChunkSize, operations.size());
+            applyChunk(operations, start, end, results);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return results;
+    }
+
+    private void applyChunk(List<TaskBatchOperationDTO> operations, int start, int end,
+                            List<TaskBatchResultDTO> results) {
+        // One IN query loads every task this chunk updates or deletes
+        Set<UUID> ids = new HashSet<>();
+        for (int i = start; i < end; i++) {
+            TaskBatchOperationDTO operation = operations.get(i);
+            if (operation.getOp() != TaskBatchOperationDTO.Type.CREATE && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<UUID, Task> existing = new HashMap<>();
+        if (!ids.isEmpty()) {
+            taskRepository.findAllById(ids).forEach(task -> existing.put(task.getId(), task));
+        }
+        if (existing.size() < ids.size()) {
+            ids.removeAll(existing.keySet());
+            if (taskRepository.restoreArchived(ids) > 0) {
+                taskRepository.findAllById(ids).forEach(task -> existing.put(task.getId(), task));
+            }
+        }
+        for (int i = start; i < end; i++) {
+            results.add(applyOperation(i, operations.get(i), existing));
+        }
+    }
+
+    private TaskBatchResultDTO applyOperation(int index, TaskBatchOperationDTO operation,
+                                              Map<UUID, Task> existing) {
+        if (operation.getOp() == null) {
+            return invalid(index, operation.getId(), "Operation type is required");
+        }
+        TaskDTO taskDTO = operation.getTask();
+        switch (operation.getOp()) {
+            case CREATE: {
+                String titleError = titleError(taskDTO);
+                if (titleError != null) {
+                    return invalid(index, null, titleError);
+                }
+                Task task = new Task(taskDTO.getTitle());
+                task.setDescription(taskDTO.getDescription());
+                task.setDueDate(taskDTO.getDueDate());
+                taskRepository.save(task);
+                eventPublisher.publishEvent(TaskChangedEvent.created(mapToDTO(task)));
+                return new TaskBatchResultDTO(index, task.getId(), TaskBatchResultDTO.Outcome.CREATED, null);
+            }
+            case UPDATE: {
+                Task task = existing.get(operation.getId());
+                if (task == null) {
+                    return notFound(index, operation.getId());
+                }
+                String titleError = titleError(taskDTO);
+                if (titleError != null) {
+                    return invalid(index, operation.getId(), titleError);
+                }
+                if (taskDTO.getStatus() == null) {
+                    return invalid(index, operation.getId(), "Status is required");
+                }
+                TaskDTO previous = mapToDTO(task);
+                copyFields(taskDTO, task);
+                eventPublisher.publishEvent(TaskChangedEvent.updated(previous, mapToDTO(task)));
+                return new TaskBatchResultDTO(index, task.getId(), TaskBatchResultDTO.Outcome.UPDATED, null);
+            }
+            case DELETE: {
+                Task task = existing.remove(operation.getId());
+                if (task == null) {
+                    return notFound(index, operation.getId());
+                }
+                taskRepository.delete(task);
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(task.getId(), mapToDTO(task)));
+                return new TaskBatchResultDTO(index, task.getId(), TaskBatchResultDTO.Outcome.DELETED, null);
+            }
+            default:
+                return invalid(index, operation.getId(), "Unsupported operation " + operation.getOp());
+        }
+    }
+
+    private static TaskBatchResultDTO invalid(int index, UUID id, String error) {
+        return new TaskBatchResultDTO(index, id, TaskBatchResultDTO.Outcome.INVALID, error);
+    }
+
+    private static TaskBatchResultDTO notFound(int index, UUID id) {
+        return new TaskBatchResultDTO(index, id, TaskBatchResultDTO.Outcome.NOT_FOUND,
+                new TaskNotFoundException(id).getMessage());
+    }
+
+    /**
+     * Mirrors the title constraints on TaskDTO, which batch items bypass; a
+     * violation found at the chunk flush would fail the whole batch instead
+     */
+    private static String titleError(TaskDTO taskDTO) {
+        if (taskDTO == null || isBlank(taskDTO.getTitle())) {
+            return "Title is required";
+        }
+        if (taskDTO.getTitle().length() > TaskDTO.TITLE_MAX_LENGTH) {
+            return "Title must be between 1 and 255 characters";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private boolean restoreArchived(UUID id) {
+        return taskRepository.restoreArchived(List.of(id)) > 0;
+    }
+
+    // Only a failed conditional patch pays for a second statement, to tell 412 from 404
+    private RuntimeException missingOrStale(UUID id, TaskPatchDTO patch) {
+        if (patch.getVersion() != null && taskRepository.existsById(id)) {
+            return new TaskVersionMismatchException(id);
+        }
+        return new TaskNotFoundException(id);
+    }
+
+    private static void copyFields(TaskDTO source, Task target) {
+        target.setTitle(source.getTitle());
+        target.setDescription(source.getDescription());
+        target.setStatus(source.getStatus());
+        target.setDueDate(source.getDueDate());
+    }
+
+    private static TaskPageDTO toPage(List<TaskDTO> rows, int limit) {
+        int size = clamp(limit);
+        List<TaskDTO> items = rows.size() > size ? rows.subList(0, size) : rows;
+        String next = null;
+        if (rows.size() > size) {
+            TaskDTO last = items.get(items.size() - 1);
+            next = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TaskPageDTO(items, next);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 
-    private TaskDTO mapToDTO(Task task) {
+    TaskDTO mapToDTO(Task task) {
         return new TaskDTO(
             task.getId(),
             task.getTitle(),
@@ -85,7 +408,8 @@ public class TaskServiceImpl implements TaskService {
             task.getStatus(),
             task.getDueDate(),
             task.getCreatedAt(),
-            task.getUpdatedAt()
+            task.getUpdatedAt(),
+            task.getVersion()
         );
     }
 }
@@ -0,0 +1,42 @@
+package com.learning.taskmanagement.service;
+
+import com.learning.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops deletion tombstones once they are older than the delta-sync retention.
+ *
+ * Learning Points:
+ * 1. Sync tokens older than the retention are refused with 410, so no client
+ *    can still need the tombstones removed here
+ * 2. The delete is a range scan on the deleted_at index, however large the table
+ */
+@Component
+public class TombstonePurger {
+    private static final Logger logger = LoggerFactory.getLogger(TombstonePurger.class);
+
+    private final TaskRepository taskRepository;
+    private final Duration retention;
+
+    public TombstonePurger(TaskRepository taskRepository,
+                           @Value("${tasks.sync.retention:P30D}") Duration retention) {
+        this.taskRepository = taskRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.sync.purge-interval:PT1H}")
+    @Transactional
+    public void purge() {
+        int purged = taskRepository.deleteTombstonesBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            logger.info("Purged {} task tombstones older than {}", purged, retention);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.learning.taskmanagement.service;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.writebehind.TaskStatusWriteBehind;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator that buffers status-only changes in TaskStatusWriteBehind and shows them on reads.
+ *
+ * Learning Points:
+ * 1. Only unconditional changes of the status alone are buffered; anything
+ *    else, or a write carrying a version, goes straight to the database
+ * 2. A write that is not buffered first flushes a pending status of the same
+ *    task, so the database applies both in the order they were acknowledged
+ * 3. Reads overlay the pending status and drop the version: the stored version
+ *    no longer describes what is returned, so no ETag is sent for it
+ * 4. A status-filtered page is read from the database and then loses the tasks
+ *    whose pending status moved them out of the filter; tasks moved into it
+ *    appear after the flush, so such a page can be short until then
+ * 5. The change feed and delta sync report the change once it is flushed
+ */
+public class WriteBehindTaskService implements TaskService {
+    private final TaskService delegate;
+    private final TaskStatusWriteBehind writeBehind;
+
+    public WriteBehindTaskService(TaskService delegate, TaskStatusWriteBehind writeBehind) {
+        this.delegate = delegate;
+        this.writeBehind = writeBehind;
+    }
+
+    @Override
+    public TaskDTO createTask(TaskDTO taskDTO) {
+        return delegate.createTask(taskDTO);
+    }
+
+    @Override
+    public Optional<TaskDTO> getTask(UUID id) {
+        return delegate.getTask(id).map(this::overlay);
+    }
+
+    @Override
+    public TaskPageDTO getAllTasks(String after, int limit) {
+        return overlay(delegate.getAllTasks(after, limit), null);
+    }
+
+    @Override
+    public TaskPageDTO getTasksByStatus(TaskStatus status, String after, int limit) {
+        return overlay(delegate.getTasksByStatus(status, after, limit), status);
+    }
+
+    @Override
+    public TaskPageDTO searchTasks(String query, String after, int limit) {
+        return overlay(delegate.searchTasks(query, after, limit), null);
+    }
+
+    @Override
+    public TaskChangesDTO getChanges(String since, int limit) {
+        return delegate.getChanges(since, limit);
+    }
+
+    // Buffered writes do not reach the database version, so the generation is appended
+    @Override
+    public String getListVersion(TaskStatus status) {
+        return delegate.getListVersion(status) + ":" + writeBehind.generation();
+    }
+
+    @Override
+    public void exportTasks(Consumer<TaskDTO> sink) {
+        delegate.exportTasks(task -> sink.accept(overlay(task)));
+    }
+
+    @Override
+    public TaskDTO updateTask(UUID id, TaskDTO taskDTO) {
+        if (taskDTO.getVersion() == null && taskDTO.getStatus() != null) {
+            TaskDTO current = getTask(id).orElseThrow(() -> new TaskNotFoundException(id));
+            if (differsOnlyInStatus(current, taskDTO)) {
+                return buffer(current, taskDTO.getStatus());
+            }
+        }
+        writeBehind.flushIfPending(List.of(id));
+        return delegate.updateTask(id, taskDTO);
+    }
+
+    @Override
+    public TaskDTO patchTask(UUID id, TaskPatchDTO patch) {
+        if (isStatusOnly(patch)) {
+            TaskDTO current = getTask(id).orElseThrow(() -> new TaskNotFoundException(id));
+            return buffer(current, patch.getStatus());
+        }
+        writeBehind.flushIfPending(List.of(id));
+        return delegate.patchTask(id, patch);
+    }
+
+    @Override
+    public void deleteTask(UUID id) {
+        writeBehind.flushIfPending(List.of(id));
+        delegate.deleteTask(id);
+    }
+
+    @Override
+    public List<TaskBatchResultDTO> applyBatch(List<TaskBatchOperationDTO> operations) {
+        writeBehind.flushIfPending(operations.stream()
+                .map(TaskBatchOperationDTO::getId)
+                .filter(Objects::nonNull)
+                .toList());
+        return delegate.applyBatch(operations);
+    }
+
+    private TaskDTO buffer(TaskDTO current, TaskStatus status) {
+        if (current.getStatus() != status) {
+            writeBehind.put(current.getId(), status);
+        }
+        return current.withStatus(status).withVersion(null);
+    }
+
+    private TaskDTO overlay(TaskDTO task) {
+        TaskStatus status = writeBehind.pendingStatus(task.getId());
+        return status == null ? task : task.withStatus(status).withVersion(null);
+    }
+
+    private TaskPageDTO overlay(TaskPageDTO page, TaskStatus filter) {
+        if (!writeBehind.hasPending()) {
+            return page;
+        }
+        List<TaskDTO> items = page.getItems().stream()
+                .map(this::overlay)
+                .filter(task -> filter == null || task.getStatus() == filter)
+                .toList();
+        return new TaskPageDTO(items, page.getNext());
+    }
+
+    private static boolean isStatusOnly(TaskPatchDTO patch) {
+        return patch.getVersion() == null && patch.hasStatus() && patch.getStatus() != null
+                && !patch.hasTitle() && !patch.hasDescription() && !patch.hasDueDate();
+    }
+
+    private static boolean differsOnlyInStatus(TaskDTO current, TaskDTO update) {
+        return Objects.equals(current.getTitle(), update.getTitle())
+                && Objects.equals(current.getDescription(), update.getDescription())
+                && Objects.equals(current.getDueDate(), update.getDueDate());
+    }
+}
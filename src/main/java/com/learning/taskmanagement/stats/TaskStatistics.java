@@ -0,0 +1,251 @@
+package com.learning.taskmanagement.stats;
+
+import com.learning.taskmanagement.domain.DueBucket;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskStatsDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.jdbc.ReadRouting;
+import com.learning.taskmanagement.repository.DueMinuteCount;
+import com.learning.taskmanagement.repository.StatusCount;
+import com.learning.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incrementally maintained task counts per status and per due-date bucket.
+ *
+ * Learning Points:
+ * 1. LongAdder stripes each counter across cells, so concurrent writers do not
+ *    fight over one cache line; reads stay O(1)
+ * 2. Open tasks are also kept in a per-minute histogram of due dates; when time
+ *    moves on, only the minutes that crossed a bucket boundary are moved
+ * 3. Counters are updated after commit, so rolled-back writes never count
+ * 4. Lock-free updates can drift slightly under races; a periodic SQL aggregate
+ *    rebuilds the counters and swaps them in atomically
+ * 5. Events that land while the aggregate runs are queued and replayed onto the
+ *    rebuilt counters under a write lock, so the swap neither drops nor repeats
+ *    them; only an event committed just before the snapshot but delivered after
+ *    the queue opened counts twice, until the next reconcile
+ */
+@Component
+public class TaskStatistics {
+    static final long MINUTES_PER_DAY = 24 * 60;
+    static final long MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatistics.class);
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Counters counters;
+    private volatile Queue<TaskChangedEvent> missed;
+    private volatile LocalDateTime reconciledAt;
+
+    @Autowired
+    public TaskStatistics(TaskRepository taskRepository) {
+        this(taskRepository, Clock.systemDefaultZone());
+    }
+
+    TaskStatistics(TaskRepository taskRepository, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+        this.counters = new Counters(currentMinute());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Shared, so events only wait for the short swap at the end of a reconcile
+        swapLock.readLock().lock();
+        try {
+            apply(counters, event);
+            Queue<TaskChangedEvent> queue = missed;
+            if (queue != null) {
+                queue.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void apply(Counters target, TaskChangedEvent event) {
+        target.advanceTo(currentMinute());
+        if (event.getPrevious() != null) {
+            target.add(event.getPrevious(), -1);
+        }
+        if (event.getCurrent() != null) {
+            target.add(event.getCurrent(), 1);
+        }
+    }
+
+    public TaskStatsDTO snapshot() {
+        Counters current = counters;
+        current.advanceTo(currentMinute());
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = Math.max(0, current.byStatus.get(status).sum());
+            byStatus.put(status, count);
+            total += count;
+        }
+        Map<DueBucket, Long> dueBuckets = new EnumMap<>(DueBucket.class);
+        for (DueBucket bucket : DueBucket.values()) {
+            dueBuckets.put(bucket, Math.max(0, current.byDue.get(bucket).sum()));
+        }
+        return new TaskStatsDTO(total, byStatus, dueBuckets.get(DueBucket.OVERDUE), dueBuckets, reconciledAt);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT5M}")
+    // One snapshot for every aggregate, so the queued events are missing from all of them alike
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        // Counters already include every committed event, so a lagging replica would undo some
+        ReadRouting.pinToPrimary();
+        Queue<TaskChangedEvent> queue = new ConcurrentLinkedQueue<>();
+        missed = queue;
+        try {
+            Counters rebuilt = new Counters(currentMinute());
+            for (StatusCount row : taskRepository.countByStatus()) {
+                rebuilt.byStatus.get(row.getStatus()).add(row.getCount());
+            }
+            // Archiving moves tasks without a TaskChangedEvent, so archived ones still count
+            for (StatusCount row : taskRepository.countArchivedByStatus()) {
+                rebuilt.byStatus.get(row.getStatus()).add(row.getCount());
+            }
+            for (DueMinuteCount row : taskRepository.countOpenByDueMinute()) {
+                rebuilt.addDue(row.getMinute(), row.getCount());
+            }
+            rebuilt.byDue.get(DueBucket.NO_DUE_DATE).add(taskRepository.countByStatusInAndDueDateIsNull(
+                    EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)));
+            swapLock.writeLock().lock();
+            try {
+                for (TaskChangedEvent event : queue) {
+                    apply(rebuilt, event);
+                }
+                rebuilt.pruneEmptyMinutes();
+                counters = rebuilt;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            reconciledAt = LocalDateTime.now(clock);
+        } catch (DataAccessException e) {
+            logger.warn("Task statistics reconciliation failed, keeping current counters", e);
+        } finally {
+            missed = null;
+            ReadRouting.unpin();
+        }
+    }
+
+    int trackedDueMinutes() {
+        return counters.openByDueMinute.size();
+    }
+
+    private long currentMinute() {
+        return toMinute(LocalDateTime.now(clock));
+    }
+
+    // Due dates are zone-less, so both sides use the same naive UTC epoch
+    static long toMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    static DueBucket classify(long dueMinute, long nowMinute) {
+        long delta = dueMinute - nowMinute;
+        if (delta < 0) {
+            return DueBucket.OVERDUE;
+        }
+        if (delta < MINUTES_PER_DAY) {
+            return DueBucket.DUE_24H;
+        }
+        if (delta < MINUTES_PER_WEEK) {
+            return DueBucket.DUE_7D;
+        }
+        return DueBucket.LATER;
+    }
+
+    private static final class Counters {
+        private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<DueBucket, LongAdder> byDue = new EnumMap<>(DueBucket.class);
+        private final ConcurrentSkipListMap<Long, LongAdder> openByDueMinute = new ConcurrentSkipListMap<>();
+        private final AtomicLong boundaryMinute;
+
+        Counters(long nowMinute) {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+            for (DueBucket bucket : DueBucket.values()) {
+                byDue.put(bucket, new LongAdder());
+            }
+            this.boundaryMinute = new AtomicLong(nowMinute);
+        }
+
+        void add(TaskDTO task, int delta) {
+            TaskStatus status = task.getStatus();
+            if (status == null) {
+                return;
+            }
+            byStatus.get(status).add(delta);
+            if (!status.isOpen()) {
+                return;
+            }
+            if (task.getDueDate() == null) {
+                byDue.get(DueBucket.NO_DUE_DATE).add(delta);
+            } else {
+                addDue(toMinute(task.getDueDate()), delta);
+            }
+        }
+
+        void addDue(long dueMinute, long delta) {
+            openByDueMinute.computeIfAbsent(dueMinute, minute -> new LongAdder()).add(delta);
+            byDue.get(classify(dueMinute, boundaryMinute.get())).add(delta);
+        }
+
+        // Removing a minute races with adds to it, so this only runs under the swap write lock
+        void pruneEmptyMinutes() {
+            openByDueMinute.values().removeIf(count -> count.sum() == 0);
+        }
+
+        // Only the thread that wins the CAS moves counts, so each minute is rolled once
+        void advanceTo(long nowMinute) {
+            long previous = boundaryMinute.get();
+            if (nowMinute <= previous || !boundaryMinute.compareAndSet(previous, nowMinute)) {
+                return;
+            }
+            move(previous, nowMinute, 0, DueBucket.DUE_24H, DueBucket.OVERDUE);
+            move(previous, nowMinute, MINUTES_PER_DAY, DueBucket.DUE_7D, DueBucket.DUE_24H);
+            move(previous, nowMinute, MINUTES_PER_WEEK, DueBucket.LATER, DueBucket.DUE_7D);
+        }
+
+        private void move(long from, long to, long offset, DueBucket source, DueBucket target) {
+            long crossed = 0;
+            for (LongAdder count : openByDueMinute.subMap(from + offset, to + offset).values()) {
+                crossed += count.sum();
+            }
+            if (crossed != 0) {
+                byDue.get(source).add(-crossed);
+                byDue.get(target).add(crossed);
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.learning.taskmanagement.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.learning.taskmanagement.dto.TaskChangeDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.exception.TooManySubscribersException;
+import com.learning.taskmanagement.web.ApiJsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers.
+ *
+ * Learning Points:
+ * 1. SseEmitter streams on Servlet async I/O, so an idle subscriber holds a
+ *    connection but no thread; a sender thread is only borrowed while frames
+ *    are being written to it
+ * 2. Each change is serialized once and the same frame is queued for every
+ *    subscriber
+ * 3. Every subscriber has a bounded queue; one that falls a full buffer behind
+ *    is disconnected instead of growing memory or slowing the others down, and
+ *    reloads when its EventSource reconnects
+ * 4. Heartbeat comments keep proxies from closing idle streams and surface dead
+ *    connections as failed writes; they count against the buffer too
+ * 5. Only changes committed on this instance are pushed, so a client applies its
+ *    own writes from their responses rather than waiting for them here
+ * 6. SseEmitter.send and complete share the emitter's monitor, so a write stuck
+ *    on a stalled client blocks both; publishers therefore never touch an
+ *    emitter, and senders are a small platform pool, since a virtual thread
+ *    blocked inside that monitor would pin its carrier
+ */
+@Component
+public class TaskChangeFeed implements SmartLifecycle {
+    static final String EVENT_NAME = "change";
+    static final long RECONNECT_MILLIS = 3000;
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+    private static final Set<DataWithMediaType> CONNECTED =
+            SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected").build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectWriter changeWriter;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final Executor sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean running;
+
+    @Autowired
+    public TaskChangeFeed(ApiJsonMapper apiJsonMapper,
+                          @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                          @Value("${tasks.stream.max-subscribers:5000}") int maxSubscribers,
+                          @Value("${tasks.stream.heartbeat:PT15S}") Duration heartbeat,
+                          @Value("${tasks.stream.timeout:PT1H}") Duration timeout,
+                          @Value("${tasks.stream.sender-threads:16}") int senderThreads) {
+        this(apiJsonMapper.getObjectMapper(), bufferSize, maxSubscribers, heartbeat, timeout,
+                newSender(senderThreads));
+    }
+
+    TaskChangeFeed(ObjectMapper objectMapper,
+                   int bufferSize,
+                   int maxSubscribers,
+                   Duration heartbeat,
+                   Duration timeout,
+                   Executor sender) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("tasks.stream.buffer-size must be at least 1");
+        }
+        if (heartbeat.toMillis() <= 0) {
+            throw new IllegalArgumentException("tasks.stream.heartbeat must be at least 1ms");
+        }
+        this.changeWriter = objectMapper.writerFor(TaskChangeDTO.class);
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.sender = sender;
+    }
+
+    // Unbounded queue, but each subscriber has at most one drain queued, so it is bounded by max-subscribers
+    private static Executor newSender(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("tasks.stream.sender-threads must be at least 1");
+        }
+        ThreadPoolExecutor sender = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), Thread.ofPlatform().name("task-stream-", 0).daemon().factory());
+        sender.allowCoreThreadTimeOut(true);
+        return sender;
+    }
+
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TooManySubscribersException(maxSubscribers);
+        }
+        Subscriber subscriber = new Subscriber(newEmitter());
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        // Sent straight away so the response is committed and EventSource reports the stream open
+        subscriber.offer(CONNECTED);
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(changeWriter.writeValueAsString(TaskChangeDTO.from(event)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize change of task {}", event.getTaskId(), e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    @Override
+    public void start() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-stream-heartbeat").daemon().factory());
+        long millis = heartbeat.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, millis, millis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // Open streams would otherwise hold up a graceful shutdown until they time out
+    @Override
+    public void stop() {
+        running = false;
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        List.copyOf(subscribers).forEach(this::disconnect);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    // The emitter is completed by the subscriber's sender, after any write still in progress
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+        subscriber.completeLater();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.close();
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+        private boolean completing;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            boolean overflow;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                overflow = queue.size() >= bufferSize;
+                if (!overflow) {
+                    queue.add(frame);
+                    if (sending) {
+                        return;
+                    }
+                    sending = true;
+                }
+            }
+            if (overflow) {
+                logger.debug("Disconnecting SSE subscriber that fell {} frames behind", bufferSize);
+                disconnect(this);
+                return;
+            }
+            startDrain();
+        }
+
+        void completeLater() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                completing = true;
+                queue.clear();
+                if (sending) {
+                    return;
+                }
+                sending = true;
+            }
+            startDrain();
+        }
+
+        private void startDrain() {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Only when shutting down; the container closes the stream with the connection
+                remove(this);
+            }
+        }
+
+        // At most one drain runs per subscriber, so frames are written in order and complete comes last
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                boolean complete;
+                synchronized (this) {
+                    complete = completing;
+                    completing = false;
+                    frame = closed ? null : queue.poll();
+                    if (frame == null) {
+                        sending = false;
+                    }
+                }
+                if (complete) {
+                    emitter.complete();
+                }
+                if (frame == null) {
+                    return;
+                }
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the container completes the request on its own
+                    remove(this);
+                    return;
+                }
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+        }
+    }
+}
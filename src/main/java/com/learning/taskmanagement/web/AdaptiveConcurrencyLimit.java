@@ -0,0 +1,121 @@
+package com.learning.taskmanagement.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adjusts itself to measured latency, in the style of TCP Vegas.
+ *
+ * Learning Points:
+ * 1. Every window the mean latency is compared with a slow moving average of
+ *    past windows; if requests got slower than the tolerance allows, work is
+ *    queueing somewhere and the limit shrinks, otherwise it probes upwards
+ * 2. The limit only grows while it is actually used, so a quiet period cannot
+ *    inflate it to a value the next burst would be admitted against
+ * 3. Past the limit a request is rejected at once instead of waiting, which
+ *    keeps the latency of admitted requests flat while overloaded
+ * 4. The clock is injected, so tests can feed latencies without sleeping
+ */
+public class AdaptiveConcurrencyLimit {
+    // How much the long-term latency moves towards each window's mean
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    // How far each window moves the limit towards its new estimate
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    // Guarded by this
+    private double longRttNanos;
+    private long windowStart;
+    private long windowSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                                    double tolerance, long windowNanos) {
+        this(name, initialLimit, minLimit, maxLimit, tolerance, windowNanos, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit,
+                             double tolerance, long windowNanos, LongSupplier clock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowStart = clock.getAsLong();
+    }
+
+    // Returns the start time to pass to release(), or -1 if the limit is reached
+    public long tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return -1;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return clock.getAsLong();
+    }
+
+    public void release(long startNanos) {
+        long now = clock.getAsLong();
+        int concurrent = inFlight.getAndDecrement();
+        synchronized (this) {
+            windowSumNanos += now - startNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, concurrent);
+            if (windowSamples >= MIN_WINDOW_SAMPLES && now - windowStart >= windowNanos) {
+                adjust();
+                windowStart = now;
+                windowSumNanos = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        }
+    }
+
+    private void adjust() {
+        double shortRtt = (double) windowSumNanos / windowSamples;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) * LONG_RTT_WEIGHT;
+        }
+        // Once a queue has drained, forget the slow past faster than the average alone would
+        if (longRttNanos > 2 * shortRtt) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        if (estimate > current && windowMaxInFlight < current / 2) {
+            return;
+        }
+        double next = current * (1 - SMOOTHING) + estimate * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public String getName() { return name; }
+    public int getLimit() { return (int) limit; }
+    public int getInFlight() { return inFlight.get(); }
+    public long getRejected() { return rejected.sum(); }
+}
@@ -0,0 +1,33 @@
+package com.learning.taskmanagement.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The ObjectMapper behind the Spring MVC JSON converter, for code that writes JSON bodies itself.
+ *
+ * Learning Points:
+ * 1. @EnableWebMvc builds its converters with Jackson2ObjectMapperBuilder and
+ *    ignores spring.jackson.*, so the Boot ObjectMapper bean formats dates
+ *    differently from every JSON response
+ * 2. WebConfig gives this mapper to the JSON converter, and the NDJSON export
+ *    and the change feed write with it, so all of them agree without touching
+ *    the Boot ObjectMapper other beans rely on
+ * 3. It is a holder rather than an ObjectMapper bean, which would replace the
+ *    auto-configured one
+ */
+public class ApiJsonMapper {
+    private final ObjectMapper objectMapper;
+
+    public ApiJsonMapper() {
+        this(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    public ApiJsonMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,69 @@
+package com.learning.taskmanagement.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Admits task API requests against separate adaptive limits for reads and writes.
+ *
+ * Learning Points:
+ * 1. Rejected requests get 503 with Retry-After before a handler runs, so they
+ *    never queue for a permit or a pooled connection
+ * 2. Reads and writes have their own limits: a burst of slow writes cannot
+ *    starve cheap cached reads, and the other way round
+ * 3. afterCompletion runs even when the handler throws, so permits are always
+ *    returned and failed requests count towards the latency they caused
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String START = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String LIMIT = ConcurrencyLimitInterceptor.class.getName() + ".limit";
+
+    private final AdaptiveConcurrencyLimit reads;
+    private final AdaptiveConcurrencyLimit writes;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimit reads, AdaptiveConcurrencyLimit writes,
+                                       Duration retryAfter) {
+        this.reads = reads;
+        this.writes = writes;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveConcurrencyLimit limit = isRead(request) ? reads : writes;
+        long start = limit.tryAcquire();
+        if (start < 0) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return false;
+        }
+        request.setAttribute(LIMIT, limit);
+        request.setAttribute(START, start);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(LIMIT) instanceof AdaptiveConcurrencyLimit limit) {
+            request.removeAttribute(LIMIT);
+            limit.release((Long) request.getAttribute(START));
+        }
+    }
+
+    public List<AdaptiveConcurrencyLimit> getLimits() {
+        return List.of(reads, writes);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
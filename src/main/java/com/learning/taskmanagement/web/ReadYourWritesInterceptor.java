@@ -0,0 +1,110 @@
+package com.learning.taskmanagement.web;
+
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.jdbc.ReadRouting;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a client's reads on the primary for a short while after it wrote.
+ *
+ * Learning Points:
+ * 1. The pin is a cookie holding the time it ends, set when the write commits
+ *    rather than when the request arrives, so a slow write is still covered
+ * 2. The commit is observed through the TaskChangedEvent every write already
+ *    publishes; the request thread is still the one running the listener
+ * 3. Any node may read the cookie, so node clocks have to agree to well
+ *    within the pin window
+ * 4. An async request leaves its first thread without afterCompletion, so the
+ *    pin is released in afterConcurrentHandlingStarted; the async dispatch runs
+ *    preHandle again on its own thread
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+    static final String COOKIE = "tasks-read-primary-until";
+    private static final String PINNED = ReadYourWritesInterceptor.class.getName() + ".pinned";
+    private static final String COOKIE_SET = ReadYourWritesInterceptor.class.getName() + ".cookieSet";
+
+    private final Duration pinWindow;
+    private final LongSupplier clock;
+
+    public ReadYourWritesInterceptor(Duration pinWindow) {
+        this(pinWindow, System::currentTimeMillis);
+    }
+
+    ReadYourWritesInterceptor(Duration pinWindow, LongSupplier clock) {
+        this.pinWindow = pinWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (pinnedUntil(request) > clock.getAsLong()) {
+            ReadRouting.pinToPrimary();
+            request.setAttribute(PINNED, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        release(request);
+    }
+
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(PINNED) != null) {
+            request.removeAttribute(PINNED);
+            ReadRouting.unpin();
+        }
+    }
+
+    // Write-behind flushes and other background commits have no request to pin
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        HttpServletRequest request = attributes.getRequest();
+        if (response == null || response.isCommitted() || request.getAttribute(COOKIE_SET) != null) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE, Long.toString(clock.getAsLong() + pinWindow.toMillis()));
+        cookie.setPath("/api");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (pinWindow.toMillis() + 999) / 1000));
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+        request.setAttribute(COOKIE_SET, Boolean.TRUE);
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
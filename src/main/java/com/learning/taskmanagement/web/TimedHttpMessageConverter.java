@@ -0,0 +1,123 @@
+package com.learning.taskmanagement.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson message converter that times every body it reads or writes.
+ *
+ * Learning Points:
+ * 1. A decorator keeps Spring MVC's own JSON, CBOR and Smile converters and
+ *    their negotiation untouched; only the read and write calls are timed
+ * 2. Write time includes pushing bytes into the response buffer, so a slow
+ *    client shows up here rather than in the controller
+ * 3. Timers are tagged by format and direction, never by payload type, to keep
+ *    the number of series fixed
+ */
+public class TimedHttpMessageConverter implements GenericHttpMessageConverter<Object> {
+    public static final String METRIC_NAME = "tasks.http.serialization";
+
+    private final AbstractJackson2HttpMessageConverter delegate;
+    private final Timer readTimer;
+    private final Timer writeTimer;
+
+    public TimedHttpMessageConverter(AbstractJackson2HttpMessageConverter delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        String format = delegate.getSupportedMediaTypes().get(0).getSubtype();
+        this.readTimer = timer(registry, format, "read");
+        this.writeTimer = timer(registry, format, "write");
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return delegate.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(type, clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        try {
+            return delegate.read(clazz, inputMessage);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long start = System.nanoTime();
+        try {
+            return delegate.read(type, contextClass, inputMessage);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void write(Object body, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(body, contentType, outputMessage);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void write(Object body, Type type, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            delegate.write(body, type, contentType, outputMessage);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String format, String direction) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time Jackson spends reading request bodies and writing response bodies")
+                .tag("format", format)
+                .tag("direction", direction)
+                .register(registry);
+    }
+}
@@ -0,0 +1,180 @@
+package com.learning.taskmanagement.writebehind;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only file log of buffered status changes, kept until they reach Postgres.
+ *
+ * Learning Points:
+ * 1. Concurrent writers share fsyncs: whoever syncs first forces everything
+ *    appended so far, and the others find their record already durable
+ * 2. Each flush starts a new segment; the sealed ones are deleted only after
+ *    the database has committed what they hold
+ * 3. Every record carries a CRC, so a record torn by a crash ends replay
+ *    instead of producing a bogus status
+ */
+public class StatusJournal implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(StatusJournal.class);
+    private static final String SUFFIX = ".journal";
+    // crc, msb, lsb, status name length
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Long.BYTES + Byte.BYTES;
+
+    private final Path directory;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private FileChannel segment;
+    private long segmentNumber;
+    private long appended;
+    private volatile long durable;
+
+    public StatusJournal(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        List<Path> existing = segments();
+        segmentNumber = existing.isEmpty() ? 0 : number(existing.get(existing.size() - 1));
+        openNextSegment();
+    }
+
+    // Calls the consumer for every intact record, oldest first
+    public void replay(BiConsumer<UUID, TaskStatus> consumer) throws IOException {
+        for (Path path : sealedSegments()) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            while (buffer.hasRemaining()) {
+                int start = buffer.position();
+                try {
+                    int crc = buffer.getInt();
+                    UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                    byte[] name = new byte[buffer.get() & 0xFF];
+                    buffer.get(name);
+                    if (crc != crc(buffer, start + Integer.BYTES, buffer.position())) {
+                        logger.warn("Status journal {} is corrupt at byte {}; ignoring the rest", path, start);
+                        break;
+                    }
+                    String status = new String(name, StandardCharsets.US_ASCII);
+                    try {
+                        consumer.accept(id, TaskStatus.valueOf(status));
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("Skipping journaled status {} of task {}, which no longer exists", status, id);
+                    }
+                } catch (BufferUnderflowException e) {
+                    logger.warn("Status journal {} ends in a partial record at byte {}", path, start);
+                    break;
+                }
+            }
+        }
+    }
+
+    // Returns a ticket for sync(); the record is not durable until then
+    public long append(UUID id, TaskStatus status) throws IOException {
+        byte[] name = status.name().getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + name.length);
+        record.position(Integer.BYTES);
+        record.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        record.put((byte) name.length).put(name);
+        record.putInt(0, crc(record, Integer.BYTES, record.position()));
+        record.flip();
+        synchronized (appendLock) {
+            while (record.hasRemaining()) {
+                segment.write(record);
+            }
+            return ++appended;
+        }
+    }
+
+    public void sync(long ticket) throws IOException {
+        if (durable >= ticket) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= ticket) {
+                return;
+            }
+            long target;
+            synchronized (appendLock) {
+                target = appended;
+            }
+            segment.force(false);
+            durable = target;
+        }
+    }
+
+    // Starts a new segment and returns every older one; the caller deletes them once flushed
+    public List<Path> rotate() throws IOException {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                segment.force(false);
+                durable = appended;
+                segment.close();
+                openNextSegment();
+                return sealedSegments();
+            }
+        }
+    }
+
+    public void delete(List<Path> sealed) throws IOException {
+        for (Path path : sealed) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (appendLock) {
+                segment.force(false);
+                segment.close();
+            }
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentNumber++;
+        segment = FileChannel.open(directory.resolve(String.format("%019d%s", segmentNumber, SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> sealedSegments() throws IOException {
+        List<Path> sealed = new ArrayList<>();
+        for (Path path : segments()) {
+            if (number(path) < segmentNumber) {
+                sealed.add(path);
+            }
+        }
+        return sealed;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(StatusJournal::number))
+                    .toList();
+        }
+    }
+
+    private static long number(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static int crc(ByteBuffer buffer, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+}
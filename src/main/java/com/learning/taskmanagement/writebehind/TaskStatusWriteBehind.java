@@ -0,0 +1,239 @@
+package com.learning.taskmanagement.writebehind;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.repository.TaskRowChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers status-only task changes in a local journal and writes them to Postgres in batches.
+ *
+ * Learning Points:
+ * 1. A change is acknowledged once its journal record is fsynced; the database
+ *    sees it at the next flush
+ * 2. Pending changes are kept per task id, so a task flipped a hundred times
+ *    between flushes costs one row update, one trigger run and one version bump
+ * 3. A flush is one transaction and publishes the usual TaskChangedEvents, so
+ *    caches, statistics and the change feed catch up when it commits
+ * 4. Journal segments are deleted only after the commit, and entries leave the
+ *    pending map only after that; other writes to a pending task flush first,
+ *    so a replayed journal can never overwrite a newer write
+ * 5. The buffer is local to this instance; other nodes read Postgres and see
+ *    the change after the flush
+ */
+@Component
+@ConditionalOnProperty(prefix = "tasks.write-behind", name = "enabled", havingValue = "true")
+public class TaskStatusWriteBehind implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusWriteBehind.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusJournal journal;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, Pending> pending = new ConcurrentHashMap<>();
+    // Keeps the journal and the pending map in the same order, and both still while a flush rotates
+    private final Object appendLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean running;
+
+    @Autowired
+    public TaskStatusWriteBehind(TaskRepository taskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${tasks.write-behind.directory:data/status-journal}") Path directory,
+                                 @Value("${tasks.write-behind.batch-size:1000}") int batchSize) throws IOException {
+        this(taskRepository, new TransactionTemplate(transactionManager), eventPublisher,
+                new StatusJournal(directory), batchSize);
+    }
+
+    TaskStatusWriteBehind(TaskRepository taskRepository,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          StatusJournal journal,
+                          int batchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.journal = journal;
+        this.batchSize = batchSize;
+    }
+
+    // Returns once the change is durable in the journal
+    public void put(UUID id, TaskStatus status) {
+        try {
+            long ticket;
+            synchronized (appendLock) {
+                ticket = journal.append(id, status);
+                pending.put(id, new Pending(status));
+                generation.incrementAndGet();
+            }
+            journal.sync(ticket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal status of task " + id, e);
+        }
+    }
+
+    // Null when the task has no buffered status
+    public TaskStatus pendingStatus(UUID id) {
+        Pending entry = pending.get(id);
+        return entry == null ? null : entry.status;
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // Changes with every buffered write, for list versions that must notice unflushed statuses
+    public long generation() {
+        return generation.get();
+    }
+
+    // Called before any other write to these tasks, so the buffered status cannot land after it
+    public void flushIfPending(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            if (pending.containsKey(id)) {
+                drain();
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.write-behind.flush-interval:PT1S}")
+    public void flush() {
+        if (!running) {
+            return;
+        }
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush {} buffered task statuses; will retry", pending.size(), e);
+        }
+    }
+
+    void drain() {
+        flushLock.lock();
+        try {
+            Map<UUID, Pending> snapshot;
+            List<Path> sealed;
+            synchronized (appendLock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                snapshot = Map.copyOf(pending);
+                sealed = journal.rotate();
+            }
+            transactionTemplate.executeWithoutResult(status -> write(snapshot));
+            journal.delete(sealed);
+            // Only entries that were not replaced since the snapshot
+            snapshot.forEach(pending::remove);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate the status journal", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(Map<UUID, Pending> snapshot) {
+        Map<UUID, TaskStatus> batch = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Pending> entry : snapshot.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue().status);
+            if (batch.size() == batchSize) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(Map<UUID, TaskStatus> batch) {
+        // A task archived after its status was buffered goes back to tasks, where the update can find it
+        taskRepository.restoreArchived(batch.keySet());
+        publish(taskRepository.updateStatuses(batch));
+    }
+
+    private void publish(List<TaskRowChange> changes) {
+        for (TaskRowChange change : changes) {
+            eventPublisher.publishEvent(TaskChangedEvent.updated(change.getPrevious(), change.getCurrent()));
+        }
+    }
+
+    // Replays before the web server starts, so reads see journaled statuses from the first request
+    @Override
+    public void start() {
+        try {
+            journal.replay((id, status) -> pending.put(id, new Pending(status)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay the status journal", e);
+        }
+        if (!pending.isEmpty()) {
+            logger.info("Replayed {} buffered task statuses from the journal", pending.size());
+        }
+        running = true;
+    }
+
+    // Stops after the web server, once no request can buffer anything new
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.warn("Could not flush {} buffered task statuses on shutdown; they stay journaled",
+                    pending.size(), e);
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warn("Could not close the status journal", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // Compared by identity, so a flush never removes a status written after its snapshot
+    private static final class Pending {
+        private final TaskStatus status;
+
+        private Pending(TaskStatus status) {
+            this.status = status;
+        }
+    }
+}
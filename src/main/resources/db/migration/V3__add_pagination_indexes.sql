@@ -0,0 +1,5 @@
+-- Support keyset pagination ordered by (created_at, id)
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+
+-- Same ordering within a single status for GET /api/tasks?status=
+CREATE INDEX idx_tasks_status_created_at_id ON tasks (status, created_at, id);
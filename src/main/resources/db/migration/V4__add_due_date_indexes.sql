@@ -0,0 +1,11 @@
+-- findByDueDateBefore: range scan on due_date across all statuses
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
+
+-- Open work only: overdue/due-soon lookups and statistics reconciliation.
+-- Completed and cancelled tasks accumulate forever, so keeping them out
+-- keeps this index small. B-tree indexes store NULLs, so open tasks without
+-- a due date are covered too.
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date)
+    WHERE status IN ('TODO', 'IN_PROGRESS');
+
+-- findByStatus is served by idx_tasks_status_created_at_id from V3
@@ -0,0 +1,7 @@
+-- Optimistic locking counter, incremented by Hibernate on every update.
+-- Also serves as the task's ETag.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- List ETags: COUNT(*) and MAX(updated_at), overall or per status, answered
+-- from this index (index-only when the visibility map is current)
+CREATE INDEX idx_tasks_status_updated_at ON tasks (status, updated_at);
@@ -0,0 +1,15 @@
+-- Full-text search over title (weight A) and description (weight B).
+-- A stored generated column is kept current by Postgres on every write,
+-- so no trigger or application code maintains it.
+ALTER TABLE tasks ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Trigram index on titles for typo-tolerant word similarity (<%)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_tasks_title_trgm ON tasks USING GIN (title gin_trgm_ops);
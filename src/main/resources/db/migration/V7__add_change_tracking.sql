@@ -0,0 +1,45 @@
+-- Change marker for GET /api/tasks/changes: the id of the transaction that
+-- last wrote the row. updated_at is the transaction's start time, so a write
+-- that commits after a sync has read past its timestamp would never be sent;
+-- transaction ids can instead be compared with the reader's snapshot xmin.
+ALTER TABLE tasks ADD COLUMN change_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_tasks_change_xid_id ON tasks (change_xid, id);
+
+CREATE OR REPLACE FUNCTION stamp_task_change_xid()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid = pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER stamp_tasks_change_xid
+    BEFORE UPDATE ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION stamp_task_change_xid();
+
+-- Deleted task ids, kept for tasks.sync.retention so clients can drop them
+CREATE TABLE task_tombstones (
+    task_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    change_xid xid8 NOT NULL DEFAULT pg_current_xact_id()
+);
+
+CREATE INDEX idx_task_tombstones_change_xid_id ON task_tombstones (change_xid, task_id);
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
+
+-- One INSERT per DELETE statement, however many rows it removed
+CREATE OR REPLACE FUNCTION record_task_tombstones()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO task_tombstones (task_id) SELECT id FROM deleted_tasks;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER record_tasks_tombstones
+    AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS deleted_tasks
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION record_task_tombstones();
@@ -0,0 +1,31 @@
+-- Completed and cancelled tasks that have not changed for tasks.archive.after
+-- are moved here in small batches, so tasks and its indexes only hold open
+-- and recently finished work. Lookups by id fall back to this table; a write
+-- to an archived task moves it back first.
+CREATE TABLE tasks_archive (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status task_status NOT NULL,
+    due_date TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Per-status counts for statistics reconciliation, answered index-only
+CREATE INDEX idx_tasks_archive_status ON tasks_archive (status);
+
+-- Archiving deletes from tasks too, but the task still exists: rows that the
+-- same statement wrote to the archive get no tombstone. AFTER triggers see
+-- every change of the statement that fired them, including its other CTEs.
+CREATE OR REPLACE FUNCTION record_task_tombstones()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO task_tombstones (task_id)
+    SELECT d.id FROM deleted_tasks d
+    WHERE NOT EXISTS (SELECT 1 FROM tasks_archive a WHERE a.id = d.id);
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
@@ -62,7 +62,7 @@ export class TaskFormComponent {
         : this.taskService.createTask(task);
 
       operation.subscribe({
-        next: () => this.dialogRef.close(true),
+        next: (saved) => this.dialogRef.close(saved),
         error: (error) => console.error('Error saving task:', error)
       });
     }
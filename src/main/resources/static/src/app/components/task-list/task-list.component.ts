@@ -1,14 +1,18 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
+import { FormControl, ReactiveFormsModule } from '@angular/forms';
 import { MatToolbarModule } from '@angular/material/toolbar';
 import { MatCardModule } from '@angular/material/card';
 import { MatButtonModule } from '@angular/material/button';
 import { MatIconModule } from '@angular/material/icon';
 import { MatChipsModule } from '@angular/material/chips';
+import { MatFormFieldModule } from '@angular/material/form-field';
+import { MatInputModule } from '@angular/material/input';
 import { MatDialogModule, MatDialog } from '@angular/material/dialog';
 import { MatSnackBar, MatSnackBarModule } from '@angular/material/snack-bar';
+import { Subscription, debounceTime, distinctUntilChanged, map, switchMap } from 'rxjs';
 import { TaskService } from '../../services/task.service';
-import { Task, TaskStatus } from '../../models/task.model';
+import { Task, TaskChange, TaskStatus } from '../../models/task.model';
 import { TaskFormComponent } from '../task-form/task-form.component';
 
 @Component({
@@ -18,18 +22,26 @@ import { TaskFormComponent } from '../task-form/task-form.component';
   standalone: true,
   imports: [
     CommonModule,
+    ReactiveFormsModule,
     MatToolbarModule,
     MatCardModule,
     MatButtonModule,
     MatIconModule,
     MatChipsModule,
+    MatFormFieldModule,
+    MatInputModule,
     MatDialogModule,
     MatSnackBarModule
   ]
 })
-export class TaskListComponent implements OnInit {
+export class TaskListComponent implements OnInit, OnDestroy {
   tasks: Task[] = [];
   TaskStatus = TaskStatus;
+  searchControl = new FormControl('', { nonNullable: true });
+  private statusFilter?: TaskStatus;
+  private searchQuery = '';
+  private searchSubscription?: Subscription;
+  private changesSubscription?: Subscription;
 
   constructor(
     private taskService: TaskService,
@@ -39,9 +51,35 @@ export class TaskListComponent implements OnInit {
 
   ngOnInit(): void {
     this.loadTasks();
+    // The server ranks matches; switchMap drops responses for queries the user has typed past
+    this.searchSubscription = this.searchControl.valueChanges.pipe(
+      debounceTime(250),
+      map(query => query.trim()),
+      distinctUntilChanged(),
+      switchMap(query => {
+        this.searchQuery = query;
+        this.statusFilter = undefined;
+        return query
+          ? this.taskService.search(query).pipe(map(page => page.items))
+          : this.taskService.getTasks();
+      })
+    ).subscribe({
+      next: (tasks) => this.tasks = tasks,
+      error: () => this.showError('Error searching tasks')
+    });
+    // Carries writes committed by the instance serving the stream, so the list is never refetched after a change
+    this.changesSubscription = this.taskService.changes()
+      .subscribe(change => this.applyChange(change));
+  }
+
+  ngOnDestroy(): void {
+    this.searchSubscription?.unsubscribe();
+    this.changesSubscription?.unsubscribe();
   }
 
   loadTasks(): void {
+    this.statusFilter = undefined;
+    this.searchQuery = '';
     this.taskService.getTasks().subscribe({
       next: (tasks) => {
         console.log(tasks);
@@ -55,6 +93,8 @@ export class TaskListComponent implements OnInit {
   }
 
   loadTasksByStatus(status?: TaskStatus): void {
+    this.statusFilter = status;
+    this.searchQuery = '';
     this.taskService.getTasksByStatus(status).subscribe({
       next: (tasks) => {
         console.log(tasks);
@@ -73,9 +113,10 @@ export class TaskListComponent implements OnInit {
       data: task
     });
 
-    dialogRef.afterClosed().subscribe(result => {
-      if (result) {
-        this.loadTasks();
+    // Applied from the response too: with several instances the stream may never carry this write
+    dialogRef.afterClosed().subscribe((saved?: Task) => {
+      if (saved) {
+        this.applyChange({ type: task ? 'UPDATED' : 'CREATED', id: saved.id, task: saved });
         this.showSuccess(task ? 'Task updated' : 'Task created');
       }
     });
@@ -85,7 +126,7 @@ export class TaskListComponent implements OnInit {
     if (confirm('Are you sure you want to delete this task?')) {
       this.taskService.deleteTask(task.id!).subscribe({
         next: () => {
-          this.loadTasks();
+          this.applyChange({ type: 'DELETED', id: task.id });
           this.showSuccess('Task deleted');
         },
         error: () => this.showError('Error deleting task')
@@ -93,6 +134,37 @@ export class TaskListComponent implements OnInit {
     }
   }
 
+  // A task joins the list whenever it becomes visible, such as an update moving it into the
+  // status filter. Search results are ranked by the server, so it only joins an unsearched list.
+  // A write arrives from its response and the stream in either order; the older version is ignored.
+  private applyChange(change: TaskChange): void {
+    if (change.type === 'RESYNC') {
+      this.reload();
+      return;
+    }
+    const task = change.task;
+    const visible = !!task && (!this.statusFilter || task.status === this.statusFilter);
+    const index = this.tasks.findIndex(t => t.id === change.id);
+    if (index >= 0 && task && (task.version ?? 0) < (this.tasks[index].version ?? 0)) {
+      return;
+    }
+    if (index >= 0) {
+      this.tasks = visible
+        ? this.tasks.map(t => t.id === change.id ? task! : t)
+        : this.tasks.filter(t => t.id !== change.id);
+    } else if (visible && !this.searchQuery) {
+      this.tasks = [...this.tasks, task!];
+    }
+  }
+
+  private reload(): void {
+    if (this.searchQuery) {
+      this.taskService.search(this.searchQuery).subscribe(page => this.tasks = page.items);
+    } else {
+      this.loadTasksByStatus(this.statusFilter);
+    }
+  }
+
   getStatusChipColor(status: TaskStatus): string {
     const colors = {
       [TaskStatus.TODO]: 'primary',
@@ -13,4 +13,26 @@ export interface Task {
   dueDate?: Date;
   createdAt?: Date;
   updatedAt?: Date;
+  // Sent back on update; the server rejects the write with 412 if the task changed meanwhile
+  version?: number;
+}
+
+export interface TaskPage {
+  items: Task[];
+  next?: string;
+}
+
+// Pushed by GET /api/tasks/stream; task is absent for DELETED.
+// RESYNC is raised by the client when the stream reconnects and changes may have been missed.
+export interface TaskChange {
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'RESYNC';
+  id?: string;
+  task?: Task;
+}
+
+// GET /api/tasks/changes: keep passing `next` as since while hasMore, then store it for the next sync
+export interface TaskChanges {
+  changes: TaskChange[];
+  next: string;
+  hasMore: boolean;
 }
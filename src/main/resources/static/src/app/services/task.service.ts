@@ -1,23 +1,66 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
-import { Task, TaskStatus } from '../models/task.model';
+import { EMPTY, Observable, expand, map, reduce } from 'rxjs';
+import { Task, TaskChange, TaskChanges, TaskPage, TaskStatus } from '../models/task.model';
 
 @Injectable({
   providedIn: 'root'
 })
 export class TaskService {
+  // The server's maximum page size, which keeps the number of round trips low
+  private pageLimit = 500;
   private apiUrl = 'https://congenial-space-parakeet-69rrrrq964j2rj9p-8080.app.github.dev/api/tasks';
 
   constructor(private http: HttpClient) {}
 
   getTasks(): Observable<Task[]> {
-    return this.http.get<Task[]>(this.apiUrl);
+    return this.getTasksByStatus();
   }
 
+  // Follows the next cursor until the last page, so the whole list is returned rather than the first page
   getTasksByStatus(status?: TaskStatus): Observable<Task[]> {
-    const url = status ? `${this.apiUrl}?status=${status}` : this.apiUrl;
-    return this.http.get<Task[]>(url);
+    return this.getPage(status, undefined, this.pageLimit).pipe(
+      expand(page => page.next ? this.getPage(status, page.next, this.pageLimit) : EMPTY),
+      map(page => page.items),
+      reduce((tasks, items) => tasks.concat(items), [] as Task[])
+    );
+  }
+
+  getPage(status?: TaskStatus, after?: string, limit?: number): Observable<TaskPage> {
+    const params: Record<string, string> = {};
+    if (status) params['status'] = status;
+    if (after) params['after'] = after;
+    if (limit) params['limit'] = String(limit);
+    return this.http.get<TaskPage>(this.apiUrl, { params });
+  }
+
+  search(query: string, after?: string, limit?: number): Observable<TaskPage> {
+    const params: Record<string, string> = { q: query };
+    if (after) params['after'] = after;
+    if (limit) params['limit'] = String(limit);
+    return this.http.get<TaskPage>(`${this.apiUrl}/search`, { params });
+  }
+
+  // Without since this is a full sync; a 410 response means the token expired and a full sync is needed
+  getChanges(since?: string, limit?: number): Observable<TaskChanges> {
+    const params: Record<string, string> = {};
+    if (since) params['since'] = since;
+    if (limit) params['limit'] = String(limit);
+    return this.http.get<TaskChanges>(`${this.apiUrl}/changes`, { params });
+  }
+
+  // EventSource reconnects on its own; every reconnect after the first open is reported as RESYNC
+  changes(): Observable<TaskChange> {
+    return new Observable<TaskChange>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/stream`, { withCredentials: true });
+      let opened = false;
+      source.onopen = () => {
+        if (opened) subscriber.next({ type: 'RESYNC' });
+        opened = true;
+      };
+      source.addEventListener('change', event => subscriber.next(JSON.parse((event as MessageEvent).data)));
+      return () => source.close();
+    });
   }
 
   getTask(id: string): Observable<Task> {
@@ -32,6 +75,11 @@ export class TaskService {
     return this.http.put<Task>(`${this.apiUrl}/${id}`, task);
   }
 
+  // Sends only the given fields; a field set to null is cleared
+  patchTask(id: string, changes: Partial<Task>): Observable<Task> {
+    return this.http.patch<Task>(`${this.apiUrl}/${id}`, changes);
+  }
+
   deleteTask(id: string): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
@@ -0,0 +1,157 @@
+package com.learning.taskmanagement.archive;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.taskmanagement.event.TasksArchivedEvent;
+import com.learning.taskmanagement.repository.TaskRepository;
+
+/**
+ * Unit tests for TaskArchiver.
+ *
+ * Learning Points:
+ * 1. The mocked transaction template runs its callback inline, so each run's
+ *    repository call can be stubbed and verified
+ * 2. A mutable clock steps through the idle interval without sleeping
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        archiver = new TaskArchiver(taskRepository, transactionTemplate, eventPublisher, Duration.ofDays(30),
+                BATCH_SIZE, Duration.ofMinutes(10), clock);
+        doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void archiveBatch_ShouldMoveTasksFinishedBeforeTheConfiguredAge() {
+        // Arrange
+        when(taskRepository.archiveFinishedBefore(any(), anyInt())).thenReturn(3);
+
+        // Act
+        archiver.archiveBatch();
+
+        // Assert
+        verify(taskRepository).archiveFinishedBefore(START.minusDays(30), BATCH_SIZE);
+        assertThat(archiver.getArchived()).isEqualTo(3);
+    }
+
+    @Test
+    void archiveBatch_AfterFullBatch_ShouldContinueOnNextRun() {
+        // Arrange
+        when(taskRepository.archiveFinishedBefore(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE, 7);
+
+        // Act
+        archiver.archiveBatch();
+        archiver.archiveBatch();
+
+        // Assert
+        verify(taskRepository, times(2)).archiveFinishedBefore(any(), eq(BATCH_SIZE));
+        assertThat(archiver.getArchived()).isEqualTo(BATCH_SIZE + 7);
+    }
+
+    @Test
+    void archiveBatch_AfterPartialBatch_ShouldIdleForTheInterval() {
+        // Arrange
+        when(taskRepository.archiveFinishedBefore(any(), anyInt())).thenReturn(7, 0);
+
+        // Act
+        archiver.archiveBatch();
+        clock.advance(Duration.ofMinutes(9));
+        archiver.archiveBatch();
+        clock.advance(Duration.ofMinutes(1));
+        archiver.archiveBatch();
+
+        // Assert
+        verify(taskRepository, times(2)).archiveFinishedBefore(any(), anyInt());
+    }
+
+    @Test
+    void archiveBatch_ShouldPublishAnEventOnlyWhenTasksMoved() {
+        // Arrange
+        when(taskRepository.archiveFinishedBefore(any(), anyInt())).thenReturn(BATCH_SIZE, 0);
+
+        // Act
+        archiver.archiveBatch();
+        archiver.archiveBatch();
+
+        // Assert
+        verify(eventPublisher).publishEvent(any(TasksArchivedEvent.class));
+    }
+
+    @Test
+    void archiveBatch_WhenDatabaseFails_ShouldBackOffForTheInterval() {
+        // Arrange
+        when(taskRepository.archiveFinishedBefore(any(), anyInt())).thenThrow(new QueryTimeoutException("slow"));
+
+        // Act
+        archiver.archiveBatch();
+        archiver.archiveBatch();
+
+        // Assert
+        verify(taskRepository, times(1)).archiveFinishedBefore(any(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(archiver.getArchived()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return instant; }
+    }
+}
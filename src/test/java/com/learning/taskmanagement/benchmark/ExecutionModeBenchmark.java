@@ -0,0 +1,154 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.learning.taskmanagement.TaskManagementApplication;
+
+/**
+ * Compares platform and virtual request threads, with and without the database permit queue.
+ *
+ * Not part of the regular test run (the class name does not match the surefire
+ * includes). Run it explicitly, optionally with more concurrent clients:
+ *
+ *   mvn test -Dtest=ExecutionModeBenchmark -Dbenchmark.clients=5000
+ *
+ * Learning Points:
+ * 1. Every client holds an open request, so concurrency far exceeds the 10 pooled
+ *    connections and the 200 Tomcat platform threads
+ * 2. Without the permit queue, requests wait inside Hikari and fail once
+ *    connection-timeout (shortened to 2s here) expires; with it they may queue
+ *    for up to two minutes
+ * 3. Toxiproxy adds round-trip latency to every statement (10ms by default), standing
+ *    in for a remote database and keeping connections busy long enough to queue
+ */
+@Testcontainers
+class ExecutionModeBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 2_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 5);
+    private static final int LATENCY_MILLIS = Integer.getInteger("benchmark.latency", 10);
+    private static final int PROXY_PORT = 8666;
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.2")
+            .withNetwork(network)
+            .withNetworkAliases("postgres");
+
+    @Container
+    static ToxiproxyContainer toxiproxy = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0")
+            .withNetwork(network);
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        ToxiproxyClient client = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort());
+        Proxy proxy = client.createProxy("postgres", "0.0.0.0:" + PROXY_PORT, "postgres:5432");
+        proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, LATENCY_MILLIS);
+
+        System.out.printf("%n%-28s %10s %10s %10s %10s %8s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (boolean virtual : new boolean[] {false, true}) {
+            for (boolean limited : new boolean[] {false, true}) {
+                System.out.println(run(virtual, limited));
+            }
+        }
+    }
+
+    private String run(boolean virtual, boolean limited) throws Exception {
+        String jdbcUrl = "jdbc:postgresql://" + toxiproxy.getHost() + ":" + toxiproxy.getMappedPort(PROXY_PORT)
+                + "/" + postgres.getDatabaseName();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.connection-timeout=2000",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate=WARN",
+                        "logging.level.com.learning.taskmanagement=INFO",
+                        "tasks.cache.enabled=false",
+                        "tasks.scheduler.enabled=false",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "tasks.db.concurrency.enabled=" + limited,
+                        "tasks.db.concurrency.queue-timeout=PT2M")
+                .run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            return measure(port, (virtual ? "virtual" : "platform") + (limited ? " + permits" : ""));
+        }
+    }
+
+    private String measure(int port, String label) throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/api/tasks?limit=20");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(5)).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - begin;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        return String.format("%-28s %10.0f %10.1f %10.1f %10.1f %8d",
+                label, latencies.length / seconds,
+                millis(latencies, 0.50), millis(latencies, 0.99), latencies[latencies.length - 1] / 1e6,
+                errors.get());
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(percentile * sorted.length))] / 1e6;
+    }
+}
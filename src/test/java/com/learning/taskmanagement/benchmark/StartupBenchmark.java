@@ -0,0 +1,130 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Times cold starts of the regular jar and the fast-start build, up to the first successful GET /api/tasks.
+ *
+ * Not part of the regular test run (the class name does not match the surefire
+ * includes). The fast-start Maven profile runs it after building both jars:
+ *
+ *   mvn -Pfast-start verify -DskipTests -Dstartup.benchmark.runs=10
+ *
+ * Learning Points:
+ * 1. Each start is a fresh JVM, so nothing is shared between runs except the
+ *    CDS archive and the operating system's file cache
+ * 2. The clock stops at the first 200 from a real endpoint, which includes
+ *    Tomcat, the connection pool and the first query rather than just the
+ *    "Started" log line
+ * 3. Runs alternate between the two modes, so a slow patch on the machine
+ *    affects both instead of skewing one
+ */
+class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+    private static final int PORT = Integer.getInteger("benchmark.port", 18080);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("benchmark.timeout", 180));
+    private static final String DATASOURCE_URL =
+            System.getProperty("benchmark.datasource.url", "jdbc:postgresql://localhost:5432/taskdb");
+    private static final Path JAR =
+            Paths.get(System.getProperty("benchmark.jar", "target/task-management-0.0.1-SNAPSHOT.jar"));
+    private static final Path FAST_START_JAR = Paths.get(System.getProperty("benchmark.fast-start.jar",
+            "target/fast-start/task-management-0.0.1-SNAPSHOT-fast-start.jar"));
+    private static final Path REPORT =
+            Paths.get(System.getProperty("benchmark.report", "target/startup-benchmark.txt"));
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        Path archive = FAST_START_JAR.resolveSibling("application.jsa");
+        assertThat(JAR).as("regular jar, build it with mvn package").exists();
+        assertThat(archive).as("CDS archive, build it with mvn -Pfast-start verify").exists();
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("regular", List.of("-jar", JAR.toString()));
+        modes.put("fast-start", List.of(
+                "-XX:SharedArchiveFile=" + archive,
+                "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=fast-start",
+                "-jar", FAST_START_JAR.toString()));
+
+        Map<String, List<Long>> timings = new LinkedHashMap<>();
+        modes.keySet().forEach(mode -> timings.put(mode, new ArrayList<>()));
+        for (int run = 0; run < RUNS; run++) {
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                timings.get(mode.getKey()).add(timeToFirstResponse(mode.getKey(), mode.getValue(), run));
+            }
+        }
+
+        StringBuilder report = new StringBuilder(String.format(
+                "%n%-12s %8s %8s %8s   (%d runs, ms to first GET /api/tasks)%n", "mode", "min", "median", "max", RUNS));
+        timings.forEach((mode, millis) -> {
+            Collections.sort(millis);
+            report.append(String.format("%-12s %8d %8d %8d%n",
+                    mode, millis.get(0), millis.get(millis.size() / 2), millis.get(millis.size() - 1)));
+        });
+        System.out.print(report);
+        Files.writeString(REPORT, report.toString().stripLeading());
+    }
+
+    private long timeToFirstResponse(String mode, List<String> launch, int run) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dserver.port=" + PORT);
+        command.add("-Dspring.datasource.url=" + DATASOURCE_URL);
+        command.addAll(launch);
+        Path log = REPORT.resolveSibling("startup-benchmark-" + mode + "-" + run + ".log");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + PORT + "/api/tasks"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("application exited, see %s", log).isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // Tomcat is not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("No successful GET /api/tasks within " + TIMEOUT + ", see " + log);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
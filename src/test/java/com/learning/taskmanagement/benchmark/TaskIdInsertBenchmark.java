@@ -0,0 +1,118 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.learning.taskmanagement.domain.TaskIdGenerator;
+import com.learning.taskmanagement.domain.UuidV7Generator;
+
+/**
+ * Compares insert throughput and primary key index shape for v4 and v7 task IDs.
+ *
+ * Not part of the regular test run (the class name does not match the surefire
+ * includes). Run it explicitly, optionally with a larger table:
+ *
+ *   mvn test -Dtest=TaskIdInsertBenchmark -Dbenchmark.rows=5000000
+ *
+ * Learning Points:
+ * 1. Random keys touch every leaf page, so the index splits and WAL grows
+ * 2. Time-ordered keys append to the rightmost leaf and keep pages full
+ * 3. pgstattuple's pgstatindex reports leaf density and fragmentation
+ */
+@Testcontainers
+class TaskIdInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.2")
+            .withCommand("postgres", "-c", "shared_buffers=128MB");
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                postgres.getUsername(), postgres.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            }
+
+            Result random = run(connection, "tasks_v4", UUID::randomUUID);
+            Result ordered = run(connection, "tasks_v7", new UuidV7Generator());
+
+            System.out.printf("%n%-10s %12s %14s %14s %12s %14s%n",
+                    "keys", "rows/s", "index MB", "WAL MB", "leaf dens %", "leaf frag %");
+            System.out.println(random.format("uuid v4"));
+            System.out.println(ordered.format("uuid v7"));
+        }
+    }
+
+    private Result run(Connection connection, String table, TaskIdGenerator generator) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id UUID PRIMARY KEY, "
+                    + "title VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            statement.execute("CHECKPOINT");
+        }
+        long walStart = walPosition(connection);
+        long start = System.nanoTime();
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, title) VALUES (?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, generator.nextId());
+                insert.setString(2, "Task " + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long walBytes = walPosition(connection) - walStart;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT pg_relation_size('" + table + "_pkey'), avg_leaf_density, leaf_fragmentation "
+                     + "FROM pgstatindex('" + table + "_pkey')")) {
+            rs.next();
+            return new Result(ROWS / seconds, rs.getLong(1), walBytes, rs.getDouble(2), rs.getDouble(3));
+        }
+    }
+
+    private long walPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes, long walBytes,
+                          double leafDensity, double leafFragmentation) {
+        String format(String label) {
+            return String.format("%-10s %12.0f %14.1f %14.1f %12.1f %14.1f",
+                    label, rowsPerSecond, indexBytes / 1048576.0, walBytes / 1048576.0,
+                    leafDensity, leafFragmentation);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.learning.taskmanagement.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.UuidV7Generator;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares loading entities and mapping them with selecting DTOs directly.
+ *
+ * Not part of the regular test run (the class name does not match the surefire
+ * includes). Run it explicitly, optionally with more rows:
+ *
+ *   mvn test -Dtest=TaskReadPathBenchmark -Dbenchmark.rows=200000
+ *
+ * Learning Points:
+ * 1. Both paths run the same SQL in a read-only transaction; only result handling differs
+ * 2. Thread allocation counters report the bytes each read allocates, including
+ *    the persistence context entries the entity path creates
+ * 3. A fixed number of warmup rounds lets the JIT settle before measuring
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "logging.level.org.hibernate=WARN"})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskReadPathBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int[] SIZES = {500, 10_000, 100_000};
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.2");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareEntityAndProjectionReads() {
+        seed();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        System.out.printf("%n%-12s %8s %12s %14s%n", "path", "rows", "avg ms", "alloc KB/op");
+        for (int size : SIZES) {
+            int rows = Math.min(size, ROWS);
+            System.out.println(measure("entity", rows, () -> readOnly.execute(status -> entityPath(rows))));
+            System.out.println(measure("projection", rows, () -> readOnly.execute(status -> projectionPath(rows))));
+        }
+    }
+
+    // The read path before projections: managed entities copied into DTOs
+    private List<TaskDTO> entityPath(int rows) {
+        return entityManager.createQuery("SELECT t FROM Task t ORDER BY t.createdAt, t.id", Task.class)
+                .setMaxResults(rows)
+                .getResultList()
+                .stream()
+                .map(task -> new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                        task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt()))
+                .toList();
+    }
+
+    private List<TaskDTO> projectionPath(int rows) {
+        return taskRepository.findPage(Limit.of(rows));
+    }
+
+    private String measure(String label, int rows, Supplier<List<TaskDTO>> read) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < WARMUP; i++) {
+            read.get();
+        }
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            if (read.get().size() != rows) {
+                throw new IllegalStateException("Unexpected row count");
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+        double kilobytes = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / 1024.0 / ROUNDS;
+        return String.format("%-12s %8d %12.2f %14.0f", label, rows, millis, kilobytes);
+    }
+
+    private void seed() {
+        UuidV7Generator ids = new UuidV7Generator();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            UUID id = ids.nextId();
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            rows.add(new Object[] {id, "Task " + i, "Benchmark description " + i, "TODO",
+                    Timestamp.valueOf(base.plusDays(i % 90)), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, description, status, due_date, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+}
@@ -0,0 +1,100 @@
+package com.learning.taskmanagement.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskCacheStatsDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.service.CachingTaskService;
+import com.learning.taskmanagement.service.TaskServiceImpl;
+
+/**
+ * Unit tests for the read-through task cache.
+ *
+ * Learning Points:
+ * 1. Using a real Caffeine cache with a mocked delegate checks hit/miss behavior
+ * 2. Verifying delegate call counts proves which reads were served from memory
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingTaskServiceTest {
+
+    @Mock
+    private TaskServiceImpl delegate;
+
+    private TaskCache taskCache;
+    private CachingTaskService cachingService;
+
+    @BeforeEach
+    void setUp() {
+        taskCache = new TaskCache(100, 10, Duration.ofMinutes(5));
+        cachingService = new CachingTaskService(delegate, taskCache);
+    }
+
+    @Test
+    void getTask_ShouldLoadOnceAndServeRepeatsFromCache() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO task = new TaskDTO(id, "Hot Task", null, TaskStatus.TODO, null, null, null);
+        when(delegate.getTask(id)).thenReturn(Optional.of(task));
+
+        // Act
+        cachingService.getTask(id);
+        Optional<TaskDTO> second = cachingService.getTask(id);
+
+        // Assert
+        assertThat(second).contains(task);
+        verify(delegate, times(1)).getTask(id);
+        TaskCacheStatsDTO stats = taskCache.getStats().get(0);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getTask_WhenMissing_ShouldNotCacheAbsence() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(delegate.getTask(id)).thenReturn(Optional.empty());
+
+        // Act
+        cachingService.getTask(id);
+        cachingService.getTask(id);
+
+        // Assert
+        verify(delegate, times(2)).getTask(id);
+    }
+
+    @Test
+    void evict_ShouldDropTaskAndAllPages() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO task = new TaskDTO(id, "Task", null, TaskStatus.TODO, null, null, null);
+        when(delegate.getTask(id)).thenReturn(Optional.of(task));
+        when(delegate.getTasksByStatus(TaskStatus.TODO, null, 50))
+                .thenReturn(new TaskPageDTO(List.of(task), null));
+        cachingService.getTask(id);
+        cachingService.getTasksByStatus(TaskStatus.TODO, null, 50);
+
+        // Act
+        taskCache.evict(List.of(id));
+        cachingService.getTask(id);
+        cachingService.getTasksByStatus(TaskStatus.TODO, null, 50);
+
+        // Assert
+        verify(delegate, times(2)).getTask(id);
+        verify(delegate, times(2)).getTasksByStatus(TaskStatus.TODO, null, 50);
+    }
+}
@@ -0,0 +1,47 @@
+package com.learning.taskmanagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MigrationConfig's schema version comparison.
+ *
+ * Learning Points:
+ * 1. Flyway can be configured without a data source, which is enough to read
+ *    the packaged scripts from the test classpath
+ */
+class MigrationConfigTest {
+
+    private static final String[] SUFFIXES = {".sql"};
+
+    @Test
+    void versionOf_WithVersionedScript_ShouldParseVersion() {
+        // Act & Assert
+        assertThat(MigrationConfig.versionOf("V8__add_task_archive.sql", "V", "__", SUFFIXES))
+                .isEqualTo(MigrationVersion.fromVersion("8"));
+        assertThat(MigrationConfig.versionOf("V1_2__split.sql", "V", "__", SUFFIXES))
+                .isEqualTo(MigrationVersion.fromVersion("1.2"));
+    }
+
+    @Test
+    void versionOf_WithOtherFiles_ShouldReturnNull() {
+        // Act & Assert
+        assertThat(MigrationConfig.versionOf("migration", "V", "__", SUFFIXES)).isNull();
+        assertThat(MigrationConfig.versionOf("V__missing_version.sql", "V", "__", SUFFIXES)).isNull();
+        assertThat(MigrationConfig.versionOf("V9__notes.txt", "V", "__", SUFFIXES)).isNull();
+    }
+
+    @Test
+    void newestPackagedVersion_ShouldFindHighestScript() throws Exception {
+        // Arrange
+        Flyway flyway = Flyway.configure().locations("classpath:db/migration").load();
+
+        // Act
+        MigrationVersion newest = MigrationConfig.newestPackagedVersion(flyway);
+
+        // Assert
+        assertThat(newest).isEqualTo(MigrationVersion.fromVersion("8"));
+    }
+}
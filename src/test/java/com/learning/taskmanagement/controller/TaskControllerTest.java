@@ -1,32 +1,74 @@
 package com.learning.taskmanagement.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.learning.taskmanagement.config.SecurityConfig;
+import com.learning.taskmanagement.domain.DueBucket;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangeDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
 import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.dto.TaskStatsDTO;
+import com.learning.taskmanagement.exception.InvalidCursorException;
+import com.learning.taskmanagement.exception.InvalidTaskPatchException;
+import com.learning.taskmanagement.exception.SyncTokenExpiredException;
 import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.exception.TaskVersionMismatchException;
+import com.learning.taskmanagement.exception.TooManySubscribersException;
 import com.learning.taskmanagement.service.TaskService;
+import com.learning.taskmanagement.stats.TaskStatistics;
+import com.learning.taskmanagement.stream.TaskChangeFeed;
 
 /**
  * Unit tests for TaskController.
@@ -38,7 +80,9 @@ import com.learning.taskmanagement.service.TaskService;
  * 4. Verifying JSON responses
  */
 @WebMvcTest(TaskController.class)
+@Import(SecurityConfig.class)
 class TaskControllerTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
 
     @Autowired
     private MockMvc mockMvc;
@@ -46,6 +90,12 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskStatistics taskStatistics;
+
+    @MockBean
+    private TaskChangeFeed taskChangeFeed;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -109,13 +159,60 @@ class TaskControllerTest {
         // Arrange
         TaskDTO task = new TaskDTO(UUID.randomUUID(), "Test Task", "Description", 
                 TaskStatus.TODO, null, null, null);
-        when(taskService.getAllTasks()).thenReturn(List.of(task));
+        when(taskService.getAllTasks(null, 50)).thenReturn(new TaskPageDTO(List.of(task), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Test Task"))
-                .andExpect(jsonPath("$[0].status").value("TODO"));
+                .andExpect(jsonPath("$.items[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.items[0].status").value("TODO"));
+    }
+
+    @Test
+    void getAllTasks_WithCursor_ShouldPassCursorAndReturnNext() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Test Task", "Description",
+                TaskStatus.TODO, null, null, null);
+        when(taskService.getAllTasks("abc", 10)).thenReturn(new TaskPageDTO(List.of(task), "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks")
+                .param("after", "abc")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next").value("def"));
+    }
+
+    @Test
+    void getAllTasks_WithInvalidCursor_ShouldReturn400() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks("bogus", 50)).thenThrow(new InvalidCursorException("bogus"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").param("after", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTasks_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Write docs", null, TaskStatus.TODO, null, null, null);
+        when(taskService.searchTasks("docs", null, 20))
+                .thenReturn(new TaskPageDTO(List.of(task), "next-page"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search").param("q", "docs").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Write docs"))
+                .andExpect(jsonPath("$.next").value("next-page"));
+    }
+
+    @Test
+    void searchTasks_WithoutQuery_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -134,21 +231,200 @@ class TaskControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getTask_ShouldReturnETagAndHonourIfNoneMatch() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO task = new TaskDTO(id, "Versioned", null, TaskStatus.TODO, null, null, null, 3L);
+        when(taskService.getTask(id)).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""));
+        mockMvc.perform(get("/api/tasks/" + id).header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllTasks_WhenListUnchanged_ShouldReturn304WithoutReadingPage() throws Exception {
+        // Arrange
+        when(taskService.getListVersion(null)).thenReturn("2:2026-01-01T00:00");
+        when(taskService.getAllTasks(null, 50)).thenReturn(new TaskPageDTO(List.of(), null));
+        String eTag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        verify(taskService, times(1)).getAllTasks(null, 50);
+
+        when(taskService.getListVersion(null)).thenReturn("3:2026-01-01T00:01");
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllTasks_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Binary", null, TaskStatus.TODO, null, null, null);
+        when(taskService.getAllTasks(null, 50)).thenReturn(new TaskPageDTO(List.of(task), null));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        // Assert
+        JsonNode page = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(page.get("items").get(0).get("title").asText()).isEqualTo("Binary");
+    }
+
+    @Test
+    void getTask_WithSmileAccept_ShouldReturnSmile() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO task = new TaskDTO(id, "Binary", null, TaskStatus.COMPLETED, null, null, null);
+        when(taskService.getTask(id)).thenReturn(Optional.of(task));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/" + id).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("status").asText()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void getAllTasks_WithoutAccept_ShouldDefaultToJson() throws Exception {
+        // Arrange
+        when(taskService.getAllTasks(null, 50)).thenReturn(new TaskPageDTO(List.of(), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void createTask_WithCborBody_ShouldReadIt() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(null, "From CBOR", null, TaskStatus.TODO, null, null, null);
+        when(taskService.createTask(any(TaskDTO.class)))
+                .thenAnswer(invocation -> invocation.<TaskDTO>getArgument(0));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new CBORMapper().writeValueAsBytes(task)))
+                .andExpect(status().isOk());
+        verify(taskService).createTask(argThat(created -> "From CBOR".equals(created.getTitle())));
+    }
+
+    @Test
+    void updateTask_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO updateDto = new TaskDTO(id, "Updated", null, TaskStatus.TODO, null, null, null);
+        when(taskService.updateTask(eq(id), any(TaskDTO.class)))
+                .thenAnswer(invocation -> invocation.<TaskDTO>getArgument(1).withVersion(8L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"8\""));
+        verify(taskService).updateTask(eq(id), argThat(task -> Long.valueOf(7).equals(task.getVersion())));
+    }
+
+    @Test
+    void updateTask_WhenVersionStale_ShouldReturn412() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO updateDto = new TaskDTO(id, "Updated", null, TaskStatus.TODO, null, null, null);
+        when(taskService.updateTask(eq(id), any(TaskDTO.class)))
+                .thenThrow(new TaskVersionMismatchException(id));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateTask_WithWeakIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO updateDto = new TaskDTO(id, "Updated", null, TaskStatus.TODO, null, null, null);
+        when(taskService.updateTask(eq(id), any(TaskDTO.class)))
+                .thenAnswer(invocation -> invocation.<TaskDTO>getArgument(1).withVersion(2L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "W/\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk());
+        verify(taskService).updateTask(eq(id), argThat(task -> Long.valueOf(1).equals(task.getVersion())));
+    }
+
+    @Test
+    void updateTask_WithUnparsableIfMatch_ShouldReturn412() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO updateDto = new TaskDTO(id, "Updated", null, TaskStatus.TODO, null, null, null);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "W/\"one\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateTask_WithIfMatchAnyOnMissingTask_ShouldReturn412() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO updateDto = new TaskDTO(id, "Updated", null, TaskStatus.TODO, null, null, null);
+        when(taskService.updateTask(eq(id), any(TaskDTO.class)))
+                .thenThrow(new TaskNotFoundException(id));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void getTasksByStatus_ShouldReturnFilteredTasks() throws Exception {
         // Arrange
         TaskDTO task = new TaskDTO(UUID.randomUUID(), "Test Task", "Description", 
                 TaskStatus.IN_PROGRESS, null, null, null);
-        when(taskService.getTasksByStatus(TaskStatus.IN_PROGRESS))
-                .thenReturn(List.of(task));
+        when(taskService.getTasksByStatus(TaskStatus.IN_PROGRESS, null, 50))
+                .thenReturn(new TaskPageDTO(List.of(task), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks")
                 .param("status", "IN_PROGRESS"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$", hasSize(1)));
+                .andExpect(jsonPath("$.items[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items", hasSize(1)));
     }
 
     @Test
@@ -161,4 +437,222 @@ class TaskControllerTest {
         mockMvc.perform(delete("/api/tasks/" + id))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void deleteTask_WhenTaskDoesNotExist_ShouldReturn404() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        doThrow(new TaskNotFoundException(id)).when(taskService).deleteTask(id);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/tasks/" + id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchTask_ShouldPassOnlySentFields() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO patched = new TaskDTO(id, "Title", null, TaskStatus.COMPLETED, null, null, null, 3L);
+        when(taskService.patchTask(eq(id), any(TaskPatchDTO.class))).thenReturn(patched);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"COMPLETED\",\"description\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+        verify(taskService).patchTask(eq(id), argThat(patch ->
+                patch.hasStatus() && patch.hasDescription() && !patch.hasTitle() && !patch.hasDueDate()));
+    }
+
+    @Test
+    void patchTask_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskService.patchTask(eq(id), any(TaskPatchDTO.class)))
+                .thenReturn(new TaskDTO(id, "Title", null, TaskStatus.TODO, null, null, null, 6L));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Title\"}"))
+                .andExpect(status().isOk());
+        verify(taskService).patchTask(eq(id), argThat(patch -> Long.valueOf(5).equals(patch.getVersion())));
+    }
+
+    @Test
+    void patchTask_WhenTaskDoesNotExist_ShouldReturn404() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskService.patchTask(eq(id), any(TaskPatchDTO.class)))
+                .thenThrow(new TaskNotFoundException(id));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Title\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchTask_WhenClearingTitle_ShouldReturn400() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskService.patchTask(eq(id), any(TaskPatchDTO.class)))
+                .thenThrow(new InvalidTaskPatchException("Title is required"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getChanges_ShouldReturnChangesAndNextToken() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Changed", null, TaskStatus.TODO, null, null, null);
+        UUID deletedId = UUID.randomUUID();
+        when(taskService.getChanges("token", 500)).thenReturn(new TaskChangesDTO(List.of(
+                new TaskChangeDTO(TaskChangedEvent.Type.UPDATED, task.getId(), task),
+                new TaskChangeDTO(TaskChangedEvent.Type.DELETED, deletedId, null)), "next-token", false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes").param("since", "token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].task.title").value("Changed"))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETED"))
+                .andExpect(jsonPath("$.changes[1].id").value(deletedId.toString()))
+                .andExpect(jsonPath("$.next").value("next-token"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getChanges_WithExpiredToken_ShouldReturn410() throws Exception {
+        // Arrange
+        when(taskService.getChanges("old", 500)).thenThrow(new SyncTokenExpiredException());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes").param("since", "old"))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void streamChanges_ShouldOpenEventStream() throws Exception {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(taskChangeFeed.subscribe()).thenReturn(emitter);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("change").data("{}"));
+        emitter.complete();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string("event:change\ndata:{}\n\n"));
+    }
+
+    @Test
+    void streamChanges_WhenFeedFull_ShouldReturn503() throws Exception {
+        // Arrange
+        when(taskChangeFeed.subscribe()).thenThrow(new TooManySubscribersException(1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stream"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTasks_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        TaskDTO first = new TaskDTO(UUID.randomUUID(), "First", null, TaskStatus.TODO, null, null, null);
+        TaskDTO second = new TaskDTO(UUID.randomUUID(), "Second", null, TaskStatus.COMPLETED, null, null, null);
+        doAnswer(invocation -> {
+            Consumer<TaskDTO> sink = invocation.getArgument(0);
+            sink.accept(first);
+            sink.accept(second);
+            return null;
+        }).when(taskService).exportTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(startsWith("{")))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], TaskDTO.class).getTitle()).isEqualTo("Second");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTasks_ShouldWriteDatesLikeGetTask() throws Exception {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Dated", null, TaskStatus.TODO,
+                LocalDateTime.of(2030, 1, 2, 3, 4), LocalDateTime.of(2024, 5, 6, 7, 8), LocalDateTime.of(2024, 5, 6, 7, 9));
+        when(taskService.getTask(task.getId())).thenReturn(Optional.of(task));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TaskDTO>>getArgument(0).accept(task);
+            return null;
+        }).when(taskService).exportTasks(any(Consumer.class));
+
+        // Act
+        String single = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andReturn().getResponse().getContentAsString();
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")).andReturn();
+        String exported = mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertThat(objectMapper.readTree(exported.trim())).isEqualTo(objectMapper.readTree(single));
+    }
+
+    @Test
+    void applyBatch_ShouldReturnPerItemResults() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        List<TaskBatchOperationDTO> operations = List.of(
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, id, null));
+        when(taskService.applyBatch(anyList())).thenReturn(List.of(
+                new TaskBatchResultDTO(0, id, TaskBatchResultDTO.Outcome.NOT_FOUND, "Task not found")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    void getStatistics_ShouldReturnCounters() throws Exception {
+        // Arrange
+        when(taskStatistics.snapshot()).thenReturn(new TaskStatsDTO(3,
+                Map.of(TaskStatus.TODO, 2L, TaskStatus.COMPLETED, 1L), 1,
+                Map.of(DueBucket.OVERDUE, 1L, DueBucket.NO_DUE_DATE, 1L), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueBuckets.NO_DUE_DATE").value(1));
+    }
 }
@@ -0,0 +1,107 @@
+package com.learning.taskmanagement.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UuidV7Generator.
+ *
+ * Learning Points:
+ * 1. Injecting the clock makes time-dependent code deterministic
+ * 2. Comparing the raw bits checks ordering the way Postgres sorts uuid values
+ */
+class UuidV7GeneratorTest {
+
+    @Test
+    void nextId_ShouldSetVersionAndVariant() {
+        // Act
+        UUID id = new UuidV7Generator().nextId();
+
+        // Assert
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void nextId_ShouldEncodeClockMillisInLeadingBits() {
+        // Arrange
+        long millis = 1_700_000_000_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> millis);
+
+        // Act
+        UUID id = generator.nextId();
+
+        // Assert
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(millis);
+    }
+
+    @Test
+    void nextId_WithinSameMillisecond_ShouldIncrease() {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_000L);
+
+        // Act
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    void nextId_WhenClockMovesBackwards_ShouldStillIncrease() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        UUID before = generator.nextId();
+
+        // Act
+        clock.addAndGet(-5_000);
+        UUID after = generator.nextId();
+
+        // Assert
+        assertThat(Long.compareUnsigned(after.getMostSignificantBits(), before.getMostSignificantBits()))
+                .isPositive();
+    }
+
+    @Test
+    void nextId_UnderConcurrency_ShouldNeverRepeat() throws Exception {
+        // Arrange
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    seen.add(generator.nextId().getMostSignificantBits());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert: the timestamp + counter half alone is unique
+        assertThat(seen).hasSize(160_000);
+    }
+}
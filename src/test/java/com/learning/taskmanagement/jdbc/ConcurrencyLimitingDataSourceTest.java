@@ -0,0 +1,124 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+
+/**
+ * Unit tests for ConcurrencyLimitingDataSource.
+ *
+ * Learning Points:
+ * 1. Permits are observable, so tests can assert on queueing without timing games
+ * 2. A waiting virtual thread shows that queued callers are released by close()
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(200));
+    }
+
+    @Test
+    void getConnection_ShouldHoldPermitUntilClosed() throws SQLException {
+        // Arrange
+        Connection pooled = mock(Connection.class);
+        when(target.getConnection()).thenReturn(pooled);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        connection.close();
+        connection.close();
+        verify(pooled, times(2)).close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void getConnection_WhenPermitsExhausted_ShouldWaitForClose() throws Exception {
+        // Arrange
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        CompletableFuture<Connection> waiting = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                waiting.complete(dataSource.getConnection());
+            } catch (SQLException e) {
+                waiting.completeExceptionally(e);
+            }
+        });
+        while (dataSource.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+
+        // Assert
+        assertThat(waiting.get(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void getConnection_WhenQueueTimesOut_ShouldThrowTransientException() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("database permits");
+    }
+
+    @Test
+    void getConnection_ShouldRecordQueueWait() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+
+        // Assert
+        assertThat(dataSource.getWaitCount()).isEqualTo(3);
+        assertThat(dataSource.getTotalWaitNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    void getConnection_WhenPoolFails_ShouldReleasePermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool down");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
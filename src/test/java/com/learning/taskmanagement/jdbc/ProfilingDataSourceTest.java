@@ -0,0 +1,99 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+
+/**
+ * Unit tests for ProfilingDataSource.
+ *
+ * Learning Points:
+ * 1. Mocked JDBC objects show which calls are timed and which pass straight through
+ * 2. A failed execution is still recorded, marked as an error
+ */
+@ExtendWith(MockitoExtension.class)
+class ProfilingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SqlProfiler profiler;
+    private ProfilingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        profiler = new SqlProfiler(Duration.ofHours(1), 0.0, 100, Runnable::run);
+        dataSource = new ProfilingDataSource(target, profiler);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void preparedStatement_ShouldRecordExecutionUnderItsSql() throws SQLException {
+        // Arrange
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        when(connection.prepareStatement("select * from tasks where id = ?")).thenReturn(prepared);
+        when(prepared.executeUpdate()).thenReturn(1);
+
+        // Act
+        try (Connection profiled = dataSource.getConnection()) {
+            PreparedStatement statement = profiled.prepareStatement("select * from tasks where id = ?");
+            statement.setLong(1, 7);
+            assertThat(statement.executeUpdate()).isEqualTo(1);
+            statement.executeUpdate();
+        }
+
+        // Assert
+        verify(prepared).setLong(1, 7);
+        verify(connection).close();
+        assertThat(profiler.top(10)).singleElement().satisfies(stats -> {
+            assertThat(stats.getFingerprint()).isEqualTo("select * from tasks where id = ?");
+            assertThat(stats.getExecutions()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void statement_ShouldRecordSqlPassedToExecute() throws SQLException {
+        // Arrange
+        Statement plain = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(plain);
+        when(plain.execute("vacuum tasks")).thenThrow(new SQLException("not allowed"));
+
+        // Act
+        Statement statement = dataSource.getConnection().createStatement();
+
+        // Assert
+        assertThatThrownBy(() -> statement.execute("vacuum tasks")).hasMessage("not allowed");
+        assertThat(profiler.top(10)).singleElement().satisfies(stats -> {
+            assertThat(stats.getFingerprint()).isEqualTo("vacuum tasks");
+            assertThat(stats.getErrors()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void connection_ShouldKeepUnwrapWorking() throws SQLException {
+        // Arrange
+        when(connection.isWrapperFor(Connection.class)).thenReturn(true);
+
+        // Act & Assert
+        assertThat(dataSource.getConnection().isWrapperFor(Connection.class)).isTrue();
+        assertThat(profiler.top(10)).isEmpty();
+    }
+}
@@ -0,0 +1,110 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Unit tests for ReadReplicaRoutingDataSource.
+ *
+ * Learning Points:
+ * 1. Setting Spring's read-only flag by hand stands in for a read-only transaction
+ * 2. Mocked pools return distinct connections, so the route is visible in the result
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaPool;
+
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private Replica replica;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        replica = new Replica("replica-1", replicaPool, () -> 0);
+        replica.recordCheck(10, 10, 10, 1_000, System.nanoTime());
+        routing = new ReadReplicaRoutingDataSource(primary,
+                new ReplicaSet(List.of(replica), Duration.ofSeconds(1), Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransaction_ShouldUseReplica() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaPool.getConnection()).thenReturn(replicaConnection);
+
+        // Act & Assert
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        assertThat(replica.getConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_OutsideReadOnlyTransaction_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getPrimaryReads()).isZero();
+    }
+
+    @Test
+    void getConnection_WhenPinnedToPrimary_ShouldUsePrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = ReadRouting.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routing.getPrimaryReads()).isEqualTo(1);
+        assertThat(ReadRouting.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void getConnection_WhenReplicaRefuses_ShouldFallBackToPrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaPool.getConnection()).thenThrow(new SQLException("down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(replica.isCaughtUp()).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+
+/**
+ * Unit tests for ReplicaSet.
+ *
+ * Learning Points:
+ * 1. Health checks are fed in directly, so lag rules are tested without a server
+ * 2. A hand-driven clock decides which primary sample counts as max-lag ago
+ */
+class ReplicaSetTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong clock;
+    private AtomicInteger fastActive;
+    private Replica fast;
+    private Replica slow;
+    private ReplicaSet replicas;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(100 * SECOND);
+        fastActive = new AtomicInteger();
+        fast = new Replica("fast", mock(DataSource.class), fastActive::get);
+        slow = new Replica("slow", mock(DataSource.class), () -> 0);
+        replicas = new ReplicaSet(List.of(fast, slow), Duration.ofSeconds(1), Duration.ofMillis(500), clock::get);
+    }
+
+    @Test
+    void recordPrimaryLsn_ShouldRequireWhatThePrimaryHadMaxLagAgo() {
+        // Act
+        long first = replicas.recordPrimaryLsn(100 * SECOND, 1_000);
+        replicas.recordPrimaryLsn(100 * SECOND + SECOND / 2, 2_000);
+        long required = replicas.recordPrimaryLsn(101 * SECOND + SECOND / 2, 3_000);
+
+        // Assert
+        assertThat(first).as("no history reaching back max-lag yet").isEqualTo(Long.MAX_VALUE);
+        assertThat(required).isEqualTo(2_000);
+    }
+
+    @Test
+    void choose_WhenNoReplicaCaughtUp_ShouldReturnNull() {
+        // Arrange
+        fast.recordCheck(1_000, 2_000, 2_000, 1_000, clock.get());
+
+        // Act & Assert
+        assertThat(replicas.choose()).isNull();
+        assertThat(fast.getLagBytes()).isEqualTo(1_000);
+    }
+
+    @Test
+    void choose_ShouldSkipReplicasWhoseCheckIsStale() {
+        // Arrange
+        fast.recordCheck(2_000, 2_000, 2_000, 1_000, clock.get());
+        clock.addAndGet(2 * SECOND);
+        slow.recordCheck(2_000, 2_000, 2_000, 1_000_000, clock.get());
+
+        // Act & Assert
+        assertThat(replicas.choose()).isSameAs(slow);
+    }
+
+    @Test
+    void choose_ShouldPreferLowerLatencyTimesLoad() {
+        // Arrange
+        fast.recordCheck(2_000, 2_000, 2_000, 1_000, clock.get());
+        slow.recordCheck(2_000, 2_000, 2_000, 10_000, clock.get());
+
+        // Act & Assert
+        assertThat(replicas.choose()).isSameAs(fast);
+        fastActive.set(20);
+        assertThat(replicas.choose()).isSameAs(slow);
+    }
+
+    @Test
+    void recordFailure_ShouldTakeReplicaOutOfRotation() {
+        // Arrange
+        fast.recordCheck(2_000, 2_000, 2_000, 1_000, clock.get());
+
+        // Act
+        fast.recordFailure();
+
+        // Assert
+        assertThat(replicas.choose()).isNull();
+    }
+}
@@ -0,0 +1,143 @@
+package com.learning.taskmanagement.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.learning.taskmanagement.dto.SqlFingerprintStatsDTO;
+
+/**
+ * Unit tests for SqlProfiler and SqlFingerprint.
+ *
+ * Learning Points:
+ * 1. A list of pending log writes stands in for the writer thread, so tests can
+ *    count what would be logged without reading log output
+ * 2. Timings are passed in as numbers; no test depends on how fast the machine is
+ */
+class SqlProfilerTest {
+
+    private static final long MILLI = 1_000_000;
+
+    private List<Runnable> pendingLogs;
+    private SqlProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        pendingLogs = new ArrayList<>();
+        profiler = new SqlProfiler(Duration.ofMillis(100), 0.0, 3, pendingLogs::add);
+    }
+
+    @Test
+    void fingerprint_ShouldReplaceLiteralsAndCollapseWhitespace() {
+        // Act
+        String fingerprint = SqlFingerprint.of("""
+                select t1_0.id, t1_0.title   from tasks t1_0 -- list
+                where t1_0.status = 'TODO' and t1_0.priority > 3.5 /* hint */ limit 50""");
+
+        // Assert
+        assertThat(fingerprint).isEqualTo(
+                "select t1_0.id, t1_0.title from tasks t1_0 where t1_0.status = ? and t1_0.priority > ? limit ?");
+    }
+
+    @Test
+    void fingerprint_ShouldCollapseInListsOfAnyLength() {
+        // Act & Assert
+        assertThat(SqlFingerprint.of("delete from tasks where id in (?,?)"))
+                .isEqualTo(SqlFingerprint.of("delete from tasks where id in ( ?, ?, ?, ? )"))
+                .isEqualTo("delete from tasks where id in (?, ...)");
+        assertThat(SqlFingerprint.of("select to_tsquery(?, ?)")).isEqualTo("select to_tsquery(?, ?)");
+    }
+
+    @Test
+    void fingerprint_ShouldKeepEscapedQuotesInsideOneLiteral() {
+        // Act & Assert
+        assertThat(SqlFingerprint.of("select * from tasks where title = 'it''s 42'"))
+                .isEqualTo("select * from tasks where title = ?");
+    }
+
+    @Test
+    void record_ShouldAggregateStatementsWithTheSameFingerprint() {
+        // Act
+        profiler.record("select * from tasks where id = 1", 2 * MILLI, false);
+        profiler.record("select * from tasks where id = 2", 4 * MILLI, false);
+        profiler.record("select count(*) from tasks", 1 * MILLI, true);
+
+        // Assert
+        List<SqlFingerprintStatsDTO> top = profiler.top(10);
+        assertThat(top).extracting(SqlFingerprintStatsDTO::getFingerprint)
+                .containsExactly("select * from tasks where id = ?", "select count(*) from tasks");
+        assertThat(top.get(0).getExecutions()).isEqualTo(2);
+        assertThat(top.get(0).getTotalMillis()).isEqualTo(6.0);
+        assertThat(top.get(0).getMeanMillis()).isEqualTo(3.0);
+        assertThat(top.get(0).getMaxMillis()).isEqualTo(4.0);
+        assertThat(top.get(1).getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    void record_ShouldLogOnlySlowStatementsWhenNotSampling() {
+        // Act
+        profiler.record("select 1", 99 * MILLI, false);
+        profiler.record("select 1", 100 * MILLI, false);
+
+        // Assert
+        assertThat(pendingLogs).hasSize(1);
+    }
+
+    @Test
+    void record_WhenSamplingEverything_ShouldLogFastStatementsToo() {
+        // Arrange
+        profiler = new SqlProfiler(Duration.ofMillis(100), 1.0, 3, pendingLogs::add);
+
+        // Act
+        profiler.record("select 1", MILLI, false);
+
+        // Assert
+        assertThat(pendingLogs).hasSize(1);
+    }
+
+    @Test
+    void record_WhenLogQueueIsFull_ShouldDropLineInsteadOfBlocking() {
+        // Arrange
+        profiler = new SqlProfiler(Duration.ZERO, 0.0, 3, task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        // Act
+        profiler.record("select 1", MILLI, false);
+
+        // Assert
+        assertThat(profiler.getDroppedLogLines()).isEqualTo(1);
+        assertThat(profiler.top(1).get(0).getExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    void record_WhenFingerprintLimitReached_ShouldCountUnderOther() {
+        // Act
+        profiler.record("select a from t", MILLI, false);
+        profiler.record("select b from t", MILLI, false);
+        profiler.record("select c from t", MILLI, false);
+        profiler.record("select d from t", 10 * MILLI, false);
+
+        // Assert
+        List<SqlFingerprintStatsDTO> top = profiler.top(10);
+        assertThat(top).hasSize(4);
+        assertThat(top.get(0).getFingerprint()).isEqualTo(SqlProfiler.OTHER);
+    }
+
+    @Test
+    void reset_ShouldForgetAllFingerprints() {
+        // Arrange
+        profiler.record("select 1", MILLI, false);
+
+        // Act
+        profiler.reset();
+
+        // Assert
+        assertThat(profiler.top(10)).isEmpty();
+    }
+}
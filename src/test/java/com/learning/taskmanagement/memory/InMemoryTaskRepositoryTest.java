@@ -0,0 +1,231 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.repository.TaskChangeBatch;
+import com.learning.taskmanagement.repository.TaskChangeRow;
+import com.learning.taskmanagement.repository.TaskSearchHit;
+import com.learning.taskmanagement.service.TaskServiceImpl;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for InMemoryTaskRepository.
+ *
+ * Learning Points:
+ * 1. The repository runs on a real store in a temporary directory, so the
+ *    queries are checked against the same indexes production uses
+ * 2. The last tests drive an unchanged TaskServiceImpl through the in-memory
+ *    EntityManager and transaction manager, as the memory profile wires them
+ */
+class InMemoryTaskRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private TaskStore store;
+    private InMemoryTaskRepository repository;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new TaskStore(directory, 64 * 1024, false, Duration.ofSeconds(1));
+        repository = new InMemoryTaskRepository(store);
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager(store));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void findPageAfter_ShouldContinueInCreationOrder() {
+        // Arrange
+        List<Task> tasks = List.of(task("First", TaskStatus.TODO), task("Second", TaskStatus.TODO),
+                task("Third", TaskStatus.TODO));
+        TaskDTO first = repository.findPage(Limit.of(1)).get(0);
+
+        // Act
+        List<TaskDTO> rest = repository.findPageAfter(first.getCreatedAt(), first.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(first.getId()).isEqualTo(tasks.get(0).getId());
+        assertThat(rest).extracting(TaskDTO::getTitle).containsExactly("Second", "Third");
+    }
+
+    @Test
+    void findPageByStatus_ShouldFollowStatusChanges() {
+        // Arrange
+        Task task = task("Moves", TaskStatus.TODO);
+        task("Stays", TaskStatus.TODO);
+
+        // Act
+        repository.updateStatuses(Map.of(task.getId(), TaskStatus.COMPLETED));
+
+        // Assert
+        assertThat(repository.findPageByStatus(TaskStatus.TODO, Limit.of(10)))
+                .extracting(TaskDTO::getTitle).containsExactly("Stays");
+        assertThat(repository.findPageByStatus(TaskStatus.COMPLETED, Limit.of(10)))
+                .extracting(TaskDTO::getTitle).containsExactly("Moves");
+    }
+
+    @Test
+    void patch_WithStaleVersion_ShouldChangeNothing() {
+        // Arrange
+        Task task = task("Original", TaskStatus.TODO);
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle("Patched");
+        patch.setVersion(5L);
+
+        // Act & Assert
+        assertThat(repository.patch(task.getId(), patch)).isEmpty();
+        patch.setVersion(0L);
+        assertThat(repository.patch(task.getId(), patch)).hasValueSatisfying(change -> {
+            assertThat(change.getPrevious().getTitle()).isEqualTo("Original");
+            assertThat(change.getCurrent().getTitle()).isEqualTo("Patched");
+            assertThat(change.getCurrent().getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void changesSince_ShouldReturnUpdatesAndDeletionsInTransactionOrder() {
+        // Arrange
+        Task kept = task("Kept", TaskStatus.TODO);
+        Task deleted = task("Deleted", TaskStatus.TODO);
+        long floor = repository.changesSince(0, null, null, 10).getSnapshotXmin();
+        repository.updateStatuses(Map.of(kept.getId(), TaskStatus.IN_PROGRESS));
+        repository.deleteReturning(deleted.getId());
+
+        // Act
+        TaskChangeBatch batch = repository.changesSince(floor, null, null, 10);
+
+        // Assert
+        assertThat(batch.getRows()).extracting(TaskChangeRow::getId).containsExactly(kept.getId(), deleted.getId());
+        assertThat(batch.getRows()).extracting(TaskChangeRow::isDeleted).containsExactly(false, true);
+        assertThat(batch.getSnapshotXmin()).isGreaterThan(batch.getRows().get(1).getChangeXid());
+    }
+
+    @Test
+    void archiveFinishedBefore_ShouldHideTasksUntilRestored() {
+        // Arrange
+        Task done = task("Done", TaskStatus.COMPLETED);
+        task("Open", TaskStatus.TODO);
+
+        // Act
+        int archived = repository.archiveFinishedBefore(LocalDateTime.now().plusMinutes(1), 10);
+
+        // Assert
+        assertThat(archived).isEqualTo(1);
+        assertThat(repository.findPage(Limit.of(10))).extracting(TaskDTO::getTitle).containsExactly("Open");
+        assertThat(repository.findDtoById(done.getId())).isPresent();
+        assertThat(repository.restoreArchived(List.of(done.getId()))).isEqualTo(1);
+        assertThat(repository.findPage(Limit.of(10))).hasSize(2);
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        // Arrange
+        Task inDescription = new Task("Weekly sync");
+        inDescription.setDescription("Review the deployment checklist");
+        repository.save(inDescription);
+        Task inTitle = repository.save(new Task("Deployment checklist"));
+
+        // Act
+        List<TaskSearchHit> hits = repository.search("deploy", null, null, 10);
+
+        // Assert
+        assertThat(hits).extracting(hit -> hit.getTask().getId()).containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(hits.get(0).getRank()).isGreaterThan(hits.get(1).getRank());
+    }
+
+    @Test
+    void applyBatch_WithTaskServiceImpl_ShouldWriteChangedEntitiesAtFlush() {
+        // Arrange
+        TaskServiceImpl service = service();
+        Task updated = task("Before", TaskStatus.TODO);
+        Task deleted = task("Gone", TaskStatus.TODO);
+        TaskDTO replacement = new TaskDTO(null, "After", null, TaskStatus.IN_PROGRESS, null, null, null);
+
+        // Act
+        List<TaskBatchResultDTO> results = transactionTemplate.execute(status -> service.applyBatch(List.of(
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.UPDATE, updated.getId(), replacement),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, deleted.getId(), null),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, "Created", null, null, null, null, null)))));
+
+        // Assert
+        assertThat(results).extracting(TaskBatchResultDTO::getOutcome).containsExactly(
+                TaskBatchResultDTO.Outcome.UPDATED, TaskBatchResultDTO.Outcome.DELETED,
+                TaskBatchResultDTO.Outcome.CREATED);
+        assertThat(repository.findDtoById(updated.getId())).hasValueSatisfying(task -> {
+            assertThat(task.getTitle()).isEqualTo("After");
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(task.getVersion()).isEqualTo(1L);
+        });
+        assertThat(repository.existsById(deleted.getId())).isFalse();
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void exportTasks_WithTaskServiceImpl_ShouldStreamEveryTask() {
+        // Arrange
+        TaskServiceImpl service = service();
+        task("One", TaskStatus.TODO);
+        task("Two", TaskStatus.COMPLETED);
+        List<String> exported = new ArrayList<>();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> service.exportTasks(task -> exported.add(task.getTitle())));
+
+        // Assert
+        assertThat(exported).containsExactlyInAnyOrder("One", "Two");
+    }
+
+    @Test
+    void exportTasks_WithTaskServiceImpl_ShouldIncludeArchivedTasks() {
+        // Arrange
+        TaskServiceImpl service = service();
+        task("Open", TaskStatus.TODO);
+        task("Done", TaskStatus.COMPLETED);
+        repository.archiveFinishedBefore(LocalDateTime.now().plusMinutes(1), 10);
+        List<String> exported = new ArrayList<>();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> service.exportTasks(task -> exported.add(task.getTitle())));
+
+        // Assert
+        assertThat(exported).containsExactlyInAnyOrder("Open", "Done");
+    }
+
+    private Task task(String title, TaskStatus status) {
+        Task task = new Task(title);
+        task.setStatus(status);
+        return repository.save(task);
+    }
+
+    private TaskServiceImpl service() {
+        return new TaskServiceImpl(repository, UnitOfWorkEntityManager.create(store),
+                mock(ApplicationEventPublisher.class), 500, 10000, Duration.ofDays(30));
+    }
+}
@@ -0,0 +1,170 @@
+package com.learning.taskmanagement.memory;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for TaskStore.
+ *
+ * Learning Points:
+ * 1. Closing a store and opening a new one on the same directory stands in for
+ *    a restart; a store that is never closed stands in for a crash
+ * 2. Transactions go through InMemoryTransactionManager, so rollbacks and
+ *    flushes happen the way they do under @Transactional
+ */
+class TaskStoreTest {
+    private static final int LOG_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private TaskStore store;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = open();
+        transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager(store));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void open_AfterCrash_ShouldReplayCommittedTransactions() throws IOException {
+        // Arrange
+        Task task = new Task("Survive a crash");
+        store.save(task);
+        UUID deleted = store.save(new Task("Deleted")).getId();
+        store.write(work -> store.deleteTask(work, deleted));
+
+        // Act: no close, so nothing but the log holds the tasks
+        TaskStore recovered = open();
+
+        // Assert
+        assertThat(recovered.tasks()).extracting(TaskRow::getId).containsExactly(task.getId());
+        assertThat(recovered.tombstones()).hasSize(1);
+        recovered.close();
+    }
+
+    @Test
+    void open_AfterSnapshot_ShouldLoadItAndReplayLaterLog() throws IOException {
+        // Arrange
+        Task before = store.save(new Task("Before snapshot"));
+        store.snapshot();
+        Task after = store.save(new Task("After snapshot"));
+
+        // Act
+        TaskStore recovered = open();
+
+        // Assert
+        assertThat(recovered.tasks()).extracting(TaskRow::getId)
+                .containsExactlyInAnyOrder(before.getId(), after.getId());
+        assertThat(files(TaskStore.SNAPSHOT_SUFFIX)).isEqualTo(1);
+        recovered.close();
+    }
+
+    @Test
+    void rollback_ShouldRestoreTheRowsItChanged() {
+        // Arrange
+        Task task = store.save(new Task("Keep me"));
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            store.write(work -> store.deleteTask(work, task.getId()));
+            store.save(new Task("Never committed"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertThat(store.tasks()).extracting(TaskRow::getTitle).containsExactly("Keep me");
+        assertThat(store.tombstones()).isEmpty();
+    }
+
+    @Test
+    void commit_ShouldWriteChangesOfLoadedEntities() {
+        // Arrange
+        Task task = store.save(new Task("Draft"));
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Task loaded = store.entity(store.get(task.getId()));
+            loaded.setStatus(TaskStatus.IN_PROGRESS);
+        });
+
+        // Assert
+        TaskRow row = store.get(task.getId());
+        assertThat(row.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(row.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void save_WithStaleDetachedTask_ShouldFail() {
+        // Arrange
+        UUID id = store.save(new Task("Shared")).getId();
+        Task stale = store.get(id).toTask();
+        store.write(work -> store.putTask(work, store.get(id).updated(
+                "Changed elsewhere", null, TaskStatus.TODO, null, work.getStartedAt())));
+
+        // Act & Assert
+        stale.setTitle("Lost update");
+        assertThatThrownBy(() -> store.save(stale)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(store.get(id).getTitle()).isEqualTo("Changed elsewhere");
+    }
+
+    @Test
+    void write_WhenItFailsPartWay_ShouldLeaveStateAndSnapshotsUnchanged() throws IOException {
+        // Arrange
+        Task kept = store.save(new Task("Kept"));
+        store.snapshot();
+        Task broken = new Task("Broken");
+        broken.setStatus(null);
+
+        // Act: the first save goes through, the second breaks a NOT NULL column
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            store.save(new Task("Partial"));
+            store.save(broken);
+        })).isInstanceOf(DataIntegrityViolationException.class);
+        store.snapshot();
+
+        // Assert
+        assertThat(store.tasks()).extracting(TaskRow::getId).containsExactly(kept.getId());
+        assertThat(store.byStatus(TaskStatus.TODO, null, null)).extracting(TaskRow::getId)
+                .containsExactly(kept.getId());
+        assertThat(files(TaskStore.SNAPSHOT_SUFFIX)).isEqualTo(1);
+        assertThat(files(".tmp")).isZero();
+        TaskStore recovered = open();
+        assertThat(recovered.tasks()).extracting(TaskRow::getId).containsExactly(kept.getId());
+        recovered.close();
+    }
+
+    private TaskStore open() throws IOException {
+        return new TaskStore(directory, LOG_SIZE, false, Duration.ofSeconds(1));
+    }
+
+    private long files(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(suffix)).count();
+        }
+    }
+}
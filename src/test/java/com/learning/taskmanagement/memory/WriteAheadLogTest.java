@@ -0,0 +1,89 @@
+package com.learning.taskmanagement.memory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for WriteAheadLog.
+ *
+ * Learning Points:
+ * 1. Files are mapped at a small capacity so rolling over is easy to reach
+ * 2. Flipping a byte inside the mapped file simulates a record torn by a crash
+ */
+class WriteAheadLogTest {
+    private static final int CAPACITY = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_AfterClose_ShouldReturnRecordsInOrder() throws IOException {
+        // Arrange
+        try (WriteAheadLog log = new WriteAheadLog(directory, 1, CAPACITY)) {
+            log.sync(log.append(bytes("first")));
+            log.sync(log.append(bytes("second")));
+        }
+
+        // Act
+        List<String> replayed = replay(TaskStore.file(directory, 1, WriteAheadLog.SUFFIX));
+
+        // Assert
+        assertThat(replayed).containsExactly("first", "second");
+    }
+
+    @Test
+    void replay_WithTornRecord_ShouldKeepRecordsBeforeIt() throws IOException {
+        // Arrange
+        try (WriteAheadLog log = new WriteAheadLog(directory, 1, CAPACITY)) {
+            log.append(bytes("kept"));
+            log.append(bytes("torn"));
+        }
+        Path file = TaskStore.file(directory, 1, WriteAheadLog.SUFFIX);
+        byte[] content = Files.readAllBytes(file);
+        // Last byte of the second record: two headers plus both payloads, minus one
+        content[2 * 8 + 4 + 4 - 1] ^= 0x20;
+        Files.write(file, content);
+
+        // Act
+        List<String> replayed = replay(file);
+
+        // Assert
+        assertThat(replayed).containsExactly("kept");
+    }
+
+    @Test
+    void append_WhenFileIsFull_ShouldRollToNextGeneration() throws IOException {
+        // Arrange
+        byte[] large = new byte[CAPACITY / 2];
+
+        // Act
+        try (WriteAheadLog log = new WriteAheadLog(directory, 1, CAPACITY)) {
+            log.append(large);
+            log.append(large);
+
+            // Assert
+            assertThat(log.getGeneration()).isEqualTo(2);
+        }
+        assertThat(replay(TaskStore.file(directory, 1, WriteAheadLog.SUFFIX))).hasSize(1);
+        assertThat(replay(TaskStore.file(directory, 2, WriteAheadLog.SUFFIX))).hasSize(1);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> replay(Path file) throws IOException {
+        List<String> replayed = new ArrayList<>();
+        WriteAheadLog.replay(file, payload -> replayed.add(StandardCharsets.UTF_8.decode(payload).toString()));
+        return replayed;
+    }
+}
@@ -0,0 +1,35 @@
+package com.learning.taskmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector that records every SQL statement it prepares.
+ *
+ * Learning Points:
+ * 1. StatementInspector sees the final SQL after Hibernate renders the query
+ * 2. Counting recorded statements is how tests catch N+1 regressions
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    public static List<String> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.learning.taskmanagement.repository;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.learning.taskmanagement.domain.Task;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.service.TaskServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Query plan and statement count regression tests.
+ *
+ * Learning Points:
+ * 1. With enable_seqscan off, Postgres only picks a sequential scan when no
+ *    index can serve the query, so a Seq Scan in the plan means a missing index
+ * 2. force_generic_plan makes the plan independent of the sample parameter values
+ * 3. The SQL under test is captured from Hibernate, so derived queries are
+ *    checked exactly as they run in production
+ * 4. Counting statements per service call catches N+1 queries and stray SELECTs
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.learning.taskmanagement.repository.SqlCapture")
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskServiceImpl.class)
+class TaskQueryPlanTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.2");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Task existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = taskRepository.save(new Task("Existing"));
+        taskRepository.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    // --- query plans -------------------------------------------------------
+
+    @Test
+    void findByStatus_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findByStatus(TaskStatus.TODO), "'TODO'");
+    }
+
+    @Test
+    void findByDueDateBefore_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findByDueDateBefore(LocalDateTime.now()), "now()");
+    }
+
+    @Test
+    void firstPage_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findPage(Limit.of(10)), "0", "10");
+    }
+
+    @Test
+    void firstPageByStatus_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findPageByStatus(TaskStatus.TODO, Limit.of(10)),
+                "'TODO'", "0", "10");
+    }
+
+    @Test
+    void findPageAfter_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findPageAfter(LocalDateTime.now(), UUID.randomUUID(), Limit.of(10)),
+                "now()", "now()", "gen_random_uuid()", "0", "10");
+    }
+
+    @Test
+    void findPageByStatusAfter_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findPageByStatusAfter(
+                        TaskStatus.TODO, LocalDateTime.now(), UUID.randomUUID(), Limit.of(10)),
+                "'TODO'", "now()", "now()", "gen_random_uuid()", "0", "10");
+    }
+
+    @Test
+    void countByStatus_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.countByStatus());
+    }
+
+    @Test
+    void countArchivedByStatus_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.countArchivedByStatus());
+    }
+
+    @Test
+    void archiveFinishedBefore_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.archiveFinishedBefore(LocalDateTime.now(), 500), "now()", "500");
+    }
+
+    @Test
+    void findDtoById_ShouldUseIndexes() {
+        assertIndexed(() -> taskRepository.findDtoById(UUID.randomUUID()), "gen_random_uuid()", "gen_random_uuid()");
+    }
+
+    @Test
+    void countOpenByDueMinute_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.countOpenByDueMinute());
+    }
+
+    @Test
+    void countOpenWithoutDueDate_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.countByStatusInAndDueDateIsNull(
+                List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS)), "'TODO'", "'IN_PROGRESS'");
+    }
+
+    @Test
+    void findListVersion_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findListVersion());
+    }
+
+    @Test
+    void findListVersionByStatus_ShouldUseIndex() {
+        assertIndexed(() -> taskRepository.findListVersionByStatus(TaskStatus.TODO), "'TODO'");
+    }
+
+    @Test
+    void search_ShouldUseIndexes() {
+        assertIndexed(() -> taskRepository.search("docu", null, null, 10),
+                "'docu:*'", "'docu'", "'docu'", "10");
+    }
+
+    @Test
+    void searchAfterCursor_ShouldUseIndexes() {
+        assertIndexed(() -> taskRepository.search("docu", 0.5f, UUID.randomUUID(), 10),
+                "'docu:*'", "'docu'", "'docu'", "0.5", "0.5", "gen_random_uuid()", "10");
+    }
+
+    @Test
+    void changesSince_ShouldUseIndexes() {
+        assertIndexed(() -> taskRepository.changesSince(0, null, null, 10),
+                "'0'", "10", "'0'", "10", "10");
+    }
+
+    @Test
+    void changesAfterRow_ShouldUseIndexes() {
+        assertIndexed(() -> taskRepository.changesSince(0, 5L, UUID.randomUUID(), 10),
+                "'5'", "gen_random_uuid()", "10", "'5'", "gen_random_uuid()", "10", "10");
+    }
+
+    // --- statements per service call --------------------------------------
+
+    @Test
+    void getTask_ShouldIssueOneStatement() {
+        taskService.getTask(existing.getId());
+
+        assertStatementCount(1);
+    }
+
+    @Test
+    void getAllTasks_ShouldIssueOneStatement() {
+        taskService.getAllTasks(null, 50);
+
+        assertStatementCount(1);
+    }
+
+    @Test
+    void getChanges_ShouldIssueOneStatement() {
+        taskService.getChanges(null, 50);
+
+        assertStatementCount(1);
+    }
+
+    @Test
+    void getTasksByStatus_ShouldIssueOneStatement() {
+        taskService.getTasksByStatus(TaskStatus.TODO, null, 50);
+
+        assertStatementCount(1);
+    }
+
+    @Test
+    void createTask_ShouldInsertWithoutSelectingFirst() {
+        taskService.createTask(new TaskDTO(null, "New", null, null, null, null, null));
+        taskRepository.flush();
+
+        assertStatementCount(1);
+        assertThat(SqlCapture.statements().get(0)).startsWithIgnoringCase("insert");
+    }
+
+    @Test
+    void updateTask_ShouldIssueOneStatement() {
+        taskService.updateTask(existing.getId(),
+                new TaskDTO(null, "Renamed", null, TaskStatus.IN_PROGRESS, null, null, null));
+        taskRepository.flush();
+
+        assertStatementCount(1);
+        assertThat(SqlCapture.statements().get(0)).startsWithIgnoringCase("update");
+    }
+
+    @Test
+    void patchTask_ShouldIssueOneStatement() {
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.COMPLETED);
+        patch.setVersion(existing.getVersion());
+
+        taskService.patchTask(existing.getId(), patch);
+        taskRepository.flush();
+
+        assertStatementCount(1);
+    }
+
+    @Test
+    void deleteTask_ShouldIssueOneStatement() {
+        taskService.deleteTask(existing.getId());
+        taskRepository.flush();
+
+        assertStatementCount(1);
+        assertThat(SqlCapture.statements().get(0)).startsWithIgnoringCase("delete");
+    }
+
+    @Test
+    void applyBatch_ShouldLoadTargetsWithOneQuery() {
+        Task second = taskRepository.save(new Task("Second"));
+        taskRepository.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+
+        taskService.applyBatch(List.of(
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, existing.getId(), null),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, second.getId(), null),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, "A", null, null, null, null, null)),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, "B", null, null, null, null, null))));
+
+        // One IN select, one batched insert, one batched delete
+        assertStatementCount(3);
+    }
+
+    // --- helpers -----------------------------------------------------------
+
+    private void assertIndexed(Runnable query, String... sampleArgs) {
+        SqlCapture.clear();
+        query.run();
+        List<String> captured = SqlCapture.statements();
+        assertThat(captured).as("statements issued by the query").hasSize(1);
+        String sql = captured.get(0);
+
+        String plan = explain(sql, sampleArgs);
+        assertThat(plan)
+                .as("plan for %s%n%s", sql, plan)
+                .doesNotContain("\"Seq Scan\"");
+    }
+
+    private String explain(String sql, String... sampleArgs) {
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        assertThat(sampleArgs).as("sample arguments for %s", sql).hasSize(parameters);
+        String execute = parameters == 0 ? "plan_under_test" : "plan_under_test(" + String.join(", ", sampleArgs) + ")";
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE tasks");
+                statement.execute("SET LOCAL enable_seqscan = off");
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE plan_under_test AS " + numbered);
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE " + execute)) {
+                    rs.next();
+                    return rs.getString(1);
+                } finally {
+                    statement.execute("DEALLOCATE plan_under_test");
+                }
+            }
+        });
+    }
+
+    private void assertStatementCount(int expected) {
+        List<String> statements = SqlCapture.statements();
+        assertThat(statements)
+                .as("statements issued:%n%s", String.join("\n", statements))
+                .hasSize(expected);
+    }
+}
@@ -2,10 +2,15 @@ package com.learning.taskmanagement.repository;
 
 import com.learning.taskmanagement.domain.Task;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -13,7 +18,12 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,6 +54,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByStatus_ShouldReturnMatchingTasks() {
         // Arrange
@@ -120,4 +133,286 @@ class TaskRepositoryTest {
                 .isAfterOrEqualTo(beforeSave)
                 .isBeforeOrEqualTo(afterSave);
     }
+
+    @Test
+    void findPageAfter_ShouldSeekPastCursorInCreationOrder() {
+        // Arrange
+        taskRepository.deleteAllInBatch();
+        Task first = taskRepository.save(new Task("First"));
+        Task second = taskRepository.save(new Task("Second"));
+        Task third = taskRepository.save(new Task("Third"));
+        taskRepository.flush();
+
+        // Act
+        List<TaskDTO> firstPage = taskRepository.findPage(Limit.of(2));
+        TaskDTO last = firstPage.get(firstPage.size() - 1);
+        List<TaskDTO> secondPage = taskRepository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        // Assert
+        assertThat(firstPage).extracting(TaskDTO::getTitle).containsExactly("First", "Second");
+        assertThat(secondPage).extracting(TaskDTO::getTitle).containsExactly("Third");
+    }
+
+    @Test
+    void findDtoById_ShouldNotLoadManagedEntities() {
+        // Arrange
+        Task task = taskRepository.save(new Task("Projected"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Optional<TaskDTO> found = taskRepository.findDtoById(task.getId());
+        List<TaskDTO> page = taskRepository.findPage(Limit.of(10));
+
+        // Assert
+        assertThat(found).get().extracting(TaskDTO::getTitle).isEqualTo("Projected");
+        assertThat(page).extracting(TaskDTO::getId).contains(task.getId());
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void patch_ShouldChangeOnlySentFieldsAndReturnPreviousRow() {
+        // Arrange
+        Task task = new Task("Original");
+        task.setDescription("Keep me");
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        task = taskRepository.save(task);
+        entityManager.flush();
+        entityManager.clear();
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.COMPLETED);
+        patch.setDueDate(null);
+        patch.setVersion(0L);
+
+        // Act
+        Optional<TaskRowChange> change = taskRepository.patch(task.getId(), patch);
+
+        // Assert
+        assertThat(change).isPresent();
+        assertThat(change.get().getPrevious().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(change.get().getPrevious().getDueDate()).isNotNull();
+        TaskDTO current = change.get().getCurrent();
+        assertThat(current.getTitle()).isEqualTo("Original");
+        assertThat(current.getDescription()).isEqualTo("Keep me");
+        assertThat(current.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(current.getDueDate()).isNull();
+        assertThat(current.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void patch_WithStaleVersion_ShouldMatchNoRow() {
+        // Arrange
+        Task task = taskRepository.save(new Task("Original"));
+        entityManager.flush();
+        entityManager.clear();
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle("Stale");
+        patch.setVersion(5L);
+
+        // Act
+        Optional<TaskRowChange> change = taskRepository.patch(task.getId(), patch);
+
+        // Assert
+        assertThat(change).isEmpty();
+        assertThat(taskRepository.findDtoById(task.getId())).get()
+                .extracting(TaskDTO::getTitle).isEqualTo("Original");
+    }
+
+    @Test
+    void updateStatuses_ShouldUpdateOnlyChangedRowsInOneStatement() {
+        // Arrange
+        Task moving = taskRepository.save(new Task("Moving"));
+        Task unchanged = taskRepository.save(new Task("Unchanged"));
+        entityManager.flush();
+        entityManager.clear();
+        Map<UUID, TaskStatus> statuses = new LinkedHashMap<>();
+        statuses.put(moving.getId(), TaskStatus.IN_PROGRESS);
+        statuses.put(unchanged.getId(), TaskStatus.TODO);
+        statuses.put(UUID.randomUUID(), TaskStatus.COMPLETED);
+
+        // Act
+        List<TaskRowChange> changes = taskRepository.updateStatuses(statuses);
+
+        // Assert
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.getPrevious().getStatus()).isEqualTo(TaskStatus.TODO);
+            assertThat(change.getCurrent().getId()).isEqualTo(moving.getId());
+            assertThat(change.getCurrent().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(change.getCurrent().getVersion()).isEqualTo(1L);
+        });
+        assertThat(taskRepository.findDtoById(unchanged.getId())).get()
+                .extracting(TaskDTO::getVersion).isEqualTo(0L);
+    }
+
+    @Test
+    void deleteReturning_ShouldReturnDeletedRowOnlyOnce() {
+        // Arrange
+        Task task = taskRepository.save(new Task("Doomed"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Optional<TaskDTO> first = taskRepository.deleteReturning(task.getId());
+        Optional<TaskDTO> second = taskRepository.deleteReturning(task.getId());
+
+        // Assert
+        assertThat(first).get().extracting(TaskDTO::getTitle).isEqualTo("Doomed");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesAndTyposBestFirst() {
+        // Arrange
+        Task titled = new Task("Quarterly budget review");
+        Task described = new Task("Team meeting");
+        described.setDescription("Agree on the budget for next year");
+        taskRepository.save(titled);
+        taskRepository.save(described);
+        taskRepository.save(new Task("Unrelated chore"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<TaskSearchHit> prefix = taskRepository.search("budg", null, null, 10);
+        List<TaskSearchHit> typo = taskRepository.search("quartely", null, null, 10);
+
+        // Assert
+        assertThat(prefix).extracting(hit -> hit.getTask().getTitle())
+                .containsExactly("Quarterly budget review", "Team meeting");
+        assertThat(typo).extracting(hit -> hit.getTask().getTitle())
+                .containsExactly("Quarterly budget review");
+    }
+
+    @Test
+    void search_AfterLastHit_ShouldReturnNextPage() {
+        // Arrange
+        taskRepository.save(new Task("Budget draft"));
+        taskRepository.save(new Task("Budget final"));
+        entityManager.flush();
+        entityManager.clear();
+        List<TaskSearchHit> firstPage = taskRepository.search("budget", null, null, 1);
+        TaskSearchHit last = firstPage.get(0);
+
+        // Act
+        List<TaskSearchHit> secondPage = taskRepository.search(
+                "budget", last.getRank(), last.getTask().getId(), 10);
+
+        // Assert
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getTask().getId()).isNotEqualTo(last.getTask().getId());
+    }
+
+    @Test
+    void changesSince_ShouldReturnTasksAndTombstonesFromFloorOnly() {
+        // Arrange: the sample rows were written by the migration, before this test's transaction
+        Task kept = taskRepository.save(new Task("Kept"));
+        Task removed = taskRepository.save(new Task("Removed"));
+        entityManager.flush();
+        entityManager.clear();
+        taskRepository.deleteReturning(removed.getId());
+        long ownXid = taskRepository.changesSince(0, null, null, 1000).getRows().stream()
+                .filter(row -> row.getId().equals(kept.getId()))
+                .findFirst().orElseThrow().getChangeXid();
+
+        // Act
+        TaskChangeBatch batch = taskRepository.changesSince(ownXid, null, null, 10);
+
+        // Assert
+        assertThat(batch.getRows()).extracting(TaskChangeRow::getId)
+                .containsExactlyInAnyOrder(kept.getId(), removed.getId());
+        assertThat(batch.getRows()).filteredOn(TaskChangeRow::isDeleted)
+                .extracting(TaskChangeRow::getId).containsExactly(removed.getId());
+        // Our own transaction is still open, so the next sync must start at or below it
+        assertThat(batch.getSnapshotXmin()).isLessThanOrEqualTo(ownXid);
+    }
+
+    @Test
+    void changesSince_AfterLastRow_ShouldReturnNextPage() {
+        // Arrange
+        taskRepository.save(new Task("First change"));
+        taskRepository.save(new Task("Second change"));
+        entityManager.flush();
+        entityManager.clear();
+        List<TaskChangeRow> all = taskRepository.changesSince(0, null, null, 1000).getRows();
+        TaskChangeRow middle = all.get(all.size() - 2);
+
+        // Act
+        TaskChangeBatch next = taskRepository.changesSince(0, middle.getChangeXid(), middle.getId(), 10);
+
+        // Assert
+        assertThat(next.getRows()).extracting(TaskChangeRow::getId)
+                .containsExactly(all.get(all.size() - 1).getId());
+    }
+
+    @Test
+    void archiveFinishedBefore_ShouldMoveFinishedTasksWithoutTombstones() {
+        // Arrange
+        Task done = new Task("Done");
+        done.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(done);
+        Task open = taskRepository.save(new Task("Open"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act: against a cutoff in the future every finished task is old enough
+        int moved = taskRepository.archiveFinishedBefore(LocalDateTime.now().plusDays(1), 100);
+
+        // Assert
+        assertThat(moved).isPositive();
+        assertThat(taskRepository.findPage(Limit.of(100))).extracting(TaskDTO::getId)
+                .contains(open.getId())
+                .doesNotContain(done.getId());
+        assertThat(taskRepository.findDtoById(done.getId())).get()
+                .extracting(TaskDTO::getStatus).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(taskRepository.countArchivedByStatus()).extracting(StatusCount::getStatus)
+                .contains(TaskStatus.COMPLETED)
+                .doesNotContain(TaskStatus.TODO);
+        assertThat(taskRepository.changesSince(0, null, null, 1000).getRows())
+                .filteredOn(TaskChangeRow::isDeleted).isEmpty();
+    }
+
+    @Test
+    void streamAll_ShouldIncludeArchivedTasks() {
+        // Arrange
+        Task done = new Task("Done");
+        done.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(done);
+        Task open = taskRepository.save(new Task("Open"));
+        entityManager.flush();
+        entityManager.clear();
+        taskRepository.archiveFinishedBefore(LocalDateTime.now().plusDays(1), 100);
+
+        // Act
+        List<UUID> streamed;
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            streamed = tasks.map(Task::getId).toList();
+        }
+
+        // Assert
+        assertThat(streamed).contains(open.getId(), done.getId()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void restoreArchived_ShouldMoveTaskBackSoItCanBeDeleted() {
+        // Arrange
+        Task done = new Task("Done");
+        done.setStatus(TaskStatus.CANCELLED);
+        taskRepository.save(done);
+        entityManager.flush();
+        entityManager.clear();
+        taskRepository.archiveFinishedBefore(LocalDateTime.now().plusDays(1), 100);
+
+        // Act
+        int restored = taskRepository.restoreArchived(List.of(done.getId(), UUID.randomUUID()));
+        Optional<TaskDTO> deleted = taskRepository.deleteReturning(done.getId());
+
+        // Assert
+        assertThat(restored).isEqualTo(1);
+        assertThat(deleted).get().extracting(TaskDTO::getVersion).isEqualTo(0L);
+        assertThat(taskRepository.findDtoById(done.getId())).isEmpty();
+        assertThat(taskRepository.changesSince(0, null, null, 1000).getRows())
+                .filteredOn(TaskChangeRow::isDeleted)
+                .extracting(TaskChangeRow::getId).containsExactly(done.getId());
+    }
 }
@@ -0,0 +1,154 @@
+package com.learning.taskmanagement.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.event.TaskOverdueEvent;
+import com.learning.taskmanagement.repository.TaskRepository;
+
+/**
+ * Unit tests for DueDateScheduler.
+ *
+ * Learning Points:
+ * 1. A mutable clock and direct tick() calls replace the scheduler thread
+ * 2. Change events drive scheduling exactly as they would after a commit
+ */
+@ExtendWith(MockitoExtension.class)
+class DueDateSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private List<TaskOverdueEvent> overdue;
+    private DueDateScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        overdue = new ArrayList<>();
+        scheduler = new DueDateScheduler(taskRepository, eventPublisher, List.of(overdue::add),
+                Duration.ofSeconds(1), clock);
+    }
+
+    @Test
+    void tick_WhenDueDatePasses_ShouldNotifyListenersAndPublishEvent() {
+        // Arrange
+        TaskDTO task = task(TaskStatus.TODO, START.plusMinutes(5));
+        scheduler.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        clock.advance(Duration.ofMinutes(4));
+        scheduler.tick();
+        assertThat(overdue).isEmpty();
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.tick();
+
+        // Assert
+        assertThat(overdue).singleElement().satisfies(event -> {
+            assertThat(event.getTaskId()).isEqualTo(task.getId());
+            assertThat(event.getDueDate()).isEqualTo(task.getDueDate());
+        });
+        verify(eventPublisher).publishEvent(any(TaskOverdueEvent.class));
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskCompleted_ShouldCancelTimer() {
+        // Arrange
+        TaskDTO task = task(TaskStatus.IN_PROGRESS, START.plusHours(1));
+        TaskDTO completed = new TaskDTO(task.getId(), "Task", null, TaskStatus.COMPLETED, task.getDueDate(), null, null);
+        scheduler.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        scheduler.onTaskChanged(TaskChangedEvent.updated(task, completed));
+        clock.advance(Duration.ofHours(2));
+        scheduler.tick();
+
+        // Assert
+        assertThat(overdue).isEmpty();
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_WhenDueDateMoved_ShouldFireAtNewTime() {
+        // Arrange
+        TaskDTO task = task(TaskStatus.TODO, START.plusMinutes(10));
+        TaskDTO postponed = new TaskDTO(task.getId(), "Task", null, TaskStatus.TODO, START.plusDays(2), null, null);
+        scheduler.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        scheduler.onTaskChanged(TaskChangedEvent.updated(task, postponed));
+        clock.advance(Duration.ofDays(1));
+        scheduler.tick();
+        assertThat(overdue).isEmpty();
+        clock.advance(Duration.ofDays(1));
+        scheduler.tick();
+
+        // Assert
+        assertThat(overdue).extracting(TaskOverdueEvent::getDueDate).containsExactly(START.plusDays(2));
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskDeleted_ShouldCancelTimer() {
+        // Arrange
+        TaskDTO task = task(TaskStatus.TODO, START.plusMinutes(1));
+        scheduler.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Act
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(task.getId(), task));
+
+        // Assert
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    private static TaskDTO task(TaskStatus status, LocalDateTime dueDate) {
+        return new TaskDTO(UUID.randomUUID(), "Task", null, status, dueDate, null, null);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return instant; }
+    }
+}
@@ -0,0 +1,93 @@
+package com.learning.taskmanagement.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TimingWheel.
+ *
+ * Learning Points:
+ * 1. Timers far in the future must cascade through every level and still fire on their exact tick
+ * 2. A randomized run is compared against the obvious "expiry == tick" expectation
+ */
+class TimingWheelTest {
+
+    @Test
+    void advanceTo_ShouldFireEachTimerOnItsTick() {
+        // Arrange
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(1_000);
+        long[] delays = {1, 63, 64, 65, 4_095, 4_096, 4_097, 262_144, 300_000};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule(i, 1_000 + delays[i], 1_000 + delays[i]);
+        }
+
+        // Act
+        List<Long> fired = new ArrayList<>();
+        for (long tick = 1_001; tick <= 1_000 + 300_000; tick++) {
+            for (Long expiry : wheel.advanceTo(tick)) {
+                assertThat(expiry).isEqualTo(tick);
+                fired.add(expiry);
+            }
+        }
+
+        // Assert
+        assertThat(fired).hasSize(delays.length);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advanceTo_WithRandomTimers_ShouldNeverFireEarlyOrLate() {
+        // Arrange
+        Random random = new Random(42);
+        long start = random.nextInt(1 << 20);
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(start);
+        for (int i = 0; i < 10_000; i++) {
+            long expiry = start + 1 + random.nextInt(100_000);
+            wheel.schedule(i, expiry, expiry);
+        }
+
+        // Act
+        int fired = 0;
+        for (long tick = start + 1; tick <= start + 100_000; tick += 1 + random.nextInt(7)) {
+            long previous = wheel.currentTick();
+            for (Long expiry : wheel.advanceTo(tick)) {
+                assertThat(expiry).isGreaterThan(previous).isLessThanOrEqualTo(tick);
+                fired++;
+            }
+        }
+        fired += wheel.advanceTo(start + 100_000).size();
+
+        // Assert
+        assertThat(fired).isEqualTo(10_000);
+    }
+
+    @Test
+    void schedule_WhenRescheduledOrCancelled_ShouldOnlyFireLatest() {
+        // Arrange
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "a@10", 10);
+        wheel.schedule("a", "a@5000", 5_000);
+        wheel.schedule("b", "b@20", 20);
+        wheel.cancel("b");
+
+        // Act
+        List<String> fired = wheel.advanceTo(10_000);
+
+        // Assert
+        assertThat(fired).containsExactly("a@5000");
+    }
+
+    @Test
+    void schedule_WhenTickAlreadyPassed_ShouldReturnFalse() {
+        // Arrange
+        TimingWheel<String, String> wheel = new TimingWheel<>(100);
+
+        // Act & Assert
+        assertThat(wheel.schedule("a", "a", 100)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -1,9 +1,14 @@
 package com.learning.taskmanagement.service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -12,17 +17,44 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import com.learning.taskmanagement.domain.Task;
 import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskBatchOperationDTO;
+import com.learning.taskmanagement.dto.TaskBatchResultDTO;
+import com.learning.taskmanagement.dto.TaskChangeDTO;
+import com.learning.taskmanagement.dto.TaskChangesDTO;
+import com.learning.taskmanagement.dto.TaskCursor;
 import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.dto.TaskSearchCursor;
+import com.learning.taskmanagement.dto.TaskSyncToken;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.exception.BatchTooLargeException;
+import com.learning.taskmanagement.exception.InvalidCursorException;
+import com.learning.taskmanagement.exception.InvalidSearchQueryException;
+import com.learning.taskmanagement.exception.InvalidTaskPatchException;
+import com.learning.taskmanagement.exception.SyncTokenExpiredException;
 import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.exception.TaskVersionMismatchException;
+import com.learning.taskmanagement.repository.TaskChangeBatch;
+import com.learning.taskmanagement.repository.TaskChangeRow;
 import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.repository.TaskRowChange;
+import com.learning.taskmanagement.repository.TaskSearchHit;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * Unit tests for TaskServiceImpl.
@@ -39,11 +71,17 @@ class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TaskServiceImpl taskService;
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskServiceImpl(taskRepository);
+        taskService = new TaskServiceImpl(taskRepository, entityManager, eventPublisher, 2, 5, Duration.ofDays(30));
     }
 
     @Test
@@ -67,8 +105,8 @@ class TaskServiceImplTest {
     void getTask_WhenTaskExists_ShouldReturnTask() {
         // Arrange
         UUID id = UUID.randomUUID();
-        Task task = new Task("Test Task");
-        when(taskRepository.findById(id)).thenReturn(Optional.of(task));
+        TaskDTO task = taskService.mapToDTO(new Task("Test Task"));
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.of(task));
 
         // Act
         Optional<TaskDTO> result = taskService.getTask(id);
@@ -76,7 +114,7 @@ class TaskServiceImplTest {
         // Assert
         assertThat(result).isPresent();
         assertThat(result.get().getTitle()).isEqualTo("Test Task");
-        verify(taskRepository).findById(id);
+        verify(taskRepository).findDtoById(id);
     }
 
     @Test
@@ -84,7 +122,7 @@ class TaskServiceImplTest {
         // Arrange
         UUID id = UUID.randomUUID();
         TaskDTO updateDto = new TaskDTO(id, "Updated Task", "Description", TaskStatus.IN_PROGRESS, null, null, null);
-        when(taskRepository.findById(id)).thenReturn(Optional.empty());
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> taskService.updateTask(id, updateDto))
@@ -97,16 +135,17 @@ class TaskServiceImplTest {
         // Arrange
         Task task = new Task("Test Task");
         task.setStatus(TaskStatus.IN_PROGRESS);
-        when(taskRepository.findByStatus(TaskStatus.IN_PROGRESS))
-                .thenReturn(List.of(task));
+        when(taskRepository.findPageByStatus(TaskStatus.IN_PROGRESS, Limit.of(11)))
+                .thenReturn(List.of(taskService.mapToDTO(task)));
 
         // Act
-        List<TaskDTO> results = taskService.getTasksByStatus(TaskStatus.IN_PROGRESS);
+        TaskPageDTO results = taskService.getTasksByStatus(TaskStatus.IN_PROGRESS, null, 10);
 
         // Assert
-        assertThat(results).hasSize(1);
-        assertThat(results.get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
-        verify(taskRepository).findByStatus(TaskStatus.IN_PROGRESS);
+        assertThat(results.getItems()).hasSize(1);
+        assertThat(results.getItems().get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(results.getNext()).isNull();
+        verify(taskRepository).findPageByStatus(TaskStatus.IN_PROGRESS, Limit.of(11));
     }
 
     @Test
@@ -124,12 +163,13 @@ class TaskServiceImplTest {
     void updateTask_WhenTaskExists_ShouldUpdateAllFields() {
         // Arrange
         UUID id = UUID.randomUUID();
-        Task existingTask = new Task("Original Title");
-        TaskDTO updateDto = new TaskDTO(id, "Updated Title", "New Description", 
+        TaskDTO previous = taskService.mapToDTO(new Task("Original Title"));
+        TaskDTO updateDto = new TaskDTO(id, "Updated Title", null,
                 TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(1), null, null);
-        
-        when(taskRepository.findById(id)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(existingTask);
+        TaskDTO current = new TaskDTO(id, "Updated Title", null, TaskStatus.IN_PROGRESS,
+                updateDto.getDueDate(), null, null, 1L);
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class)))
+                .thenReturn(Optional.of(new TaskRowChange(previous, current)));
 
         // Act
         TaskDTO result = taskService.updateTask(id, updateDto);
@@ -138,31 +178,429 @@ class TaskServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Updated Title");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
-        verify(taskRepository).save(any(Task.class));
+
+        ArgumentCaptor<TaskPatchDTO> patch = ArgumentCaptor.forClass(TaskPatchDTO.class);
+        verify(taskRepository).patch(eq(id), patch.capture());
+        assertThat(patch.getValue().hasTitle()).isTrue();
+        assertThat(patch.getValue().hasDescription()).isTrue();
+        assertThat(patch.getValue().hasStatus()).isTrue();
+        assertThat(patch.getValue().hasDueDate()).isTrue();
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(TaskChangedEvent.Type.UPDATED);
+        assertThat(event.getValue().getPrevious().getTitle()).isEqualTo("Original Title");
+        assertThat(event.getValue().getCurrent().getTitle()).isEqualTo("Updated Title");
     }
 
     @Test
-    void deleteTask_WhenTaskExists_ShouldDelete() {
+    void updateTask_WhenVersionStale_ShouldThrowVersionMismatch() {
         // Arrange
         UUID id = UUID.randomUUID();
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class))).thenReturn(Optional.empty());
         when(taskRepository.existsById(id)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(id);
+        TaskDTO staleDto = new TaskDTO(id, "Stale edit", null, TaskStatus.TODO, null, null, null, 4L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTask(id, staleDto))
+                .isInstanceOf(TaskVersionMismatchException.class);
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void patchTask_WithVersionOnMissingTask_ShouldThrowNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class))).thenReturn(Optional.empty());
+        when(taskRepository.existsById(id)).thenReturn(false);
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.COMPLETED);
+        patch.setVersion(2L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(id, patch))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
+
+    @Test
+    void patchTask_WithoutVersion_ShouldNotCheckExistenceSeparately() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class))).thenReturn(Optional.empty());
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setDescription(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(id, patch))
+                .isInstanceOf(TaskNotFoundException.class);
+        verify(taskRepository, never()).existsById(id);
+    }
+
+    @Test
+    void patchTask_OnArchivedTask_ShouldRestoreItAndRetry() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO previous = new TaskDTO(id, "Archived", null, TaskStatus.COMPLETED, null, null, null, 2L);
+        TaskDTO current = new TaskDTO(id, "Archived", null, TaskStatus.TODO, null, null, null, 3L);
+        when(taskRepository.patch(eq(id), any(TaskPatchDTO.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new TaskRowChange(previous, current)));
+        when(taskRepository.restoreArchived(List.of(id))).thenReturn(1);
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.TODO);
+
+        // Act
+        TaskDTO result = taskService.patchTask(id, patch);
+
+        // Assert
+        assertThat(result).isSameAs(current);
+        verify(taskRepository, times(2)).patch(eq(id), any(TaskPatchDTO.class));
+    }
+
+    @Test
+    void deleteTask_OnArchivedTask_ShouldRestoreItAndDelete() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO deleted = new TaskDTO(id, "Archived", null, TaskStatus.CANCELLED, null, null, null, 0L);
+        when(taskRepository.deleteReturning(id))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(deleted));
+        when(taskRepository.restoreArchived(List.of(id))).thenReturn(1);
+
+        // Act
+        taskService.deleteTask(id);
+
+        // Assert
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void patchTask_WithBlankTitle_ShouldRejectWithoutWriting() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setTitle(" ");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.patchTask(id, patch))
+                .isInstanceOf(InvalidTaskPatchException.class);
+        verify(taskRepository, never()).patch(any(UUID.class), any(TaskPatchDTO.class));
+    }
+
+    @Test
+    void patchTask_WithNoFields_ShouldReturnCurrentTaskWithoutWriting() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO current = new TaskDTO(id, "Current", null, TaskStatus.TODO, null, null, null, 3L);
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.of(current));
+
+        // Act
+        TaskDTO result = taskService.patchTask(id, new TaskPatchDTO());
+
+        // Assert
+        assertThat(result).isSameAs(current);
+        verify(taskRepository, never()).patch(any(UUID.class), any(TaskPatchDTO.class));
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void deleteTask_WhenTaskExists_ShouldDelete() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO deleted = new TaskDTO(id, "Doomed", null, TaskStatus.TODO, null, null, null, 0L);
+        when(taskRepository.deleteReturning(id)).thenReturn(Optional.of(deleted));
 
         // Act & Assert
         assertThatCode(() -> taskService.deleteTask(id))
                 .doesNotThrowAnyException();
-        verify(taskRepository).deleteById(id);
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(TaskChangedEvent.Type.DELETED);
+        assertThat(event.getValue().getPrevious()).isSameAs(deleted);
+    }
+
+    @Test
+    void deleteTask_WhenTaskDoesNotExist_ShouldThrowNotFound() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(taskRepository.deleteReturning(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.deleteTask(id))
+                .isInstanceOf(TaskNotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
     void getAllTasks_WhenNoTasks_ShouldReturnEmptyList() {
         // Arrange
-        when(taskRepository.findAll()).thenReturn(List.of());
+        when(taskRepository.findPage(Limit.of(51))).thenReturn(List.of());
+
+        // Act
+        TaskPageDTO result = taskService.getAllTasks(null, 50);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getNext()).isNull();
+    }
+
+    @Test
+    void getAllTasks_WhenMoreRowsThanLimit_ShouldReturnNextCursorFromLastItem() {
+        // Arrange
+        TaskDTO first = taskService.mapToDTO(new Task("First"));
+        TaskDTO second = taskService.mapToDTO(new Task("Second"));
+        TaskDTO third = taskService.mapToDTO(new Task("Third"));
+        when(taskRepository.findPage(Limit.of(3)))
+                .thenReturn(List.of(first, second, third));
+
+        // Act
+        TaskPageDTO result = taskService.getAllTasks(null, 2);
+
+        // Assert
+        assertThat(result.getItems()).extracting(TaskDTO::getTitle).containsExactly("First", "Second");
+        TaskCursor next = TaskCursor.decode(result.getNext());
+        assertThat(next.getId()).isEqualTo(second.getId());
+        assertThat(next.getCreatedAt()).isEqualTo(second.getCreatedAt());
+    }
+
+    @Test
+    void getAllTasks_WithCursor_ShouldSeekPastCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.now();
+        UUID id = UUID.randomUUID();
+        String after = new TaskCursor(createdAt, id).encode();
+        when(taskRepository.findPageAfter(createdAt, id, Limit.of(51))).thenReturn(List.of());
+
+        // Act
+        TaskPageDTO result = taskService.getAllTasks(after, 50);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        verify(taskRepository).findPageAfter(createdAt, id, Limit.of(51));
+    }
+
+    @Test
+    void searchTasks_WhenMoreHitsThanLimit_ShouldReturnSearchCursorFromLastHit() {
+        // Arrange
+        TaskDTO best = taskService.mapToDTO(new Task("Best"));
+        TaskDTO good = taskService.mapToDTO(new Task("Good"));
+        TaskDTO weak = taskService.mapToDTO(new Task("Weak"));
+        when(taskRepository.search("docs", null, null, 3)).thenReturn(List.of(
+                new TaskSearchHit(best, 0.9f), new TaskSearchHit(good, 0.5f), new TaskSearchHit(weak, 0.1f)));
+
+        // Act
+        TaskPageDTO result = taskService.searchTasks("  docs ", null, 2);
+
+        // Assert
+        assertThat(result.getItems()).extracting(TaskDTO::getTitle).containsExactly("Best", "Good");
+        TaskSearchCursor next = TaskSearchCursor.decode(result.getNext());
+        assertThat(next.getRank()).isEqualTo(0.5f);
+        assertThat(next.getId()).isEqualTo(good.getId());
+    }
+
+    @Test
+    void searchTasks_WithCursor_ShouldSeekPastLastHit() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        String after = new TaskSearchCursor(0.25f, lastId).encode();
+        when(taskRepository.search("docs", 0.25f, lastId, 51)).thenReturn(List.of());
+
+        // Act
+        TaskPageDTO result = taskService.searchTasks("docs", after, 50);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getNext()).isNull();
+    }
+
+    @Test
+    void searchTasks_WithBlankQuery_ShouldThrowInvalidSearchQuery() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasks("   ", null, 50))
+                .isInstanceOf(InvalidSearchQueryException.class);
+    }
+
+    @Test
+    void getChanges_WithoutToken_ShouldStartFullSyncAndEndAtSnapshotXmin() {
+        // Arrange
+        TaskDTO live = taskService.mapToDTO(new Task("Live"));
+        UUID deletedId = UUID.randomUUID();
+        when(taskRepository.changesSince(0, null, null, 51)).thenReturn(new TaskChangeBatch(List.of(
+                new TaskChangeRow(live.getId(), 700, live),
+                new TaskChangeRow(deletedId, 800, null)), 900));
+
+        // Act
+        TaskChangesDTO result = taskService.getChanges(null, 50);
+
+        // Assert
+        assertThat(result.getChanges()).extracting(TaskChangeDTO::getType)
+                .containsExactly(TaskChangedEvent.Type.UPDATED, TaskChangedEvent.Type.DELETED);
+        assertThat(result.getChanges().get(1).getId()).isEqualTo(deletedId);
+        assertThat(result.isHasMore()).isFalse();
+        TaskSyncToken next = TaskSyncToken.decode(result.getNext());
+        assertThat(next.isContinuation()).isFalse();
+        assertThat(next.getFloorXid()).isEqualTo(900);
+    }
+
+    @Test
+    void getChanges_WhenPaging_ShouldEndAtLowestXminSeen() {
+        // Arrange
+        TaskSyncToken since = TaskSyncToken.of(500, Instant.now());
+        TaskChangeRow first = new TaskChangeRow(UUID.randomUUID(), 600, null);
+        TaskChangeRow second = new TaskChangeRow(UUID.randomUUID(), 610, null);
+        TaskChangeRow third = new TaskChangeRow(UUID.randomUUID(), 620, null);
+        when(taskRepository.changesSince(500, null, null, 3))
+                .thenReturn(new TaskChangeBatch(List.of(first, second, third), 950));
+        when(taskRepository.changesSince(500, 610L, second.getId(), 3))
+                .thenReturn(new TaskChangeBatch(List.of(third), 990));
+
+        // Act
+        TaskChangesDTO firstPage = taskService.getChanges(since.encode(), 2);
+        TaskChangesDTO lastPage = taskService.getChanges(firstPage.getNext(), 2);
+
+        // Assert
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(firstPage.getChanges()).extracting(TaskChangeDTO::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(lastPage.isHasMore()).isFalse();
+        assertThat(lastPage.getChanges()).extracting(TaskChangeDTO::getId).containsExactly(third.getId());
+        assertThat(TaskSyncToken.decode(lastPage.getNext()).getFloorXid()).isEqualTo(950);
+    }
+
+    @Test
+    void getChanges_WithTokenOlderThanRetention_ShouldThrowExpired() {
+        // Arrange
+        String since = TaskSyncToken.of(500, Instant.now().minus(Duration.ofDays(31))).encode();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getChanges(since, 50))
+                .isInstanceOf(SyncTokenExpiredException.class);
+    }
 
+    @Test
+    void getAllTasks_WithMalformedCursor_ShouldThrowInvalidCursor() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getAllTasks("not-a-cursor", 50))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void exportTasks_ShouldEmitEachRowAndDetachIt() {
+        // Arrange
+        Task first = new Task("First");
+        Task second = new Task("Second");
+        when(taskRepository.streamAll()).thenReturn(Stream.of(first, second));
+        List<TaskDTO> exported = new ArrayList<>();
+
+        // Act
+        taskService.exportTasks(exported::add);
+
+        // Assert
+        assertThat(exported).extracting(TaskDTO::getTitle).containsExactly("First", "Second");
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void applyBatch_WithMixedOperations_ShouldReportPerItemResults() {
+        // Arrange
+        Task existing = new Task("Existing");
+        Task doomed = new Task("Doomed");
+        UUID missing = UUID.randomUUID();
+        TaskDTO updated = new TaskDTO(null, "Renamed", null, TaskStatus.COMPLETED, null, null, null);
+        when(taskRepository.findAllById(Set.of(existing.getId(), missing)))
+                .thenReturn(List.of(existing));
+        when(taskRepository.findAllById(Set.of(doomed.getId())))
+                .thenReturn(List.of(doomed));
+        List<TaskBatchOperationDTO> operations = List.of(
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.UPDATE, existing.getId(), updated),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, missing, null),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, "Created", null, null, null, null, null)),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, doomed.getId(), null),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, " ", null, null, null, null, null)));
+
+        // Act
+        List<TaskBatchResultDTO> results = taskService.applyBatch(operations);
+
+        // Assert
+        assertThat(results).extracting(TaskBatchResultDTO::getOutcome).containsExactly(
+                TaskBatchResultDTO.Outcome.UPDATED,
+                TaskBatchResultDTO.Outcome.NOT_FOUND,
+                TaskBatchResultDTO.Outcome.CREATED,
+                TaskBatchResultDTO.Outcome.DELETED,
+                TaskBatchResultDTO.Outcome.INVALID);
+        assertThat(existing.getTitle()).isEqualTo("Renamed");
+        assertThat(existing.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(taskRepository).delete(doomed);
+        verify(taskRepository).save(any(Task.class));
+        verify(eventPublisher, times(3)).publishEvent(any(TaskChangedEvent.class));
+        // Three chunks of at most two operations each
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void applyBatch_UpdateWithoutStatus_ShouldRejectOnlyThatItem() {
+        // Arrange
+        Task existing = new Task("Existing");
+        when(taskRepository.findAllById(Set.of(existing.getId()))).thenReturn(List.of(existing));
+        List<TaskBatchOperationDTO> operations = List.of(new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.UPDATE,
+                existing.getId(), new TaskDTO(null, "Renamed", null, null, null, null, null)));
+
+        // Act
+        List<TaskBatchResultDTO> results = taskService.applyBatch(operations);
+
+        // Assert
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getOutcome()).isEqualTo(TaskBatchResultDTO.Outcome.INVALID);
+            assertThat(result.getError()).isEqualTo("Status is required");
+        });
+        assertThat(existing.getTitle()).isEqualTo("Existing");
+        assertThat(existing.getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void applyBatch_WithTooLongTitle_ShouldRejectOnlyThatItem() {
+        // Arrange
+        String tooLong = "x".repeat(TaskDTO.TITLE_MAX_LENGTH + 1);
+        List<TaskBatchOperationDTO> operations = List.of(
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, tooLong, null, null, null, null, null)),
+                new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.CREATE, null,
+                        new TaskDTO(null, "Fits", null, null, null, null, null)));
+
+        // Act
+        List<TaskBatchResultDTO> results = taskService.applyBatch(operations);
+
+        // Assert
+        assertThat(results).extracting(TaskBatchResultDTO::getOutcome)
+                .containsExactly(TaskBatchResultDTO.Outcome.INVALID, TaskBatchResultDTO.Outcome.CREATED);
+        assertThat(results.get(0).getError()).isEqualTo("Title must be between 1 and 255 characters");
+        verify(taskRepository).save(any(Task.class));
+    }
+
+    @Test
+    void applyBatch_WhenOverLimit_ShouldReject() {
+        // Arrange
+        List<TaskBatchOperationDTO> operations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            operations.add(new TaskBatchOperationDTO(TaskBatchOperationDTO.Type.DELETE, UUID.randomUUID(), null));
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.applyBatch(operations))
+                .isInstanceOf(BatchTooLargeException.class);
+    }
+
+    @Test
+    void newTask_ShouldBeDetectedAsNew() {
         // Act
-        List<TaskDTO> result = taskService.getAllTasks();
+        Task task = new Task("Fresh");
 
         // Assert
-        assertThat(result).isEmpty();
+        assertThat(task.isNew()).isTrue();
     }
 }
@@ -0,0 +1,171 @@
+package com.learning.taskmanagement.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskPageDTO;
+import com.learning.taskmanagement.dto.TaskPatchDTO;
+import com.learning.taskmanagement.exception.TaskNotFoundException;
+import com.learning.taskmanagement.writebehind.TaskStatusWriteBehind;
+
+/**
+ * Unit tests for WriteBehindTaskService.
+ *
+ * Learning Points:
+ * 1. The write-behind buffer is mocked, so each test decides what is pending
+ * 2. InOrder verification proves a pending status is flushed before another write
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindTaskServiceTest {
+
+    @Mock
+    private TaskService delegate;
+
+    @Mock
+    private TaskStatusWriteBehind writeBehind;
+
+    private WriteBehindTaskService service;
+    private UUID id;
+    private TaskDTO stored;
+
+    @BeforeEach
+    void setUp() {
+        service = new WriteBehindTaskService(delegate, writeBehind);
+        id = UUID.randomUUID();
+        stored = new TaskDTO(id, "Task", "Details", TaskStatus.TODO, null, null, null, 3L);
+    }
+
+    @Test
+    void patchTask_WithStatusOnly_ShouldBufferWithoutWritingThrough() {
+        // Arrange
+        when(delegate.getTask(id)).thenReturn(Optional.of(stored));
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.IN_PROGRESS);
+
+        // Act
+        TaskDTO result = service.patchTask(id, patch);
+
+        // Assert
+        verify(writeBehind).put(id, TaskStatus.IN_PROGRESS);
+        verify(delegate, never()).patchTask(any(), any());
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(result.getVersion()).isNull();
+    }
+
+    @Test
+    void patchTask_WithStatusOnlyForMissingTask_ShouldThrow() {
+        // Arrange
+        when(delegate.getTask(id)).thenReturn(Optional.empty());
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.IN_PROGRESS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.patchTask(id, patch)).isInstanceOf(TaskNotFoundException.class);
+        verify(writeBehind, never()).put(any(), any());
+    }
+
+    @Test
+    void patchTask_WithVersion_ShouldFlushPendingStatusThenWriteThrough() {
+        // Arrange
+        TaskPatchDTO patch = new TaskPatchDTO();
+        patch.setStatus(TaskStatus.COMPLETED);
+        patch.setVersion(3L);
+
+        // Act
+        service.patchTask(id, patch);
+
+        // Assert
+        InOrder order = inOrder(writeBehind, delegate);
+        order.verify(writeBehind).flushIfPending(List.of(id));
+        order.verify(delegate).patchTask(id, patch);
+        verify(writeBehind, never()).put(any(), any());
+    }
+
+    @Test
+    void updateTask_ChangingOnlyStatus_ShouldBuffer() {
+        // Arrange
+        when(delegate.getTask(id)).thenReturn(Optional.of(stored));
+        TaskDTO update = new TaskDTO(null, "Task", "Details", TaskStatus.CANCELLED, null, null, null);
+
+        // Act
+        service.updateTask(id, update);
+
+        // Assert
+        verify(writeBehind).put(id, TaskStatus.CANCELLED);
+        verify(delegate, never()).updateTask(any(), any());
+    }
+
+    @Test
+    void updateTask_ChangingTitle_ShouldWriteThrough() {
+        // Arrange
+        when(delegate.getTask(id)).thenReturn(Optional.of(stored));
+        TaskDTO update = new TaskDTO(null, "Renamed", "Details", TaskStatus.CANCELLED, null, null, null);
+
+        // Act
+        service.updateTask(id, update);
+
+        // Assert
+        verify(delegate).updateTask(id, update);
+        verify(writeBehind, never()).put(any(), any());
+    }
+
+    @Test
+    void getTask_ShouldShowPendingStatusWithoutVersion() {
+        // Arrange
+        when(delegate.getTask(id)).thenReturn(Optional.of(stored));
+        when(writeBehind.pendingStatus(id)).thenReturn(TaskStatus.COMPLETED);
+
+        // Act
+        Optional<TaskDTO> task = service.getTask(id);
+
+        // Assert
+        assertThat(task).get().satisfies(dto -> {
+            assertThat(dto.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(dto.getVersion()).isNull();
+        });
+    }
+
+    @Test
+    void getTasksByStatus_ShouldDropTasksWhosePendingStatusNoLongerMatches() {
+        // Arrange
+        TaskDTO other = new TaskDTO(UUID.randomUUID(), "Other", null, TaskStatus.TODO, null, null, null, 0L);
+        when(delegate.getTasksByStatus(TaskStatus.TODO, null, 50))
+                .thenReturn(new TaskPageDTO(List.of(stored, other), "cursor"));
+        when(writeBehind.hasPending()).thenReturn(true);
+        when(writeBehind.pendingStatus(id)).thenReturn(TaskStatus.COMPLETED);
+
+        // Act
+        TaskPageDTO page = service.getTasksByStatus(TaskStatus.TODO, null, 50);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(other);
+        assertThat(page.getNext()).isEqualTo("cursor");
+    }
+
+    @Test
+    void getListVersion_ShouldChangeWithBufferedWrites() {
+        // Arrange
+        when(delegate.getListVersion(null)).thenReturn("7");
+        when(writeBehind.generation()).thenReturn(1L, 2L);
+
+        // Act & Assert
+        assertThat(service.getListVersion(null)).isNotEqualTo(service.getListVersion(null));
+    }
+}
@@ -0,0 +1,211 @@
+package com.learning.taskmanagement.stats;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.learning.taskmanagement.domain.DueBucket;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.dto.TaskStatsDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.repository.DueMinuteCount;
+import com.learning.taskmanagement.repository.StatusCount;
+import com.learning.taskmanagement.repository.TaskRepository;
+
+/**
+ * Unit tests for TaskStatistics.
+ *
+ * Learning Points:
+ * 1. A mutable clock lets tests move time forward across bucket boundaries
+ * 2. Events are fed directly, without a Spring context
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 10, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private MutableClock clock;
+    private TaskStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        statistics = new TaskStatistics(taskRepository, clock);
+    }
+
+    @Test
+    void onTaskChanged_ShouldTrackStatusTransitions() {
+        // Arrange
+        TaskDTO created = task(TaskStatus.TODO, null);
+        TaskDTO completed = new TaskDTO(created.getId(), "Task", null, TaskStatus.COMPLETED, null, null, null);
+
+        // Act
+        statistics.onTaskChanged(TaskChangedEvent.created(created));
+        statistics.onTaskChanged(TaskChangedEvent.updated(created, completed));
+
+        // Assert
+        TaskStatsDTO stats = statistics.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getByStatus().get(TaskStatus.TODO)).isZero();
+        assertThat(stats.getByStatus().get(TaskStatus.COMPLETED)).isEqualTo(1);
+        assertThat(stats.getDueBuckets().get(DueBucket.NO_DUE_DATE)).isZero();
+    }
+
+    @Test
+    void snapshot_AsTimePasses_ShouldMoveTasksTowardsOverdue() {
+        // Arrange
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.TODO, START.plusHours(2))));
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.IN_PROGRESS, START.plusDays(3))));
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.TODO, START.plusDays(30))));
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.COMPLETED, START.minusDays(1))));
+
+        // Act & Assert
+        TaskStatsDTO now = statistics.snapshot();
+        assertThat(now.getOverdue()).isZero();
+        assertThat(now.getDueBuckets().get(DueBucket.DUE_24H)).isEqualTo(1);
+        assertThat(now.getDueBuckets().get(DueBucket.DUE_7D)).isEqualTo(1);
+        assertThat(now.getDueBuckets().get(DueBucket.LATER)).isEqualTo(1);
+
+        clock.advance(Duration.ofDays(2).plusHours(1));
+        TaskStatsDTO later = statistics.snapshot();
+        assertThat(later.getOverdue()).isEqualTo(1);
+        assertThat(later.getDueBuckets().get(DueBucket.DUE_24H)).isEqualTo(1);
+        assertThat(later.getDueBuckets().get(DueBucket.DUE_7D)).isZero();
+        assertThat(later.getDueBuckets().get(DueBucket.LATER)).isEqualTo(1);
+
+        clock.advance(Duration.ofDays(40));
+        assertThat(statistics.snapshot().getOverdue()).isEqualTo(3);
+    }
+
+    @Test
+    void reconcile_ShouldReplaceCountersWithSqlAggregates() {
+        // Arrange
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.TODO, null)));
+        long overdueMinute = TaskStatistics.toMinute(START.minusHours(1));
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.IN_PROGRESS, 5)));
+        when(taskRepository.countOpenByDueMinute()).thenReturn(List.of(dueCount(overdueMinute, 4)));
+        when(taskRepository.countByStatusInAndDueDateIsNull(any())).thenReturn(1L);
+
+        // Act
+        statistics.reconcile();
+
+        // Assert
+        TaskStatsDTO stats = statistics.snapshot();
+        assertThat(stats.getByStatus().get(TaskStatus.TODO)).isZero();
+        assertThat(stats.getByStatus().get(TaskStatus.IN_PROGRESS)).isEqualTo(5);
+        assertThat(stats.getOverdue()).isEqualTo(4);
+        assertThat(stats.getDueBuckets().get(DueBucket.NO_DUE_DATE)).isEqualTo(1);
+        assertThat(stats.getReconciledAt()).isEqualTo(START);
+    }
+
+    @Test
+    void reconcile_ShouldCountArchivedTasks() {
+        // Arrange
+        when(taskRepository.countByStatus()).thenReturn(List.of(statusCount(TaskStatus.COMPLETED, 2)));
+        when(taskRepository.countArchivedByStatus()).thenReturn(List.of(statusCount(TaskStatus.COMPLETED, 40)));
+
+        // Act
+        statistics.reconcile();
+
+        // Assert
+        TaskStatsDTO stats = statistics.snapshot();
+        assertThat(stats.getByStatus().get(TaskStatus.COMPLETED)).isEqualTo(42);
+        assertThat(stats.getTotal()).isEqualTo(42);
+    }
+
+    @Test
+    void reconcile_ShouldKeepEventsThatArriveDuringTheRebuild() {
+        // Arrange
+        TaskDTO created = task(TaskStatus.TODO, START.plusHours(2));
+        when(taskRepository.countByStatus()).thenAnswer(invocation -> {
+            statistics.onTaskChanged(TaskChangedEvent.created(created));
+            return List.of(statusCount(TaskStatus.TODO, 3));
+        });
+
+        // Act
+        statistics.reconcile();
+        statistics.onTaskChanged(TaskChangedEvent.created(task(TaskStatus.TODO, null)));
+
+        // Assert
+        TaskStatsDTO stats = statistics.snapshot();
+        assertThat(stats.getByStatus().get(TaskStatus.TODO)).isEqualTo(5);
+        assertThat(stats.getDueBuckets().get(DueBucket.DUE_24H)).isEqualTo(1);
+        assertThat(stats.getDueBuckets().get(DueBucket.NO_DUE_DATE)).isEqualTo(1);
+    }
+
+    @Test
+    void reconcile_ShouldPruneEmptyDueMinutes() {
+        // Arrange
+        long dueMinute = TaskStatistics.toMinute(START.plusDays(2));
+        TaskDTO created = task(TaskStatus.TODO, START.plusDays(1));
+        when(taskRepository.countOpenByDueMinute()).thenAnswer(invocation -> {
+            statistics.onTaskChanged(TaskChangedEvent.created(created));
+            statistics.onTaskChanged(TaskChangedEvent.deleted(created.getId(), created));
+            return List.of(dueCount(dueMinute, 2));
+        });
+
+        // Act
+        statistics.reconcile();
+
+        // Assert
+        assertThat(statistics.trackedDueMinutes()).isEqualTo(1);
+        assertThat(statistics.snapshot().getDueBuckets().get(DueBucket.DUE_7D)).isEqualTo(2);
+    }
+
+    private static TaskDTO task(TaskStatus status, LocalDateTime dueDate) {
+        return new TaskDTO(UUID.randomUUID(), "Task", null, status, dueDate, null, null);
+    }
+
+    private static StatusCount statusCount(TaskStatus status, long count) {
+        return new StatusCount() {
+            public TaskStatus getStatus() { return status; }
+            public long getCount() { return count; }
+        };
+    }
+
+    private static DueMinuteCount dueCount(long minute, long count) {
+        return new DueMinuteCount() {
+            public long getMinute() { return minute; }
+            public long getCount() { return count; }
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return instant; }
+    }
+}
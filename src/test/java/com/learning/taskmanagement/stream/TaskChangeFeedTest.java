@@ -0,0 +1,289 @@
+package com.learning.taskmanagement.stream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.exception.TooManySubscribersException;
+
+/**
+ * Unit tests for TaskChangeFeed.
+ *
+ * Learning Points:
+ * 1. Recording emitters stand in for HTTP responses
+ * 2. A manual executor decides when queued frames are written, which is how a
+ *    slow client is simulated
+ * 3. A client that stops reading entirely is an emitter whose send blocks
+ */
+class TaskChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private List<Runnable> pendingSends;
+    private List<RecordingEmitter> emitters;
+    private TaskChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        pendingSends = new ArrayList<>();
+        emitters = new ArrayList<>();
+        feed = new TaskChangeFeed(new ObjectMapper().findAndRegisterModules(), BUFFER_SIZE, 2,
+                Duration.ofSeconds(15), Duration.ofHours(1), pendingSends::add) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void onTaskChanged_ShouldSendChangeToEverySubscriber() {
+        // Arrange
+        feed.subscribe();
+        feed.subscribe();
+        TaskDTO task = task();
+
+        // Act
+        feed.onTaskChanged(TaskChangedEvent.created(task));
+        runPendingSends();
+
+        // Assert
+        assertThat(emitters).allSatisfy(emitter -> {
+            assertThat(emitter.frames).hasSize(2);
+            assertThat(emitter.frames.get(0)).contains("retry:" + TaskChangeFeed.RECONNECT_MILLIS);
+            assertThat(emitter.frames.get(1))
+                    .startsWith("event:" + TaskChangeFeed.EVENT_NAME)
+                    .contains("\"type\":\"CREATED\"")
+                    .contains("\"id\":\"" + task.getId() + "\"");
+        });
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskDeleted_ShouldSendIdOnly() {
+        // Arrange
+        feed.subscribe();
+        TaskDTO task = task();
+
+        // Act
+        feed.onTaskChanged(TaskChangedEvent.deleted(task.getId(), task));
+        runPendingSends();
+
+        // Assert
+        assertThat(emitters.get(0).frames.get(1))
+                .contains("\"type\":\"DELETED\"")
+                .contains("\"task\":null");
+    }
+
+    @Test
+    void onTaskChanged_WhenSubscriberKeepsUp_ShouldNeverDropIt() {
+        // Arrange
+        feed.subscribe();
+
+        // Act
+        for (int i = 0; i < BUFFER_SIZE * 3; i++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task()));
+            runPendingSends();
+        }
+
+        // Assert
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+        assertThat(emitters.get(0).completed).isFalse();
+        assertThat(emitters.get(0).frames).hasSize(1 + BUFFER_SIZE * 3);
+    }
+
+    @Test
+    void onTaskChanged_WhenSubscriberFallsBufferBehind_ShouldDisconnectIt() {
+        // Arrange
+        feed.subscribe();
+
+        // Act: nothing is written, as if the client stopped reading
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            feed.onTaskChanged(TaskChangedEvent.created(task()));
+        }
+
+        // Assert: the emitter is completed by the sender, never by the publishing thread
+        assertThat(feed.subscriberCount()).isZero();
+        assertThat(emitters.get(0).completed).isFalse();
+        runPendingSends();
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(emitters.get(0).frames).isEmpty();
+    }
+
+    @Test
+    void onTaskChanged_WhenSendBlocks_ShouldStillReturn() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        BlockingEmitter emitter = new BlockingEmitter(release);
+        TaskChangeFeed blockingFeed = new TaskChangeFeed(new ObjectMapper().findAndRegisterModules(), BUFFER_SIZE, 2,
+                Duration.ofSeconds(15), Duration.ofHours(1), sender) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitter;
+            }
+        };
+        try {
+            blockingFeed.subscribe();
+            assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Act: overflows while the sender holds the emitter's monitor
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i <= BUFFER_SIZE; i++) {
+                    blockingFeed.onTaskChanged(TaskChangedEvent.created(task()));
+                }
+                blockingFeed.sendHeartbeats();
+            });
+
+            // Assert
+            assertThat(blockingFeed.subscriberCount()).isZero();
+            release.countDown();
+            sender.shutdown();
+            assertThat(sender.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(emitter.completed).isTrue();
+        } finally {
+            release.countDown();
+            sender.shutdownNow();
+        }
+    }
+
+    @Test
+    void sendHeartbeats_ShouldSendCommentToIdleSubscribers() {
+        // Arrange
+        feed.subscribe();
+        runPendingSends();
+
+        // Act
+        feed.sendHeartbeats();
+        runPendingSends();
+
+        // Assert
+        assertThat(emitters.get(0).frames).last().isEqualTo(":heartbeat\n\n");
+    }
+
+    @Test
+    void send_WhenClientHasGone_ShouldRemoveSubscriber() {
+        // Arrange
+        feed.subscribe();
+        runPendingSends();
+        emitters.get(0).failing = true;
+
+        // Act
+        feed.sendHeartbeats();
+        runPendingSends();
+
+        // Assert
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_WhenFull_ShouldRejectUntilASlotFrees() {
+        // Arrange
+        feed.subscribe();
+        feed.subscribe();
+
+        // Act & Assert
+        assertThatThrownBy(() -> feed.subscribe()).isInstanceOf(TooManySubscribersException.class);
+        assertThat(feed.subscriberCount()).isEqualTo(2);
+
+        emitters.get(0).failing = true;
+        runPendingSends();
+        feed.subscribe();
+        assertThat(feed.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void stop_ShouldCompleteOpenStreams() {
+        // Arrange
+        feed.start();
+        feed.subscribe();
+        feed.subscribe();
+
+        // Act
+        feed.stop();
+        runPendingSends();
+
+        // Assert
+        assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.completed).isTrue());
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private void runPendingSends() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    private static TaskDTO task() {
+        return new TaskDTO(UUID.randomUUID(), "Task", null, TaskStatus.TODO, null, null, null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new ArrayList<>();
+        private volatile boolean failing;
+        private volatile boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+
+    // Holds the emitter's monitor in send, as SseEmitter does while a write to a stalled client is stuck
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
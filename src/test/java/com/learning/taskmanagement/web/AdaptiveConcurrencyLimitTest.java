@@ -0,0 +1,127 @@
+package com.learning.taskmanagement.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimit.
+ *
+ * Learning Points:
+ * 1. A hand-driven clock sets the latency of every simulated request
+ * 2. Requests are run in waves of a chosen concurrency, one window per wave
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private AtomicLong clock;
+    private AdaptiveConcurrencyLimit limit;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        limit = new AdaptiveConcurrencyLimit("read", 20, 4, 100, 1.5, WINDOW, clock::get);
+    }
+
+    @Test
+    void tryAcquire_AtLimit_ShouldRejectAndCount() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            assertThat(limit.tryAcquire()).isNotNegative();
+        }
+
+        // Act
+        long rejected = limit.tryAcquire();
+
+        // Assert
+        assertThat(rejected).isEqualTo(-1);
+        assertThat(limit.getRejected()).isEqualTo(1);
+        assertThat(limit.getInFlight()).isEqualTo(20);
+    }
+
+    @Test
+    void release_ShouldFreeTheSlot() {
+        // Arrange
+        long start = limit.tryAcquire();
+
+        // Act
+        limit.release(start);
+
+        // Assert
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void limit_WhenLatencyStaysFlatUnderLoad_ShouldGrow() {
+        // Act
+        for (int wave = 0; wave < 10; wave++) {
+            runWave(limit.getLimit(), 5);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void limit_WhenLatencyRises_ShouldShrink() {
+        // Arrange
+        for (int wave = 0; wave < 5; wave++) {
+            runWave(20, 5);
+        }
+        int before = limit.getLimit();
+
+        // Act
+        for (int wave = 0; wave < 10; wave++) {
+            runWave(limit.getLimit(), 50);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void limit_WhenMostlyIdle_ShouldNotGrow() {
+        // Act
+        for (int wave = 0; wave < 10; wave++) {
+            runWave(2, 5);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void limit_ShouldNeverDropBelowMinimum() {
+        // Arrange
+        runWave(20, 1);
+
+        // Act
+        for (int wave = 0; wave < 100; wave++) {
+            runWave(limit.getLimit(), 1000L * (wave + 2));
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    // Starts `concurrency` requests together and finishes them after `millis`, repeated to fill a window
+    private void runWave(int concurrency, long millis) {
+        long waveEnd = clock.get() + WINDOW;
+        while (clock.get() < waveEnd) {
+            long[] starts = new long[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                starts[i] = limit.tryAcquire();
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+            for (long start : starts) {
+                if (start >= 0) {
+                    limit.release(start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.learning.taskmanagement.web;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for ConcurrencyLimitInterceptor.
+ *
+ * Learning Points:
+ * 1. Mock servlet requests exercise the interceptor without starting MVC
+ * 2. Limits of one slot make "full" easy to reach
+ */
+class ConcurrencyLimitInterceptorTest {
+
+    private AdaptiveConcurrencyLimit reads;
+    private AdaptiveConcurrencyLimit writes;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        reads = new AdaptiveConcurrencyLimit("read", 1, 1, 1, 1.5, 1);
+        writes = new AdaptiveConcurrencyLimit("write", 1, 1, 1, 1.5, 1);
+        interceptor = new ConcurrencyLimitInterceptor(reads, writes, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void preHandle_WhenLimitReached_ShouldAnswer503WithRetryAfter() {
+        // Arrange
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean admitted = interceptor.preHandle(new MockHttpServletRequest("GET", "/api/tasks"), response, null);
+
+        // Assert
+        assertThat(admitted).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(reads.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void preHandle_ShouldKeepReadsAndWritesApart() {
+        // Arrange
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(), null);
+
+        // Act
+        boolean admitted = interceptor.preHandle(
+                new MockHttpServletRequest("PATCH", "/api/tasks/1"), new MockHttpServletResponse(), null);
+
+        // Assert
+        assertThat(admitted).isTrue();
+        assertThat(writes.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void afterCompletion_ShouldReleaseOnceEvenIfCalledAgain() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/tasks/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+
+        // Act
+        interceptor.afterCompletion(request, response, null, new IllegalStateException("failed"));
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertThat(writes.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,134 @@
+package com.learning.taskmanagement.web;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.jdbc.ReadRouting;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Unit tests for ReadYourWritesInterceptor.
+ *
+ * Learning Points:
+ * 1. Binding request attributes to the thread reproduces what DispatcherServlet
+ *    does, so the commit listener can find the response
+ * 2. A fixed clock makes the cookie value predictable
+ */
+class ReadYourWritesInterceptorTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private ReadYourWritesInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadYourWritesInterceptor(Duration.ofSeconds(2), () -> NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void onTaskChanged_DuringRequest_ShouldSetPinCookieOnce() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Task", null, TaskStatus.TODO, null, null, null);
+
+        // Act
+        interceptor.onTaskChanged(TaskChangedEvent.created(task));
+        interceptor.onTaskChanged(TaskChangedEvent.created(task));
+
+        // Assert
+        assertThat(response.getCookies()).singleElement().satisfies(cookie -> {
+            assertThat(cookie.getName()).isEqualTo(ReadYourWritesInterceptor.COOKIE);
+            assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW + 2_000));
+            assertThat(cookie.getMaxAge()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void onTaskChanged_WithoutRequest_ShouldDoNothing() {
+        // Act & Assert: a background flush has no response to write to
+        interceptor.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), null));
+    }
+
+    @Test
+    void preHandle_WithLiveCookie_ShouldPinUntilCompletion() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE, Long.toString(NOW + 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, null);
+        boolean pinned = ReadRouting.isPinnedToPrimary();
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertThat(pinned).isTrue();
+        assertThat(ReadRouting.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_ShouldUnpinTheRequestThread() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE, Long.toString(NOW + 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+
+        // Act: the container thread leaves without afterCompletion
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        boolean pinnedAfterHandoff = ReadRouting.isPinnedToPrimary();
+
+        // The async dispatch is a separate pass through the interceptor on another thread
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        try {
+            boolean pinnedDuringDispatch = dispatcher.submit(() -> {
+                interceptor.preHandle(request, response, null);
+                boolean pinned = ReadRouting.isPinnedToPrimary();
+                interceptor.afterCompletion(request, response, null, null);
+                return pinned && !ReadRouting.isPinnedToPrimary();
+            }).get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(pinnedAfterHandoff).isFalse();
+            assertThat(pinnedDuringDispatch).isTrue();
+        } finally {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    @Test
+    void preHandle_WithExpiredCookie_ShouldNotPin() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE, Long.toString(NOW)));
+
+        // Act
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertThat(ReadRouting.isPinnedToPrimary()).isFalse();
+    }
+}
@@ -0,0 +1,85 @@
+package com.learning.taskmanagement.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for TimedHttpMessageConverter.
+ *
+ * Learning Points:
+ * 1. A SimpleMeterRegistry holds meters in memory, so recorded timings can be asserted directly
+ * 2. Failed reads are timed as well; a slow malformed body still costs the request
+ */
+class TimedHttpMessageConverterTest {
+
+    private SimpleMeterRegistry registry;
+    private TimedHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        converter = new TimedHttpMessageConverter(new MappingJackson2HttpMessageConverter(), registry);
+    }
+
+    @Test
+    void write_ShouldDelegateAndRecordWriteTime() throws IOException {
+        // Arrange
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Timed", null, TaskStatus.TODO, null, null, null);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(task, TaskDTO.class, MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertThat(output.getBodyAsString()).contains("\"title\":\"Timed\"");
+        assertThat(timer("json", "write").count()).isEqualTo(1);
+        assertThat(timer("json", "read").count()).isZero();
+    }
+
+    @Test
+    void read_WhenBodyIsMalformed_ShouldStillRecordReadTime() {
+        // Arrange
+        MockHttpInputMessage input = new MockHttpInputMessage("{".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThatThrownBy(() -> converter.read(TaskDTO.class, TaskDTO.class, input))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+        assertThat(timer("json", "read").count()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_ShouldTagTimersWithFormat() {
+        // Act
+        TimedHttpMessageConverter cbor =
+                new TimedHttpMessageConverter(new MappingJackson2CborHttpMessageConverter(), registry);
+
+        // Assert
+        assertThat(timer("cbor", "write")).isNotNull();
+        assertThat(cbor.getSupportedMediaTypes()).containsExactly(MediaType.APPLICATION_CBOR);
+    }
+
+    private Timer timer(String format, String direction) {
+        return registry.get(TimedHttpMessageConverter.METRIC_NAME)
+                .tag("format", format)
+                .tag("direction", direction)
+                .timer();
+    }
+}
@@ -0,0 +1,140 @@
+package com.learning.taskmanagement.writebehind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+
+/**
+ * Unit tests for StatusJournal.
+ *
+ * Learning Points:
+ * 1. Closing a journal and opening a new one on the same directory stands in
+ *    for a restart
+ * 2. Bytes written straight to a segment simulate a record torn by a crash
+ */
+class StatusJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_AfterRestart_ShouldReturnRecordsInOrder() throws IOException {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            journal.sync(journal.append(first, TaskStatus.IN_PROGRESS));
+            journal.sync(journal.append(second, TaskStatus.CANCELLED));
+            journal.sync(journal.append(first, TaskStatus.COMPLETED));
+        }
+
+        // Act
+        Map<UUID, TaskStatus> replayed = replay();
+
+        // Assert
+        assertThat(replayed).containsExactly(
+                Map.entry(first, TaskStatus.COMPLETED), Map.entry(second, TaskStatus.CANCELLED));
+    }
+
+    @Test
+    void sync_ShouldCoverEveryRecordAppendedBeforeIt() throws IOException {
+        // Arrange
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            long firstTicket = journal.append(UUID.randomUUID(), TaskStatus.TODO);
+            long secondTicket = journal.append(UUID.randomUUID(), TaskStatus.TODO);
+
+            // Act
+            journal.sync(secondTicket);
+
+            // Assert: the earlier record rode along with the later fsync
+            assertThat(firstTicket).isLessThan(secondTicket);
+            journal.sync(firstTicket);
+        }
+        assertThat(replay()).hasSize(2);
+    }
+
+    @Test
+    void replay_WithTornLastRecord_ShouldKeepIntactRecords() throws IOException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            journal.sync(journal.append(id, TaskStatus.IN_PROGRESS));
+        }
+        Path segment = onlySegment();
+        Files.write(segment, new byte[] {1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        // Act
+        Map<UUID, TaskStatus> replayed = replay();
+
+        // Assert
+        assertThat(replayed).containsExactly(Map.entry(id, TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void replay_WithCorruptRecord_ShouldStopAtIt() throws IOException {
+        // Arrange
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            journal.sync(journal.append(UUID.randomUUID(), TaskStatus.IN_PROGRESS));
+        }
+        Path segment = onlySegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x20;
+        Files.write(segment, bytes);
+
+        // Act & Assert
+        assertThat(replay()).isEmpty();
+    }
+
+    @Test
+    void rotate_ShouldSealSegmentsForDeletionAndKeepNewRecords() throws IOException {
+        // Arrange
+        UUID flushed = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            journal.sync(journal.append(flushed, TaskStatus.COMPLETED));
+
+            // Act
+            List<Path> sealed = journal.rotate();
+            journal.sync(journal.append(later, TaskStatus.CANCELLED));
+            journal.delete(sealed);
+
+            // Assert
+            assertThat(sealed).hasSize(1);
+        }
+        assertThat(replay()).containsOnlyKeys(later);
+    }
+
+    private Map<UUID, TaskStatus> replay() throws IOException {
+        Map<UUID, TaskStatus> replayed = new LinkedHashMap<>();
+        try (StatusJournal journal = new StatusJournal(directory)) {
+            journal.replay(replayed::put);
+        }
+        return replayed;
+    }
+
+    private Path onlySegment() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> Files.isRegularFile(path))
+                    .filter(path -> {
+                        try {
+                            return Files.size(path) > 0;
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+}
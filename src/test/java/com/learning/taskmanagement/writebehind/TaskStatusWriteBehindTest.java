@@ -0,0 +1,197 @@
+package com.learning.taskmanagement.writebehind;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.taskmanagement.domain.TaskStatus;
+import com.learning.taskmanagement.dto.TaskDTO;
+import com.learning.taskmanagement.event.TaskChangedEvent;
+import com.learning.taskmanagement.repository.TaskRepository;
+import com.learning.taskmanagement.repository.TaskRowChange;
+
+/**
+ * Unit tests for TaskStatusWriteBehind.
+ *
+ * Learning Points:
+ * 1. A real journal in a temporary directory checks what survives a restart
+ * 2. The mocked transaction template runs its callback inline, so a flush is
+ *    synchronous and its repository calls can be verified
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStatusWriteBehindTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskStatusWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writeBehind = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind.isRunning()) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void put_ShouldCoalesceRepeatedChangesToTheLastStatus() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        inlineTransactions();
+
+        // Act
+        writeBehind.put(id, TaskStatus.IN_PROGRESS);
+        writeBehind.put(id, TaskStatus.TODO);
+        writeBehind.put(id, TaskStatus.COMPLETED);
+        writeBehind.flush();
+
+        // Assert
+        verify(taskRepository).updateStatuses(Map.of(id, TaskStatus.COMPLETED));
+        assertThat(writeBehind.pendingStatus(id)).isNull();
+        assertThat(writeBehind.generation()).isEqualTo(3);
+    }
+
+    @Test
+    void flush_ShouldPublishAnEventForEveryUpdatedRow() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TaskDTO before = new TaskDTO(id, "Task", null, TaskStatus.TODO, null, null, null, 0L);
+        TaskDTO after = before.withStatus(TaskStatus.COMPLETED).withVersion(1L);
+        inlineTransactions();
+        when(taskRepository.updateStatuses(anyMap())).thenReturn(List.of(new TaskRowChange(before, after)));
+        writeBehind.put(id, TaskStatus.COMPLETED);
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void flush_ShouldSplitLargeFlushesIntoBatches() {
+        // Arrange
+        inlineTransactions();
+        writeBehind.put(UUID.randomUUID(), TaskStatus.COMPLETED);
+        writeBehind.put(UUID.randomUUID(), TaskStatus.COMPLETED);
+        writeBehind.put(UUID.randomUUID(), TaskStatus.COMPLETED);
+
+        // Act
+        writeBehind.flush();
+
+        // Assert: batch size is 2
+        verify(taskRepository, times(2)).updateStatuses(anyMap());
+        assertThat(writeBehind.hasPending()).isFalse();
+    }
+
+    @Test
+    void flush_WhenDatabaseFails_ShouldKeepStatusPending() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        inlineTransactions();
+        when(taskRepository.updateStatuses(anyMap())).thenThrow(new IllegalStateException("down"));
+        writeBehind.put(id, TaskStatus.CANCELLED);
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        assertThat(writeBehind.pendingStatus(id)).isEqualTo(TaskStatus.CANCELLED);
+    }
+
+    @Test
+    void start_ShouldReplayStatusesThatWereNeverFlushed() throws IOException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        doAnswer(invocation -> {
+            throw new IllegalStateException("down");
+        }).when(transactionTemplate).executeWithoutResult(any());
+        writeBehind.put(id, TaskStatus.IN_PROGRESS);
+        writeBehind.stop();
+
+        // Act
+        writeBehind = start();
+
+        // Assert
+        assertThat(writeBehind.pendingStatus(id)).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void flushIfPending_ShouldFlushOnlyWhenOneOfTheTasksIsPending() {
+        // Arrange
+        UUID pending = UUID.randomUUID();
+        inlineTransactions();
+        writeBehind.put(pending, TaskStatus.COMPLETED);
+
+        // Act
+        writeBehind.flushIfPending(List.of(UUID.randomUUID()));
+
+        // Assert
+        verify(taskRepository, never()).updateStatuses(anyMap());
+        writeBehind.flushIfPending(List.of(pending));
+        verify(taskRepository).updateStatuses(Map.of(pending, TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void flushIfPending_WhenDatabaseFails_ShouldThrow() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        inlineTransactions();
+        when(taskRepository.updateStatuses(anyMap())).thenThrow(new IllegalStateException("down"));
+        writeBehind.put(id, TaskStatus.COMPLETED);
+
+        // Act & Assert
+        assertThatThrownBy(() -> writeBehind.flushIfPending(List.of(id))).hasMessage("down");
+    }
+
+    private TaskStatusWriteBehind start() throws IOException {
+        TaskStatusWriteBehind started = new TaskStatusWriteBehind(
+                taskRepository, transactionTemplate, eventPublisher, new StatusJournal(directory), 2);
+        started.start();
+        return started;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void inlineTransactions() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}